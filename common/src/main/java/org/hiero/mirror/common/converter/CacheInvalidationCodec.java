@@ -0,0 +1,130 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.Slot;
+import org.hiero.mirror.common.domain.CacheInvalidation.TokenAccount;
+
+/**
+ * Encodes a cache invalidation as compact, base64 encoded binary payloads that are small enough for PostgreSQL
+ * notifications. Each payload is a version byte and the consensus end followed by type prefixed keys, so a large
+ * invalidation is split across as many payloads as needed and each can be decoded on its own.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CacheInvalidationCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte ENTITY = 1;
+    private static final byte ALIAS = 2;
+    private static final byte SLOT = 3;
+    private static final byte TOKEN_ACCOUNT = 4;
+
+    // Version and consensus end
+    private static final int HEADER_SIZE = 1 + Long.BYTES;
+    private static final int MAX_BYTES_LENGTH = 0xFF;
+    // The largest key is a slot with a type, a contract ID and length prefixed bytes
+    private static final int MAX_KEY_SIZE = 2 + Long.BYTES + MAX_BYTES_LENGTH;
+
+    /**
+     * @param cacheInvalidation the cache invalidation to encode
+     * @param maxPayloadSize    the max size of each base64 encoded payload, exclusive
+     * @return the payloads, skipping any aliases or slots too long to encode
+     */
+    public static List<String> encode(CacheInvalidation cacheInvalidation, int maxPayloadSize) {
+        var payloads = new ArrayList<String>();
+        var buffer = ByteBuffer.allocate(Math.max((maxPayloadSize - 1) / 4 * 3, HEADER_SIZE + MAX_KEY_SIZE));
+        long consensusEnd = cacheInvalidation.consensusEnd();
+        buffer.put(VERSION).putLong(consensusEnd);
+
+        for (long entityId : cacheInvalidation.entityIds()) {
+            ensureRemaining(buffer, 1 + Long.BYTES, payloads, consensusEnd);
+            buffer.put(ENTITY).putLong(entityId);
+        }
+
+        for (byte[] alias : cacheInvalidation.aliases()) {
+            if (alias.length <= MAX_BYTES_LENGTH) {
+                ensureRemaining(buffer, 2 + alias.length, payloads, consensusEnd);
+                buffer.put(ALIAS).put((byte) alias.length).put(alias);
+            }
+        }
+
+        for (var slot : cacheInvalidation.slots()) {
+            var bytes = slot.slot();
+            if (bytes.length <= MAX_BYTES_LENGTH) {
+                ensureRemaining(buffer, 2 + Long.BYTES + bytes.length, payloads, consensusEnd);
+                buffer.put(SLOT).putLong(slot.contractId()).put((byte) bytes.length).put(bytes);
+            }
+        }
+
+        for (var tokenAccount : cacheInvalidation.tokenAccounts()) {
+            ensureRemaining(buffer, 1 + 2 * Long.BYTES, payloads, consensusEnd);
+            buffer.put(TOKEN_ACCOUNT).putLong(tokenAccount.accountId()).putLong(tokenAccount.tokenId());
+        }
+
+        if (buffer.position() > HEADER_SIZE) {
+            payloads.add(toPayload(buffer));
+        }
+
+        return payloads;
+    }
+
+    public static CacheInvalidation decode(String payload) {
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getDecoder().decode(payload));
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported cache invalidation payload version " + version);
+            }
+
+            var cacheInvalidation = new CacheInvalidation(buffer.getLong());
+
+            while (buffer.hasRemaining()) {
+                byte type = buffer.get();
+                switch (type) {
+                    case ENTITY -> cacheInvalidation.entityIds().add(buffer.getLong());
+                    case ALIAS -> cacheInvalidation.aliases().add(getBytes(buffer));
+                    case SLOT -> {
+                        long contractId = buffer.getLong();
+                        cacheInvalidation.slots().add(new Slot(contractId, getBytes(buffer)));
+                    }
+                    case TOKEN_ACCOUNT ->
+                        cacheInvalidation.tokenAccounts().add(new TokenAccount(buffer.getLong(), buffer.getLong()));
+                    default -> throw new IllegalArgumentException("Unsupported cache invalidation key type " + type);
+                }
+            }
+
+            return cacheInvalidation;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated cache invalidation payload", e);
+        }
+    }
+
+    // Starts a new payload if the key doesn't fit in the current one
+    private static void ensureRemaining(ByteBuffer buffer, int size, List<String> payloads, long consensusEnd) {
+        if (buffer.remaining() < size) {
+            payloads.add(toPayload(buffer));
+            buffer.clear().put(VERSION).putLong(consensusEnd);
+        }
+    }
+
+    private static String toPayload(ByteBuffer buffer) {
+        return Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), buffer.position()));
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer) {
+        var bytes = new byte[Byte.toUnsignedInt(buffer.get())];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,167 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+
+/**
+ * Encodes a topic message as a compact, base64 encoded binary payload that's small enough for PostgreSQL notifications
+ * and can be decoded without reflection. The payload is a version byte, a byte of flags for the optional fields, the
+ * fixed size fields and then the length prefixed byte arrays. Base64 never starts with a brace, so a payload can be
+ * told apart from the JSON format.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TopicMessageCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final int CHUNK = 1;
+    private static final int INITIAL_TRANSACTION_ID = 1 << 1;
+    private static final int MESSAGE = 1 << 2;
+    private static final int PAYER_ACCOUNT_ID = 1 << 3;
+    private static final int RUNNING_HASH = 1 << 4;
+    private static final int RUNNING_HASH_VERSION = 1 << 5;
+    private static final int VALID_START_TIMESTAMP = 1 << 6;
+
+    // Version, flags, consensus timestamp, sequence number and topic ID
+    private static final int FIXED_SIZE = 2 + 3 * Long.BYTES;
+
+    public static String encode(TopicMessage topicMessage) {
+        int flags = 0;
+        int size = FIXED_SIZE;
+        var payerAccountId = topicMessage.getPayerAccountId();
+
+        if (topicMessage.getChunkNum() != null && topicMessage.getChunkTotal() != null) {
+            flags |= CHUNK;
+            size += 2 * Integer.BYTES;
+        }
+
+        if (topicMessage.getInitialTransactionId() != null) {
+            flags |= INITIAL_TRANSACTION_ID;
+            size += Integer.BYTES + topicMessage.getInitialTransactionId().length;
+        }
+
+        if (topicMessage.getMessage() != null) {
+            flags |= MESSAGE;
+            size += Integer.BYTES + topicMessage.getMessage().length;
+        }
+
+        if (!EntityId.isEmpty(payerAccountId)) {
+            flags |= PAYER_ACCOUNT_ID;
+            size += Long.BYTES;
+        }
+
+        if (topicMessage.getRunningHash() != null) {
+            flags |= RUNNING_HASH;
+            size += Integer.BYTES + topicMessage.getRunningHash().length;
+        }
+
+        if (topicMessage.getRunningHashVersion() != null) {
+            flags |= RUNNING_HASH_VERSION;
+            size += Integer.BYTES;
+        }
+
+        if (topicMessage.getValidStartTimestamp() != null) {
+            flags |= VALID_START_TIMESTAMP;
+            size += Long.BYTES;
+        }
+
+        var buffer = ByteBuffer.allocate(size)
+                .put(VERSION)
+                .put((byte) flags)
+                .putLong(topicMessage.getConsensusTimestamp())
+                .putLong(topicMessage.getSequenceNumber())
+                .putLong(topicMessage.getTopicId().getId());
+
+        if ((flags & CHUNK) != 0) {
+            buffer.putInt(topicMessage.getChunkNum()).putInt(topicMessage.getChunkTotal());
+        }
+
+        if ((flags & PAYER_ACCOUNT_ID) != 0) {
+            buffer.putLong(payerAccountId.getId());
+        }
+
+        if ((flags & RUNNING_HASH_VERSION) != 0) {
+            buffer.putInt(topicMessage.getRunningHashVersion());
+        }
+
+        if ((flags & VALID_START_TIMESTAMP) != 0) {
+            buffer.putLong(topicMessage.getValidStartTimestamp());
+        }
+
+        putBytes(buffer, topicMessage.getInitialTransactionId());
+        putBytes(buffer, topicMessage.getMessage());
+        putBytes(buffer, topicMessage.getRunningHash());
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    public static TopicMessage decode(String payload) {
+        try {
+            var buffer = ByteBuffer.wrap(Base64.getDecoder().decode(payload));
+            byte version = buffer.get();
+
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported topic message payload version " + version);
+            }
+
+            int flags = buffer.get();
+            var builder = TopicMessage.builder()
+                    .consensusTimestamp(buffer.getLong())
+                    .sequenceNumber(buffer.getLong())
+                    .topicId(EntityId.of(buffer.getLong()));
+
+            if ((flags & CHUNK) != 0) {
+                builder.chunkNum(buffer.getInt()).chunkTotal(buffer.getInt());
+            }
+
+            if ((flags & PAYER_ACCOUNT_ID) != 0) {
+                builder.payerAccountId(EntityId.of(buffer.getLong()));
+            }
+
+            if ((flags & RUNNING_HASH_VERSION) != 0) {
+                builder.runningHashVersion(buffer.getInt());
+            }
+
+            if ((flags & VALID_START_TIMESTAMP) != 0) {
+                builder.validStartTimestamp(buffer.getLong());
+            }
+
+            return builder.initialTransactionId(getBytes(buffer, flags, INITIAL_TRANSACTION_ID))
+                    .message(getBytes(buffer, flags, MESSAGE))
+                    .runningHash(getBytes(buffer, flags, RUNNING_HASH))
+                    .build();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Truncated topic message payload", e);
+        }
+    }
+
+    /**
+     * @param payload the notification payload
+     * @return whether the payload is in this binary format instead of JSON
+     */
+    public static boolean isEncoded(String payload) {
+        return !payload.isEmpty() && payload.charAt(0) != '{';
+    }
+
+    private static void putBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes != null) {
+            buffer.putInt(bytes.length).put(bytes);
+        }
+    }
+
+    private static byte[] getBytes(ByteBuffer buffer, int flags, int flag) {
+        if ((flags & flag) == 0) {
+            return null;
+        }
+
+        var bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,35 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The keys of the state modified by a record file that caches of the latest state need to evict.
+ *
+ * @param consensusEnd   the consensus end of the record file that modified the state
+ * @param entityIds      the IDs of the modified entities and tokens
+ * @param aliases        the aliases and EVM addresses of the modified entities
+ * @param slots          the modified contract storage slots
+ * @param tokenAccounts  the modified token relationships
+ */
+public record CacheInvalidation(
+        long consensusEnd,
+        List<Long> entityIds,
+        List<byte[]> aliases,
+        List<Slot> slots,
+        List<TokenAccount> tokenAccounts) {
+
+    public CacheInvalidation(long consensusEnd) {
+        this(consensusEnd, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    public boolean isEmpty() {
+        return entityIds.isEmpty() && aliases.isEmpty() && slots.isEmpty() && tokenAccounts.isEmpty();
+    }
+
+    public record Slot(long contractId, byte[] slot) {}
+
+    public record TokenAccount(long accountId, long tokenId) {}
+}
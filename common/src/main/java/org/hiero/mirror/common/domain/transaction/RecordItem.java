@@ -63,7 +63,6 @@ public class RecordItem implements StreamItem {
 
     private final RecordItem parent;
     private final EntityId payerAccountId;
-    private final RecordItem previous;
     private final SignatureMap signatureMap;
     private final boolean successful;
     private final Transaction transaction;
@@ -202,6 +201,8 @@ public class RecordItem implements StreamItem {
 
     public static class RecordItemBuilder {
 
+        // Only used to find the parent and not retained so record items don't reference every item before them
+        private RecordItem previous;
         private TransactionRecord.Builder transactionRecordBuilder;
 
         public RecordItem build() {
@@ -218,6 +219,11 @@ public class RecordItem implements StreamItem {
             return buildInternal();
         }
 
+        public RecordItemBuilder previous(RecordItem previous) {
+            this.previous = previous;
+            return this;
+        }
+
         public RecordItemBuilder transactionRecord(TransactionRecord transactionRecord) {
             this.transactionRecord = transactionRecord;
             transactionRecordBuilder = null;
@@ -99,6 +99,7 @@ public class CommonTestConfiguration {
                 o -> !StringUtils.contains(o.getUtf8StringWithoutLineEnding(), excluded));
         return new PostgreSQLContainer<>(dockerImageName)
                 .withClasspathResourceMapping("init.sql", "/docker-entrypoint-initdb.d/init.sql", BindMode.READ_ONLY)
+                .withCommand("postgres", "-c", "fsync=off", "-c", "max_prepared_transactions=10")
                 .withDatabaseName("mirror_node")
                 .withLogConsumer(logConsumer)
                 .withPassword("mirror_node_pass")
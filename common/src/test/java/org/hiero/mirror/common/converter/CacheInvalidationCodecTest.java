@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.Slot;
+import org.hiero.mirror.common.domain.CacheInvalidation.TokenAccount;
+import org.junit.jupiter.api.Test;
+
+class CacheInvalidationCodecTest {
+
+    private static final int MAX_PAYLOAD_SIZE = 8000;
+
+    @Test
+    void roundTrip() {
+        var cacheInvalidation = new CacheInvalidation(100L);
+        cacheInvalidation.entityIds().add(1001L);
+        cacheInvalidation.aliases().add(new byte[] {1, 2, 3});
+        cacheInvalidation.slots().add(new Slot(1002L, new byte[32]));
+        cacheInvalidation.tokenAccounts().add(new TokenAccount(1003L, 1004L));
+
+        var payloads = CacheInvalidationCodec.encode(cacheInvalidation, MAX_PAYLOAD_SIZE);
+
+        assertThat(payloads).hasSize(1);
+        var decoded = CacheInvalidationCodec.decode(payloads.getFirst());
+        assertThat(decoded.consensusEnd()).isEqualTo(100L);
+        assertThat(decoded.entityIds()).containsExactly(1001L);
+        assertThat(decoded.aliases()).containsExactly(new byte[] {1, 2, 3});
+        assertThat(decoded.slots())
+                .singleElement()
+                .satisfies(s -> assertThat(s.contractId()).isEqualTo(1002L))
+                .satisfies(s -> assertThat(s.slot()).isEqualTo(new byte[32]));
+        assertThat(decoded.tokenAccounts()).containsExactly(new TokenAccount(1003L, 1004L));
+    }
+
+    @Test
+    void empty() {
+        assertThat(CacheInvalidationCodec.encode(new CacheInvalidation(1L), MAX_PAYLOAD_SIZE))
+                .isEmpty();
+    }
+
+    @Test
+    void split() {
+        var cacheInvalidation = new CacheInvalidation(100L);
+        for (long i = 0; i < 2000; i++) {
+            cacheInvalidation.entityIds().add(i);
+        }
+
+        var payloads = CacheInvalidationCodec.encode(cacheInvalidation, MAX_PAYLOAD_SIZE);
+
+        var decoded = payloads.stream().map(CacheInvalidationCodec::decode).toList();
+
+        assertThat(payloads).hasSizeGreaterThan(1).allSatisfy(p -> assertThat(p).hasSizeLessThan(MAX_PAYLOAD_SIZE));
+        assertThat(decoded).extracting(CacheInvalidation::consensusEnd).containsOnly(100L);
+        assertThat(decoded.stream().flatMap(d -> d.entityIds().stream()))
+                .containsExactlyElementsOf(cacheInvalidation.entityIds());
+    }
+
+    @Test
+    void skipsLongKeys() {
+        var cacheInvalidation = new CacheInvalidation(100L);
+        cacheInvalidation.aliases().add(new byte[256]);
+        cacheInvalidation.slots().add(new Slot(1L, new byte[256]));
+
+        assertThat(CacheInvalidationCodec.encode(cacheInvalidation, MAX_PAYLOAD_SIZE))
+                .isEmpty();
+    }
+
+    @Test
+    void invalid() {
+        var unsupportedVersion = Base64.getEncoder().encodeToString(new byte[] {2, 0, 0, 0, 0, 0, 0, 0, 1});
+        var unsupportedType = Base64.getEncoder().encodeToString(new byte[] {1, 0, 0, 0, 0, 0, 0, 0, 1, 9});
+        var truncated = Base64.getEncoder().encodeToString(new byte[] {1, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0});
+
+        assertThatThrownBy(() -> CacheInvalidationCodec.decode(unsupportedVersion))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationCodec.decode(unsupportedType))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CacheInvalidationCodec.decode(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,93 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.common.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hiero.mirror.common.converter.ObjectToStringSerializer.OBJECT_MAPPER;
+
+import java.util.Arrays;
+import java.util.Base64;
+import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.junit.jupiter.api.Test;
+
+class TopicMessageCodecTest {
+
+    private final DomainBuilder domainBuilder = new DomainBuilder();
+
+    @Test
+    void roundTrip() {
+        var topicMessage = domainBuilder
+                .topicMessage()
+                .customize(t -> t.chunkNum(1).chunkTotal(2).initialTransactionId(new byte[] {7, 8}))
+                .get();
+
+        var payload = TopicMessageCodec.encode(topicMessage);
+
+        assertThat(TopicMessageCodec.isEncoded(payload)).isTrue();
+        assertThat(TopicMessageCodec.decode(payload)).isEqualTo(topicMessage);
+    }
+
+    @Test
+    void roundTripRequiredOnly() {
+        var topicMessage = TopicMessage.builder()
+                .consensusTimestamp(1L)
+                .sequenceNumber(2L)
+                .topicId(EntityId.of(1001L))
+                .build();
+
+        assertThat(TopicMessageCodec.decode(TopicMessageCodec.encode(topicMessage)))
+                .isEqualTo(topicMessage);
+    }
+
+    @Test
+    void emptyPayer() {
+        var topicMessage = domainBuilder
+                .topicMessage()
+                .customize(t -> t.payerAccountId(EntityId.EMPTY))
+                .get();
+
+        var decoded = TopicMessageCodec.decode(TopicMessageCodec.encode(topicMessage));
+
+        assertThat(decoded.getPayerAccountId()).isNull();
+    }
+
+    @Test
+    void smallerThanJson() throws Exception {
+        var topicMessage = domainBuilder.topicMessage().get();
+
+        assertThat(TopicMessageCodec.encode(topicMessage).length())
+                .isLessThan(OBJECT_MAPPER.writeValueAsString(topicMessage).length());
+    }
+
+    @Test
+    void isEncoded() throws Exception {
+        var json = OBJECT_MAPPER.writeValueAsString(domainBuilder.topicMessage().get());
+
+        assertThat(TopicMessageCodec.isEncoded(json)).isFalse();
+        assertThat(TopicMessageCodec.isEncoded("")).isFalse();
+    }
+
+    @Test
+    void unsupportedVersion() {
+        var bytes = Base64.getDecoder().decode(TopicMessageCodec.encode(domainBuilder.topicMessage().get()));
+        bytes[0] = 2;
+        var payload = Base64.getEncoder().encodeToString(bytes);
+
+        assertThatThrownBy(() -> TopicMessageCodec.decode(payload))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("version");
+    }
+
+    @Test
+    void truncated() {
+        var bytes = Base64.getDecoder().decode(TopicMessageCodec.encode(domainBuilder.topicMessage().get()));
+        var payload = Base64.getEncoder().encodeToString(Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThatThrownBy(() -> TopicMessageCodec.decode(payload))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Truncated");
+    }
+}
@@ -27,4 +27,7 @@ public class GrpcProperties {
     @NotNull
     @Valid
     private NettyProperties netty = new NettyProperties();
+
+    @Min(1)
+    private int responseCacheSize = 10_000;
 }
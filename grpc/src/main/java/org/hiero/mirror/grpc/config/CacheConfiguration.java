@@ -20,8 +20,11 @@ import org.springframework.context.annotation.Primary;
 public class CacheConfiguration {
 
     public static final String ADDRESS_BOOK_ENTRY_CACHE = "addressBookEntryCache";
+    public static final String ADDRESS_BOOK_SNAPSHOT_CACHE = "addressBookSnapshotCache";
+    public static final String NODE_ADDRESS_CACHE = "nodeAddressCache";
     public static final String NODE_STAKE_CACHE = "nodeStakeCache";
     public static final String ENTITY_CACHE = "entityCache";
+    public static final String RESPONSE_CACHE = "responseCache";
     public static final String CACHE_NAME = "default";
 
     @Bean(ADDRESS_BOOK_ENTRY_CACHE)
@@ -35,6 +38,24 @@ public class CacheConfiguration {
         return caffeineCacheManager;
     }
 
+    // One snapshot for each of the address book files
+    @Bean(ADDRESS_BOOK_SNAPSHOT_CACHE)
+    CacheManager addressBookSnapshotCache() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification("recordStats,maximumSize=2");
+        return caffeineCacheManager;
+    }
+
+    // The node addresses built from the entries of the address book snapshots
+    @Bean(NODE_ADDRESS_CACHE)
+    CacheManager nodeAddressCache() {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification("recordStats,expireAfterAccess=1h,maximumSize=1000");
+        return caffeineCacheManager;
+    }
+
     @Bean(NODE_STAKE_CACHE)
     CacheManager nodeStakeCache(AddressBookProperties addressBookProperties) {
         CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -55,4 +76,13 @@ public class CacheConfiguration {
         caffeineCacheManager.setCacheSpecification("recordStats,expireAfterWrite=24h,maximumSize=" + cacheSize);
         return caffeineCacheManager;
     }
+
+    @Bean(RESPONSE_CACHE)
+    CacheManager responseCache(GrpcProperties grpcProperties) {
+        int cacheSize = grpcProperties.getResponseCacheSize();
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCacheSpecification("recordStats,expireAfterAccess=1m,maximumSize=" + cacheSize);
+        return caffeineCacheManager;
+    }
 }
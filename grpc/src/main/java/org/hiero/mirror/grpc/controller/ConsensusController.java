@@ -11,14 +11,17 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import java.util.Objects;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.grpc.config.CacheConfiguration;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.service.TopicMessageService;
 import org.hiero.mirror.grpc.util.ProtoUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -30,19 +33,26 @@ import reactor.core.publisher.Mono;
  */
 @GrpcService
 @CustomLog
-@RequiredArgsConstructor
 public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusServiceImplBase {
 
     // Blockstreams no longer contain runningHashVersion, default to the latest version
     static final int DEFAULT_RUNNING_HASH_VERSION = 3;
 
+    private final Cache responseCache;
     private final TopicMessageService topicMessageService;
 
+    public ConsensusController(
+            @Qualifier(CacheConfiguration.RESPONSE_CACHE) CacheManager responseCacheManager,
+            TopicMessageService topicMessageService) {
+        this.responseCache = responseCacheManager.getCache(CacheConfiguration.CACHE_NAME);
+        this.topicMessageService = topicMessageService;
+    }
+
     @Override
     public Flux<ConsensusTopicResponse> subscribeTopic(Mono<ConsensusTopicQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(topicMessageService::subscribeTopic)
-                .map(this::toResponse)
+                .map(this::getResponse)
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -74,7 +84,13 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
         return DomainUtils.timestampInNanosMax(timestamp);
     }
 
-    // Consider caching this conversion for multiple subscribers to the same topic if the need arises.
+    // Responses are immutable so subscribers to the same topic share the response converted by the first subscriber.
+    // The consensus timestamp is part of the key so a message is never confused with another after a database reset.
+    private ConsensusTopicResponse getResponse(TopicMessage t) {
+        var key = new ResponseKey(t.getTopicId(), t.getSequenceNumber(), t.getConsensusTimestamp());
+        return responseCache.get(key, () -> toResponse(t));
+    }
+
     private ConsensusTopicResponse toResponse(TopicMessage t) {
         var consensusTopicResponseBuilder = ConsensusTopicResponse.newBuilder()
                 .setConsensusTimestamp(ProtoUtil.toTimestamp(t.getConsensusTimestamp()))
@@ -120,4 +136,6 @@ public class ConsensusController extends ReactorConsensusServiceGrpc.ConsensusSe
             return null;
         }
     }
+
+    private record ResponseKey(EntityId topicId, long sequenceNumber, long consensusTimestamp) {}
 }
@@ -10,29 +10,39 @@ import com.hederahashgraph.api.proto.java.ServiceEndpoint;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import net.devh.boot.grpc.server.service.GrpcService;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.addressbook.AddressBookEntry;
 import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.grpc.config.CacheConfiguration;
 import org.hiero.mirror.grpc.domain.AddressBookFilter;
 import org.hiero.mirror.grpc.service.NetworkService;
 import org.hiero.mirror.grpc.util.ProtoUtil;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @GrpcService
 @CustomLog
-@RequiredArgsConstructor
 public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceImplBase {
 
     private final NetworkService networkService;
+    private final Cache nodeAddressCache;
+
+    public NetworkController(
+            NetworkService networkService,
+            @Qualifier(CacheConfiguration.NODE_ADDRESS_CACHE) CacheManager nodeAddressCacheManager) {
+        this.networkService = networkService;
+        this.nodeAddressCache = nodeAddressCacheManager.getCache(CacheConfiguration.CACHE_NAME);
+    }
 
     @Override
     public Flux<NodeAddress> getNodes(Mono<AddressBookQuery> request) {
         return request.map(this::toFilter)
                 .flatMapMany(networkService::getNodes)
-                .map(this::toNodeAddress)
+                .map(this::getNodeAddress)
                 .onErrorMap(ProtoUtil::toStatusRuntimeException);
     }
 
@@ -46,6 +56,12 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
         return filter.build();
     }
 
+    // An address book's entries never change, so the node address is built once per address book and node stake
+    private NodeAddress getNodeAddress(AddressBookEntry entry) {
+        var key = new NodeAddressKey(entry.getConsensusTimestamp(), entry.getNodeId(), entry.getStake());
+        return nodeAddressCache.get(key, () -> toNodeAddress(entry));
+    }
+
     @SuppressWarnings("deprecation")
     private NodeAddress toNodeAddress(AddressBookEntry addressBookEntry) {
         var nodeAddress = NodeAddress.newBuilder()
@@ -98,4 +114,6 @@ public class NetworkController extends ReactorNetworkServiceGrpc.NetworkServiceI
 
         return ByteString.EMPTY;
     }
+
+    private record NodeAddressKey(long consensusTimestamp, long nodeId, Long stake) {}
 }
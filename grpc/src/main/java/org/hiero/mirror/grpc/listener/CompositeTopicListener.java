@@ -26,6 +26,7 @@ public class CompositeTopicListener implements TopicListener {
     private final PollingTopicListener pollingTopicListener;
     private final RedisTopicListener redisTopicListener;
     private final SharedPollingTopicListener sharedPollingTopicListener;
+    private final TopicMessageCache topicMessageCache;
     private final MeterRegistry meterRegistry;
     private Timer consensusLatencyTimer;
 
@@ -43,10 +44,11 @@ public class CompositeTopicListener implements TopicListener {
             return Flux.empty();
         }
 
-        return getTopicListener()
+        var topicMessages = getTopicListener()
                 .listen(filter)
                 .filter(t -> filterMessage(t, filter))
                 .doOnNext(this::recordMetric);
+        return topicMessageCache.feed(filter, topicMessages);
     }
 
     private TopicListener getTopicListener() {
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.grpc.listener;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -9,6 +10,7 @@ import java.time.Duration;
 import lombok.Data;
 import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Data
@@ -16,6 +18,10 @@ import org.springframework.validation.annotation.Validated;
 @ConfigurationProperties("hiero.mirror.grpc.listener")
 public class ListenerProperties {
 
+    @NotNull
+    @Valid
+    private CacheProperties cache = new CacheProperties();
+
     private boolean enabled = true;
 
     @Min(8192)
@@ -36,6 +42,23 @@ public class ListenerProperties {
     @NotNull
     private ListenerType type = ListenerType.REDIS;
 
+    @Data
+    @Validated
+    public static class CacheProperties {
+
+        private boolean enabled = true;
+
+        @DurationMin(seconds = 1)
+        @NotNull
+        private Duration maxAge = Duration.ofMinutes(5L);
+
+        @Min(1)
+        private int maxMessages = 1000;
+
+        @NotNull
+        private DataSize maxSize = DataSize.ofMegabytes(64L);
+    }
+
     public enum ListenerType {
         NOTIFY,
         POLL,
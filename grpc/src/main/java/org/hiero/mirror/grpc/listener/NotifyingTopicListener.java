@@ -5,6 +5,7 @@ package org.hiero.mirror.grpc.listener;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
@@ -16,6 +17,7 @@ import java.time.Duration;
 import java.util.Objects;
 import org.hiero.mirror.common.converter.EntityIdDeserializer;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.DbProperties;
@@ -34,12 +36,13 @@ public class NotifyingTopicListener extends SharedTopicListener {
     private final Mono<PgChannel> channel;
     private final JdbcConnectionDetails connectionDetails;
     private final DbProperties dbProperties;
-    private final Flux<TopicMessage> topicMessages;
+    private final TopicDispatcher dispatcher;
 
     public NotifyingTopicListener(
             JdbcConnectionDetails connectionDetails,
             DbProperties dbProperties,
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry) {
         super(listenerProperties);
         this.connectionDetails = connectionDetails;
@@ -55,20 +58,20 @@ public class NotifyingTopicListener extends SharedTopicListener {
 
         channel = Mono.defer(this::createChannel).cache();
         Duration interval = listenerProperties.getInterval();
-        topicMessages = Flux.defer(this::listen)
+        var topicMessages = Flux.defer(this::listen)
                 .map(this::toTopicMessage)
                 .filter(Objects::nonNull)
                 .name(METRIC)
                 .tag(METRIC_TAG, "notify")
                 .tap(Micrometer.observation(observationRegistry))
                 .doOnError(t -> log.error("Error listening for messages", t))
-                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
-                .share();
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)));
+        dispatcher = new TopicDispatcher(topicMessages, meterRegistry, "notify");
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return dispatcher.listen(filter.getTopicId());
     }
 
     private Flux<String> listen() {
@@ -108,6 +111,11 @@ public class NotifyingTopicListener extends SharedTopicListener {
 
     private TopicMessage toTopicMessage(String payload) {
         try {
+            // Either format is accepted so the importer's payload format can be changed independently
+            if (TopicMessageCodec.isEncoded(payload)) {
+                return TopicMessageCodec.decode(payload);
+            }
+
             return objectMapper.readValue(payload, TopicMessage.class);
         } catch (Exception ex) {
             // Discard invalid messages. No need to propagate error and cause a reconnect.
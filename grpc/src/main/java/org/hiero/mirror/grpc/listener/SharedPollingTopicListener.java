@@ -3,6 +3,7 @@
 package org.hiero.mirror.grpc.listener;
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import jakarta.inject.Named;
 import java.time.Duration;
@@ -24,11 +25,12 @@ import reactor.util.retry.Retry;
 @Named
 public class SharedPollingTopicListener extends SharedTopicListener {
 
+    private final TopicDispatcher dispatcher;
     private final TopicMessageRepository topicMessageRepository;
-    private final Flux<TopicMessage> topicMessages;
 
     public SharedPollingTopicListener(
             ListenerProperties listenerProperties,
+            MeterRegistry meterRegistry,
             ObservationRegistry observationRegistry,
             TopicMessageRepository topicMessageRepository) {
         super(listenerProperties);
@@ -38,7 +40,7 @@ public class SharedPollingTopicListener extends SharedTopicListener {
         Duration interval = listenerProperties.getInterval();
         PollingContext context = new PollingContext();
 
-        topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
+        var topicMessages = Flux.defer(() -> poll(context).subscribeOn(scheduler))
                 .repeatWhen(Repeat.times(Long.MAX_VALUE).fixedBackoff(interval).withBackoffScheduler(scheduler))
                 .name(METRIC)
                 .tag(METRIC_TAG, "shared poll")
@@ -46,13 +48,13 @@ public class SharedPollingTopicListener extends SharedTopicListener {
                 .doOnCancel(() -> log.info("Cancelled polling"))
                 .doOnError(t -> log.error("Error polling the database", t))
                 .doOnSubscribe(context::onStart)
-                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)))
-                .share();
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, interval).maxBackoff(interval.multipliedBy(4L)));
+        dispatcher = new TopicDispatcher(topicMessages, meterRegistry, "shared poll");
     }
 
     @Override
     protected Flux<TopicMessage> getSharedListener(TopicMessageFilter filter) {
-        return topicMessages;
+        return dispatcher.listen(filter.getTopicId());
     }
 
     private Flux<TopicMessage> poll(PollingContext context) {
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.hiero.mirror.grpc.listener.TopicListener.METRIC_TAG;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Dispatches the topic messages of every topic on the network to only the subscribers of each message's topic instead
+ * of every subscriber receiving and filtering every message. A single subscription to the topic messages is shared
+ * while any topic has subscribers.
+ */
+final class TopicDispatcher {
+
+    private final Flux<TopicMessage> dispatcher;
+    private final DistributionSummary fanoutMetric;
+    private final Map<EntityId, Topic> topics = new ConcurrentHashMap<>();
+
+    TopicDispatcher(Flux<TopicMessage> topicMessages, MeterRegistry meterRegistry, String mode) {
+        // Emits nothing itself, subscribers only subscribe to keep the shared subscription active
+        this.dispatcher = topicMessages.doOnNext(this::dispatch).filter(t -> false).share();
+        this.fanoutMetric = DistributionSummary.builder("hiero.mirror.grpc.listener.fanout")
+                .description("The number of subscribers each topic message was dispatched to")
+                .tag(METRIC_TAG, mode)
+                .register(meterRegistry);
+        Gauge.builder("hiero.mirror.grpc.listener.topics", topics, Map::size)
+                .description("The number of topics with active subscribers")
+                .tag(METRIC_TAG, mode)
+                .register(meterRegistry);
+    }
+
+    Flux<TopicMessage> listen(EntityId topicId) {
+        return Flux.defer(() -> {
+            var topic = topics.compute(topicId, (k, v) -> (v != null ? v : new Topic()).acquire());
+            // Request unbounded so the best effort sink never drops messages due to the merge's own prefetch
+            return Flux.merge(Integer.MAX_VALUE, topic.sink.asFlux(), dispatcher)
+                    .doFinally(s -> topics.computeIfPresent(topicId, (k, v) -> v.release() > 0 ? v : null));
+        });
+    }
+
+    private void dispatch(TopicMessage topicMessage) {
+        var topic = topics.get(topicMessage.getTopicId());
+
+        if (topic != null) {
+            fanoutMetric.record(topic.sink.currentSubscriberCount());
+            topic.sink.tryEmitNext(topicMessage);
+        }
+    }
+
+    // Only modified within the atomic map operations
+    private static class Topic {
+
+        private final Sinks.Many<TopicMessage> sink = Sinks.many().multicast().directBestEffort();
+        private int subscribers;
+
+        Topic acquire() {
+            ++subscribers;
+            return this;
+        }
+
+        int release() {
+            return --subscribers;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.hiero.mirror.grpc.listener.ListenerProperties.CacheProperties;
+import reactor.core.publisher.Flux;
+
+/**
+ * Caches the most recent messages of each topic that's being listened to so subscribers starting within the cached
+ * window can catch up from memory instead of the database. A topic's messages are only cached while it's continuously
+ * listened to and must be contiguous by sequence number, so a request can be served once the cache holds a message
+ * before its start time. Topics are evicted once the total size of the cached messages exceeds the maximum size.
+ */
+@Named
+public class TopicMessageCache {
+
+    // Approximate size of a topic message excluding its byte arrays
+    private static final int MESSAGE_OVERHEAD = 128;
+
+    private final Cache<EntityId, Tail> cache;
+    private final Counter hitMetric;
+    private final Map<EntityId, Integer> listeners = new ConcurrentHashMap<>();
+    private final Counter missMetric;
+    private final CacheProperties properties;
+
+    public TopicMessageCache(ListenerProperties listenerProperties, MeterRegistry meterRegistry) {
+        this.properties = listenerProperties.getCache();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((EntityId topicId, Tail tail) -> tail.getSize())
+                .build();
+        this.hitMetric = Counter.builder("hiero.mirror.grpc.listener.cache.requests")
+                .description("The number of catch-up requests checked against the topic message cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missMetric = Counter.builder("hiero.mirror.grpc.listener.cache.requests")
+                .description("The number of catch-up requests checked against the topic message cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("hiero.mirror.grpc.listener.cache.size", cache, c -> c.policy()
+                        .eviction()
+                        .map(e -> e.weightedSize().orElse(0L))
+                        .orElse(0L))
+                .baseUnit("bytes")
+                .description("The approximate size of the cached topic messages")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets the cached messages of the topic from the filter's start time if the cache has every one of them.
+     *
+     * @param filter the topic message filter
+     * @return the cached messages in consensus order or empty if they're not all cached
+     */
+    public Optional<List<TopicMessage>> get(TopicMessageFilter filter) {
+        if (!properties.isEnabled()) {
+            return Optional.empty();
+        }
+
+        var tail = cache.getIfPresent(filter.getTopicId());
+        var topicMessages = tail != null ? tail.get(filter.getStartTime()) : null;
+        (topicMessages != null ? hitMetric : missMetric).increment();
+        return Optional.ofNullable(topicMessages);
+    }
+
+    Flux<TopicMessage> feed(TopicMessageFilter filter, Flux<TopicMessage> topicMessages) {
+        if (!properties.isEnabled()) {
+            return topicMessages;
+        }
+
+        var topicId = filter.getTopicId();
+        return topicMessages
+                .doOnNext(this::put)
+                .doOnSubscribe(s -> onListen(topicId))
+                .doFinally(s -> onUnlisten(topicId));
+    }
+
+    // Starts with an empty cache since messages could have been missed while the topic wasn't listened to
+    private void onListen(EntityId topicId) {
+        listeners.compute(topicId, (k, count) -> {
+            if (count == null) {
+                cache.invalidate(k);
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void onUnlisten(EntityId topicId) {
+        listeners.computeIfPresent(topicId, (k, count) -> {
+            if (count == 1) {
+                cache.invalidate(k);
+                return null;
+            }
+            return count - 1;
+        });
+    }
+
+    private void put(TopicMessage topicMessage) {
+        // Computing the entry again updates its weight
+        cache.asMap()
+                .compute(topicMessage.getTopicId(), (k, tail) -> (tail != null ? tail : new Tail()).add(topicMessage));
+    }
+
+    private static int sizeOf(TopicMessage topicMessage) {
+        return MESSAGE_OVERHEAD
+                + length(topicMessage.getInitialTransactionId())
+                + length(topicMessage.getMessage())
+                + length(topicMessage.getRunningHash());
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes != null ? bytes.length : 0;
+    }
+
+    private class Tail {
+
+        private final Deque<TopicMessage> messages = new ArrayDeque<>();
+        private int size;
+
+        synchronized int getSize() {
+            return size;
+        }
+
+        synchronized Tail add(TopicMessage topicMessage) {
+            var last = messages.peekLast();
+
+            if (last != null) {
+                long sequenceNumber = last.getSequenceNumber();
+
+                // Ignore the duplicates received by every listener of the topic
+                if (topicMessage.getSequenceNumber() <= sequenceNumber) {
+                    return this;
+                }
+
+                // Restart after a gap since only contiguous messages can be served
+                if (topicMessage.getSequenceNumber() != sequenceNumber + 1) {
+                    messages.clear();
+                    size = 0;
+                }
+            }
+
+            messages.addLast(topicMessage);
+            size += sizeOf(topicMessage);
+            long minTimestamp = topicMessage.getConsensusTimestamp() - properties.getMaxAge().toNanos();
+
+            while (messages.size() > properties.getMaxMessages()
+                    || messages.getFirst().getConsensusTimestamp() < minTimestamp) {
+                size -= sizeOf(messages.removeFirst());
+            }
+
+            return this;
+        }
+
+        // Only a message before the start time guarantees that no message after the start time is missing
+        synchronized List<TopicMessage> get(long startTime) {
+            var first = messages.peekFirst();
+
+            if (first == null || first.getConsensusTimestamp() >= startTime) {
+                return null;
+            }
+
+            var topicMessages = new ArrayList<TopicMessage>();
+            for (var topicMessage : messages) {
+                if (topicMessage.getConsensusTimestamp() >= startTime) {
+                    topicMessages.add(topicMessage);
+                }
+            }
+
+            return topicMessages;
+        }
+    }
+}
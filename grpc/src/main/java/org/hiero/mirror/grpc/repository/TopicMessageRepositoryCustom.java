@@ -6,9 +6,21 @@ import java.util.stream.Stream;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 
 public interface TopicMessageRepositoryCustom {
 
     @Transactional(readOnly = true)
     Stream<TopicMessage> findByFilter(TopicMessageFilter filter);
+
+    /**
+     * Streams the topic messages matching the filter in chunks of at most fetchSize rows. Each chunk is read in its own
+     * short read only transaction and the next chunk is only read once the current one is requested, so a slow
+     * subscriber doesn't hold a database connection.
+     *
+     * @param filter    the topic message filter
+     * @param fetchSize the number of rows to read from the database at a time
+     * @return the matching topic messages in consensus order
+     */
+    Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize);
 }
@@ -9,12 +9,21 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.hibernate.jpa.HibernateHints;
+import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @CustomLog
 @Named
@@ -26,7 +35,17 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
     // make the cost estimation of using the index on (topic_id, consensus_timestamp) lower than that of
     // the primary key so pg planner will choose the better index when querying topic messages by id
     private static final String TOPIC_MESSAGES_BY_ID_QUERY_HINT = "set local random_page_cost = 0";
+    private static final String TOPIC_MESSAGES_BY_FILTER_QUERY =
+            """
+            select chunk_num, chunk_total, consensus_timestamp, initial_transaction_id, message, payer_account_id,
+              running_hash, running_hash_version, sequence_number, topic_id, valid_start_timestamp
+            from topic_message
+            where topic_id = ? and consensus_timestamp >= ? and consensus_timestamp < ?
+            order by consensus_timestamp
+            limit ?
+            """;
 
+    private final DataSource dataSource;
     private final EntityManager entityManager;
 
     @Override
@@ -59,4 +78,97 @@ public class TopicMessageRepositoryCustomImpl implements TopicMessageRepositoryC
 
         return typedQuery.getResultList().stream(); // getResultStream()'s cursor doesn't work with reactive streams
     }
+
+    @Override
+    public Flux<TopicMessage> streamByFilter(TopicMessageFilter filter, int fetchSize) {
+        // Only request the next chunk once the subscriber consumed the current one to bound the rows held in memory
+        return Mono.fromCallable(() -> findChunk(filter, fetchSize))
+                .expand(chunk -> chunk.hasNext(fetchSize)
+                        ? Mono.fromCallable(() -> findChunk(chunk.next(), fetchSize))
+                        : Mono.empty())
+                .concatMapIterable(Chunk::messages, 1);
+    }
+
+    /*
+     * Reads the chunk eagerly and returns the connection to the pool before any of its rows are emitted, so a slow
+     * subscriber applying backpressure never holds a connection or an open transaction.
+     */
+    private Chunk findChunk(TopicMessageFilter filter, int fetchSize) throws SQLException {
+        long limit = filter.hasLimit() ? Math.min(filter.getLimit(), fetchSize) : fetchSize;
+        var connection = dataSource.getConnection();
+
+        try {
+            // The query hint only applies within a transaction
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+
+            if (limit != 1) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(TOPIC_MESSAGES_BY_ID_QUERY_HINT);
+                }
+            }
+
+            try (var statement = connection.prepareStatement(TOPIC_MESSAGES_BY_FILTER_QUERY)) {
+                statement.setFetchSize((int) limit);
+                statement.setLong(1, filter.getTopicId().getId());
+                statement.setLong(2, filter.getStartTime());
+                statement.setLong(3, filter.getEndTime() != null ? filter.getEndTime() : Long.MAX_VALUE);
+                statement.setLong(4, limit);
+
+                try (var resultSet = statement.executeQuery()) {
+                    var messages = new ArrayList<TopicMessage>((int) limit);
+                    while (resultSet.next()) {
+                        messages.add(toTopicMessage(resultSet));
+                    }
+                    return new Chunk(filter, messages);
+                }
+            }
+        } finally {
+            close(connection);
+        }
+    }
+
+    // Maps the row directly to bypass the overhead of the persistence context
+    private static TopicMessage toTopicMessage(ResultSet resultSet) throws SQLException {
+        return TopicMessage.builder()
+                .chunkNum(resultSet.getObject(1, Integer.class))
+                .chunkTotal(resultSet.getObject(2, Integer.class))
+                .consensusTimestamp(resultSet.getLong(3))
+                .initialTransactionId(resultSet.getBytes(4))
+                .message(resultSet.getBytes(5))
+                .payerAccountId(toEntityId(resultSet.getObject(6, Long.class)))
+                .runningHash(resultSet.getBytes(7))
+                .runningHashVersion(resultSet.getObject(8, Integer.class))
+                .sequenceNumber(resultSet.getLong(9))
+                .topicId(toEntityId(resultSet.getObject(10, Long.class)))
+                .validStartTimestamp(resultSet.getObject(11, Long.class))
+                .build();
+    }
+
+    private static EntityId toEntityId(Long id) {
+        return id != null ? EntityId.of(id) : null;
+    }
+
+    private static void close(Connection connection) {
+        try (connection) {
+            // Nothing to commit in the read only transaction, so end it before returning the connection to the pool
+            connection.rollback();
+        } catch (SQLException e) {
+            log.warn("Error closing topic message connection", e);
+        }
+    }
+
+    private record Chunk(TopicMessageFilter filter, List<TopicMessage> messages) {
+
+        boolean hasNext(int fetchSize) {
+            return messages.size() == fetchSize && (!filter.hasLimit() || filter.getLimit() > fetchSize);
+        }
+
+        TopicMessageFilter next() {
+            return filter.toBuilder()
+                    .limit(filter.hasLimit() ? filter.getLimit() - messages.size() : 0)
+                    .startTime(messages.getLast().getConsensusTimestamp() + 1)
+                    .build();
+        }
+    }
 }
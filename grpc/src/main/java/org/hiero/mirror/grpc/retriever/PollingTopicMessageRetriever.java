@@ -77,7 +77,7 @@ public class PollingTopicMessageRetriever implements TopicMessageRetriever {
         var newFilter = filter.toBuilder().limit(pageSize).startTime(startTime).build();
 
         log.debug("Executing query: {}", newFilter);
-        return Flux.fromStream(topicMessageRepository.findByFilter(newFilter));
+        return topicMessageRepository.streamByFilter(newFilter, retrieverProperties.getFetchSize());
     }
 
     @Data
@@ -18,6 +18,9 @@ public class RetrieverProperties {
 
     private boolean enabled = true;
 
+    @Min(1)
+    private int fetchSize = 100;
+
     @Min(32)
     private int maxPageSize = 1000;
 
@@ -27,6 +30,10 @@ public class RetrieverProperties {
     @Min(1)
     private int threadMultiplier = 4;
 
+    @NotNull
+    @Valid
+    private SharedProperties shared = new SharedProperties();
+
     @NotNull
     private Duration timeout = Duration.ofSeconds(60L);
 
@@ -34,6 +41,16 @@ public class RetrieverProperties {
     @Valid
     private UnthrottledProperties unthrottled = new UnthrottledProperties();
 
+    @Data
+    @Validated
+    public static class SharedProperties {
+
+        private boolean enabled = true;
+
+        @Min(1)
+        private int maxHistory = 5000;
+    }
+
     @Data
     @Validated
     public static class UnthrottledProperties {
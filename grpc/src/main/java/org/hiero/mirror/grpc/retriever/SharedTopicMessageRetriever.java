@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.retriever;
+
+import jakarta.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.CustomLog;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.reactivestreams.Subscriber;
+import org.springframework.context.annotation.Primary;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Coalesces the throttled catch-up retrievals of concurrent subscribers to the same topic into a single shared scan. A
+ * subscriber joins the active scan of its topic if the scan started at or before the subscriber's start time and still
+ * retains every message from that start time. Joined subscribers receive the retained messages and the rest of the
+ * scan from their start time, then each is handed off to the listener individually once the scan completes.
+ */
+@CustomLog
+@Named
+@Primary
+public class SharedTopicMessageRetriever implements TopicMessageRetriever {
+
+    private final PollingTopicMessageRetriever pollingTopicMessageRetriever;
+    private final RetrieverProperties retrieverProperties;
+    private final Map<EntityId, Scan> scans = new ConcurrentHashMap<>();
+
+    public SharedTopicMessageRetriever(
+            PollingTopicMessageRetriever pollingTopicMessageRetriever, RetrieverProperties retrieverProperties) {
+        this.pollingTopicMessageRetriever = pollingTopicMessageRetriever;
+        this.retrieverProperties = retrieverProperties;
+    }
+
+    @Override
+    public Flux<TopicMessage> retrieve(TopicMessageFilter filter, boolean throttled) {
+        if (!throttled || !retrieverProperties.getShared().isEnabled()) {
+            return pollingTopicMessageRetriever.retrieve(filter, throttled);
+        }
+
+        return Flux.from(subscriber -> subscribe(filter, subscriber));
+    }
+
+    private void subscribe(TopicMessageFilter filter, Subscriber<? super TopicMessage> subscriber) {
+        // Only unbounded subscribers start a scan so a bounded subscriber never retrieves more than it asked for
+        boolean bounded = filter.hasLimit() || filter.getEndTime() != null;
+        var scan = scans.compute(filter.getTopicId(), (topicId, current) -> {
+            if (!bounded && (current == null || !current.isJoinable(filter.getStartTime()))) {
+                return new Scan(filter);
+            }
+            return current;
+        });
+
+        if (scan == null || !scan.join(filter, subscriber)) {
+            pollingTopicMessageRetriever.retrieve(filter, true).subscribe(subscriber);
+        }
+    }
+
+    private class Scan {
+
+        private final EntityId topicId;
+        private final Flux<TopicMessage> messages;
+        private final long startTime;
+        private final long[] timestamps;
+        private long count;
+        private volatile boolean done;
+        private long evicted = Long.MIN_VALUE;
+
+        private Scan(TopicMessageFilter filter) {
+            int maxHistory = retrieverProperties.getShared().getMaxHistory();
+            this.topicId = filter.getTopicId();
+            this.startTime = filter.getStartTime();
+            this.timestamps = new long[maxHistory];
+            this.messages = pollingTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .doOnNext(this::onNext)
+                    .doOnCancel(this::onDone)
+                    .doOnTerminate(this::onDone)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .replay(maxHistory)
+                    .refCount();
+        }
+
+        synchronized boolean isJoinable(long joinTime) {
+            return !done && startTime <= joinTime && joinTime > evicted;
+        }
+
+        /**
+         * Subscribes while holding the lock so the messages it needs can't be evicted from the history in between. The
+         * scan is retrieved on another thread, so the first subscriber connecting it doesn't query while holding the
+         * lock.
+         */
+        boolean join(TopicMessageFilter filter, Subscriber<? super TopicMessage> subscriber) {
+            long joinTime = filter.getStartTime();
+
+            synchronized (this) {
+                if (!isJoinable(joinTime)) {
+                    return false;
+                }
+
+                log.debug("[{}] Joining shared scan of topic {} from {}", filter.getSubscriberId(), topicId, startTime);
+                messages.filter(t -> t.getConsensusTimestamp() >= joinTime).subscribe(subscriber);
+            }
+
+            // A subscriber cancelling while replaying the history can end the scan while the lock is held
+            if (done) {
+                scans.remove(topicId, this);
+            }
+
+            return true;
+        }
+
+        // Tracks the newest message evicted from the replay history, which can lag behind but never run ahead of this
+        private synchronized void onNext(TopicMessage topicMessage) {
+            int index = (int) (count++ % timestamps.length);
+
+            if (count > timestamps.length) {
+                evicted = timestamps[index];
+            }
+
+            timestamps[index] = topicMessage.getConsensusTimestamp();
+        }
+
+        private void onDone() {
+            synchronized (this) {
+                done = true;
+            }
+
+            // Outside the lock since the map holds its own lock while checking if a scan is joinable. If this thread is
+            // joining the scan, it removes the scan once it releases the lock.
+            if (!Thread.holdsLock(this)) {
+                scans.remove(topicId, this);
+            }
+        }
+    }
+}
@@ -39,4 +39,8 @@ public class AddressBookProperties {
 
     @Min(1)
     private int pageSize = 10;
+
+    @DurationMin(millis = 100L)
+    @NotNull
+    private Duration snapshotCheckInterval = Duration.ofSeconds(5L);
 }
@@ -2,9 +2,19 @@
 
 package org.hiero.mirror.grpc.service;
 
+import static org.hiero.mirror.grpc.config.CacheConfiguration.ADDRESS_BOOK_SNAPSHOT_CACHE;
+import static org.hiero.mirror.grpc.config.CacheConfiguration.CACHE_NAME;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -12,7 +22,6 @@ import java.util.concurrent.atomic.AtomicReference;
 import lombok.AccessLevel;
 import lombok.CustomLog;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.common.domain.addressbook.AddressBookEntry;
@@ -23,6 +32,7 @@ import org.hiero.mirror.grpc.repository.AddressBookEntryRepository;
 import org.hiero.mirror.grpc.repository.AddressBookRepository;
 import org.hiero.mirror.grpc.repository.NodeStakeRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Flux;
@@ -32,7 +42,6 @@ import reactor.retry.Repeat;
 
 @CustomLog
 @Named
-@RequiredArgsConstructor
 @Validated
 public class NetworkServiceImpl implements NetworkService {
 
@@ -42,16 +51,44 @@ public class NetworkServiceImpl implements NetworkService {
     private final AddressBookProperties addressBookProperties;
     private final AddressBookRepository addressBookRepository;
     private final AddressBookEntryRepository addressBookEntryRepository;
+    private final MeterRegistry meterRegistry;
     private final NodeStakeRepository nodeStakeRepository;
+    private final Timer.Builder rebuildMetric;
+    private final Cache<EntityId, Snapshot> snapshots;
     private final SystemEntity systemEntity;
-
-    @Qualifier("readOnly")
     private final TransactionOperations transactionOperations;
 
     @Getter(lazy = true, value = AccessLevel.PRIVATE)
     private final Set<EntityId> validFileIds =
             Set.of(systemEntity.addressBookFile101(), systemEntity.addressBookFile102());
 
+    @SuppressWarnings("unchecked")
+    public NetworkServiceImpl(
+            AddressBookProperties addressBookProperties,
+            AddressBookRepository addressBookRepository,
+            AddressBookEntryRepository addressBookEntryRepository,
+            MeterRegistry meterRegistry,
+            NodeStakeRepository nodeStakeRepository,
+            @Qualifier(ADDRESS_BOOK_SNAPSHOT_CACHE) CacheManager snapshotCacheManager,
+            SystemEntity systemEntity,
+            @Qualifier("readOnly") TransactionOperations transactionOperations) {
+        this.addressBookProperties = addressBookProperties;
+        this.addressBookRepository = addressBookRepository;
+        this.addressBookEntryRepository = addressBookEntryRepository;
+        this.meterRegistry = meterRegistry;
+        this.nodeStakeRepository = nodeStakeRepository;
+        this.snapshots = (Cache<EntityId, Snapshot>)
+                snapshotCacheManager.getCache(CACHE_NAME).getNativeCache();
+        this.systemEntity = systemEntity;
+        this.transactionOperations = transactionOperations;
+        this.rebuildMetric = Timer.builder("hiero.mirror.grpc.addressbook.snapshot.rebuild")
+                .description("The time it took to load an address book snapshot from the database");
+        Gauge.builder("hiero.mirror.grpc.addressbook.snapshot.age", snapshots, this::getSnapshotAge)
+                .baseUnit("seconds")
+                .description("The age of the oldest address book snapshot")
+                .register(meterRegistry);
+    }
+
     @Override
     public Flux<AddressBookEntry> getNodes(AddressBookFilter filter) {
         var fileId = filter.getFileId();
@@ -59,22 +96,73 @@ public class NetworkServiceImpl implements NetworkService {
             throw new IllegalArgumentException(INVALID_FILE_ID);
         }
 
+        var snapshot = getSnapshot(fileId);
+        var count = new AtomicLong(0L);
+
+        return snapshot.getEntries()
+                .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
+                .doOnNext(e -> count.incrementAndGet())
+                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
+                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", count));
+    }
+
+    // A snapshot is served from memory until the check interval elapses, after which it's only reloaded if a newer
+    // address book or node stake has been observed
+    private Snapshot getSnapshot(EntityId fileId) {
+        var now = Instant.now();
+        var snapshot = snapshots.getIfPresent(fileId);
+
+        if (snapshot != null
+                && !snapshot.isFailed()
+                && snapshot.isFresh(now, addressBookProperties.getSnapshotCheckInterval())) {
+            return snapshot;
+        }
+
         long addressBookTimestamp = addressBookRepository
                 .findLatestTimestamp(fileId.getId())
                 .orElseThrow(() -> new EntityNotFoundException(fileId));
         long nodeStakeTimestamp = nodeStakeRepository.findLatestTimestamp().orElse(NODE_STAKE_EMPTY_TABLE_TIMESTAMP);
-        var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
-        var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
-
-        return Flux.defer(() -> page(context))
-                .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
-                        .randomBackoff(addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
-                        .jitter(Jitter.random())
-                        .withBackoffScheduler(Schedulers.parallel()))
-                .take(filter.getLimit() > 0 ? filter.getLimit() : Long.MAX_VALUE)
-                .doOnNext(context::onNext)
-                .doOnSubscribe(s -> log.info("Querying for address book: {}", filter))
-                .doOnComplete(() -> log.info("Retrieved {} nodes from the address book", context.getCount()));
+
+        return snapshots.asMap().compute(fileId, (k, current) -> {
+            if (current != null
+                    && !current.isFailed()
+                    && current.getAddressBookTimestamp() == addressBookTimestamp
+                    && current.getNodeStakeTimestamp() == nodeStakeTimestamp) {
+                return current.checked(now);
+            }
+
+            // Concurrent requests share the same load, receiving the entries as they're loaded, and a failed load is
+            // replaced by the next request
+            var failed = new AtomicBoolean(false);
+            var entries = load(addressBookTimestamp, nodeStakeTimestamp)
+                    .doOnError(e -> failed.set(true))
+                    .cache();
+            return new Snapshot(addressBookTimestamp, now, now, entries, failed, nodeStakeTimestamp);
+        });
+    }
+
+    private Flux<AddressBookEntry> load(long addressBookTimestamp, long nodeStakeTimestamp) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            var nodeStakeMap = nodeStakeRepository.findAllStakeByConsensusTimestamp(nodeStakeTimestamp);
+            var context = new AddressBookContext(addressBookTimestamp, nodeStakeMap);
+
+            return Flux.defer(() -> page(context))
+                    .repeatWhen(Repeat.onlyIf(c -> !context.isComplete())
+                            .randomBackoff(
+                                    addressBookProperties.getMinPageDelay(), addressBookProperties.getMaxPageDelay())
+                            .jitter(Jitter.random())
+                            .withBackoffScheduler(Schedulers.parallel()))
+                    .doOnNext(context::onNext)
+                    .doOnComplete(() -> {
+                        rebuildMetric.register(meterRegistry).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        log.info(
+                                "Loaded address book snapshot of {} nodes for timestamp {} and node stake timestamp {}",
+                                context.getCount(),
+                                addressBookTimestamp,
+                                nodeStakeTimestamp);
+                    });
+        });
     }
 
     private Flux<AddressBookEntry> page(AddressBookContext context) {
@@ -108,6 +196,37 @@ public class NetworkServiceImpl implements NetworkService {
         });
     }
 
+    private double getSnapshotAge(Cache<EntityId, Snapshot> cache) {
+        var now = Instant.now();
+        return cache.asMap().values().stream()
+                .mapToDouble(s -> Duration.between(s.getCreated(), now).toMillis() / 1000.0)
+                .max()
+                .orElse(0.0);
+    }
+
+    @Value
+    private static class Snapshot {
+
+        private final long addressBookTimestamp;
+        private final Instant checked;
+        private final Instant created;
+        private final Flux<AddressBookEntry> entries;
+        private final AtomicBoolean failed;
+        private final long nodeStakeTimestamp;
+
+        boolean isFailed() {
+            return failed.get();
+        }
+
+        boolean isFresh(Instant now, Duration checkInterval) {
+            return now.isBefore(checked.plus(checkInterval));
+        }
+
+        Snapshot checked(Instant now) {
+            return new Snapshot(addressBookTimestamp, now, created, entries, failed, nodeStakeTimestamp);
+        }
+    }
+
     @Value
     private static class AddressBookContext {
 
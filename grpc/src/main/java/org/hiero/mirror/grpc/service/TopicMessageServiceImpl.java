@@ -23,6 +23,7 @@ import org.hiero.mirror.grpc.GrpcProperties;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.exception.EntityNotFoundException;
 import org.hiero.mirror.grpc.listener.TopicListener;
+import org.hiero.mirror.grpc.listener.TopicMessageCache;
 import org.hiero.mirror.grpc.repository.EntityRepository;
 import org.hiero.mirror.grpc.retriever.TopicMessageRetriever;
 import org.springframework.validation.annotation.Validated;
@@ -42,6 +43,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
     private final EntityRepository entityRepository;
     private final TopicMessageRetriever topicMessageRetriever;
     private final MeterRegistry meterRegistry;
+    private final TopicMessageCache topicMessageCache;
     private final AtomicLong subscriberCount = new AtomicLong(0L);
 
     @PostConstruct
@@ -57,8 +59,7 @@ public class TopicMessageServiceImpl implements TopicMessageService {
         log.info("Subscribing to topic: {}", filter);
         TopicContext topicContext = new TopicContext(filter);
 
-        Flux<TopicMessage> flux = topicMessageRetriever
-                .retrieve(filter, true)
+        Flux<TopicMessage> flux = Flux.defer(() -> historicalMessages(filter))
                 .concatWith(Flux.defer(() -> incomingMessages(topicContext))) // Defer creation until query complete
                 .filter(t -> t.compareTo(topicContext.getLast()) > 0); // Ignore duplicates
 
@@ -91,6 +92,14 @@ public class TopicMessageServiceImpl implements TopicMessageService {
                 .switchIfEmpty(Mono.error(new IllegalArgumentException("Not a valid topic")));
     }
 
+    // Catch up from the recent messages cached in memory if they cover the start time, otherwise from the database
+    private Flux<TopicMessage> historicalMessages(TopicMessageFilter filter) {
+        return topicMessageCache
+                .get(filter)
+                .map(Flux::fromIterable)
+                .orElseGet(() -> topicMessageRetriever.retrieve(filter, true));
+    }
+
     private Flux<TopicMessage> incomingMessages(TopicContext topicContext) {
         if (topicContext.isComplete()) {
             return Flux.empty();
@@ -25,6 +25,7 @@ import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.grpc.GrpcIntegrationTest;
+import org.hiero.mirror.grpc.config.CacheConfiguration;
 import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
 import org.hiero.mirror.grpc.listener.ListenerProperties;
 import org.hiero.mirror.grpc.util.ProtoUtil;
@@ -35,6 +36,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -58,6 +61,9 @@ class ConsensusControllerTest extends GrpcIntegrationTest {
     @Resource
     private ListenerProperties listenerProperties;
 
+    @Resource(name = CacheConfiguration.RESPONSE_CACHE)
+    private CacheManager responseCacheManager;
+
     @BeforeEach
     void setup() {
         listenerProperties.setEnabled(true);
@@ -177,6 +183,35 @@ class ConsensusControllerTest extends GrpcIntegrationTest {
                         grpcResponse(topicMessage1), grpcResponse(topicMessage2), grpcResponse(topicMessage3));
     }
 
+    @Test
+    void subscribeTopicSharesResponses() {
+        var topicMessage1 = domainBuilder.topicMessage().block();
+        var topicMessage2 = domainBuilder.topicMessage().block();
+
+        ConsensusTopicQuery query = ConsensusTopicQuery.newBuilder()
+                .setLimit(2L)
+                .setConsensusStartTime(Timestamp.newBuilder().setSeconds(0).build())
+                .setTopicID(TopicID.newBuilder().setRealmNum(0).setTopicNum(100).build())
+                .build();
+        var stats = ((CaffeineCache) responseCacheManager.getCache(CacheConfiguration.CACHE_NAME))
+                .getNativeCache()
+                .stats();
+
+        assertThat(blockingService.subscribeTopic(query))
+                .toIterable()
+                .containsExactly(grpcResponse(topicMessage1), grpcResponse(topicMessage2));
+        assertThat(blockingService.subscribeTopic(query))
+                .toIterable()
+                .containsExactly(grpcResponse(topicMessage1), grpcResponse(topicMessage2));
+
+        var delta = ((CaffeineCache) responseCacheManager.getCache(CacheConfiguration.CACHE_NAME))
+                .getNativeCache()
+                .stats()
+                .minus(stats);
+        assertThat(delta.missCount()).isEqualTo(2L);
+        assertThat(delta.hitCount()).isEqualTo(2L);
+    }
+
     @Test
     void subscribeTopicQueryLongOverflowEndTime() {
         var topicMessage1 = domainBuilder.topicMessage().block();
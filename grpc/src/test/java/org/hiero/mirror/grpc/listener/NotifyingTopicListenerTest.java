@@ -4,6 +4,7 @@ package org.hiero.mirror.grpc.listener;
 
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
@@ -47,7 +48,9 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
         if (!initialized) {
             try {
                 // Warm up the database connection
-                var filter = TopicMessageFilter.builder().build();
+                var filter = TopicMessageFilter.builder()
+                        .topicId(EntityId.of(1001L))
+                        .build();
                 StepVerifier.withVirtualTime(() -> topicListener.listen(filter))
                         .thenAwait(WAIT)
                         .then(() -> jdbcTemplate.execute("notify topic_message, '" + JSON + "'"))
@@ -91,9 +94,42 @@ class NotifyingTopicListenerTest extends AbstractSharedTopicListenerTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void binary() {
+        var topicMessage = TopicMessage.builder()
+                .chunkNum(1)
+                .chunkTotal(2)
+                .consensusTimestamp(1594401417000000000L)
+                .message(new byte[] {1, 2, 3})
+                .payerAccountId(EntityId.of(4294968296L))
+                .runningHash(new byte[] {4, 5, 6})
+                .runningHashVersion(2)
+                .sequenceNumber(1L)
+                .topicId(EntityId.of(1001L))
+                .validStartTimestamp(1594401416000000000L)
+                .build();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(EntityId.of(1001L))
+                .build();
+        var payload = TopicMessageCodec.encode(topicMessage);
+
+        StepVerifier.create(topicListener.listen(filter))
+                .thenAwait(Duration.ofMillis(200L))
+                .then(() -> jdbcTemplate.execute("notify topic_message, '" + payload + "'"))
+                .thenAwait(Duration.ofMillis(200L))
+                .expectNext(topicMessage)
+                .thenCancel()
+                .verify(WAIT);
+    }
+
     @Test
     void jsonError() {
-        TopicMessageFilter filter = TopicMessageFilter.builder().startTime(0).build();
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(0)
+                .topicId(EntityId.of(1001L))
+                .build();
 
         // Parsing errors will be logged and ignored and the message will be lost
         StepVerifier.create(topicListener.listen(filter))
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+class TopicDispatcherTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+    private static final EntityId TOPIC_ID1 = EntityId.of(100L);
+    private static final EntityId TOPIC_ID2 = EntityId.of(200L);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Sinks.Many<TopicMessage> source = Sinks.many().multicast().directBestEffort();
+    private final TopicDispatcher dispatcher = new TopicDispatcher(source.asFlux(), meterRegistry, "test");
+
+    @Test
+    void dispatchesToTopicSubscribers() {
+        var subscriber1 = dispatcher
+                .listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 3L)
+                .thenCancel()
+                .verifyLater();
+        var subscriber2 = dispatcher
+                .listen(TOPIC_ID1)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 3L)
+                .thenCancel()
+                .verifyLater();
+        var subscriber3 = dispatcher
+                .listen(TOPIC_ID2)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(2L)
+                .thenCancel()
+                .verifyLater();
+
+        assertThat(meterRegistry.get("hiero.mirror.grpc.listener.topics").gauge().value()).isEqualTo(2.0);
+
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 1L));
+        source.tryEmitNext(topicMessage(TOPIC_ID2, 2L));
+        source.tryEmitNext(topicMessage(TOPIC_ID1, 3L));
+        source.tryEmitNext(topicMessage(EntityId.of(300L), 4L));
+
+        subscriber1.verify(WAIT);
+        subscriber2.verify(WAIT);
+        subscriber3.verify(WAIT);
+
+        var fanout = meterRegistry.get("hiero.mirror.grpc.listener.fanout").summary();
+        assertThat(fanout.count()).isEqualTo(3L);
+        assertThat(fanout.totalAmount()).isEqualTo(5.0);
+        assertThat(meterRegistry.get("hiero.mirror.grpc.listener.topics").gauge().value()).isZero();
+        assertThat(source.currentSubscriberCount()).isZero();
+    }
+
+    private TopicMessage topicMessage(EntityId topicId, long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(topicId)
+                .build();
+    }
+}
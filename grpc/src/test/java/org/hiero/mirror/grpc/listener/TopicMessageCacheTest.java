@@ -0,0 +1,123 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+
+class TopicMessageCacheTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+
+    private ListenerProperties listenerProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private Sinks.Many<TopicMessage> sink;
+    private TopicMessageCache topicMessageCache;
+
+    @BeforeEach
+    void setup() {
+        listenerProperties = new ListenerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+        sink = Sinks.many().multicast().directBestEffort();
+        topicMessageCache = new TopicMessageCache(listenerProperties, meterRegistry);
+    }
+
+    @Test
+    void get() {
+        var listener = listen();
+        var topicMessage1 = topicMessage(1L);
+        var topicMessage2 = topicMessage(2L);
+        var topicMessage3 = topicMessage(3L);
+        sink.tryEmitNext(topicMessage1);
+        sink.tryEmitNext(topicMessage2);
+        sink.tryEmitNext(topicMessage2);
+        sink.tryEmitNext(topicMessage3);
+
+        assertThat(topicMessageCache.get(filter(2L))).get().isEqualTo(List.of(topicMessage2, topicMessage3));
+        assertThat(topicMessageCache.get(filter(4L))).get().isEqualTo(List.of());
+        assertThat(topicMessageCache.get(filter(1L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(2L).toBuilder().topicId(EntityId.of(101L)).build()))
+                .isEmpty();
+        assertThat(meterRegistry
+                        .get("hiero.mirror.grpc.listener.cache.requests")
+                        .tag("result", "hit")
+                        .counter()
+                        .count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry
+                        .get("hiero.mirror.grpc.listener.cache.requests")
+                        .tag("result", "miss")
+                        .counter()
+                        .count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.find("hiero.mirror.grpc.listener.cache.size").gauge())
+                .isNotNull();
+
+        listener.dispose();
+        assertThat(topicMessageCache.get(filter(2L))).isEmpty();
+    }
+
+    @Test
+    void gap() {
+        listen();
+        sink.tryEmitNext(topicMessage(1L));
+        sink.tryEmitNext(topicMessage(2L));
+        sink.tryEmitNext(topicMessage(4L));
+        sink.tryEmitNext(topicMessage(5L));
+
+        assertThat(topicMessageCache.get(filter(2L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(5L))).get().isEqualTo(List.of(topicMessage(5L)));
+    }
+
+    @Test
+    void maxMessages() {
+        listenerProperties.getCache().setMaxMessages(2);
+        listen();
+        sink.tryEmitNext(topicMessage(1L));
+        sink.tryEmitNext(topicMessage(2L));
+        sink.tryEmitNext(topicMessage(3L));
+
+        assertThat(topicMessageCache.get(filter(2L))).isEmpty();
+        assertThat(topicMessageCache.get(filter(3L))).get().isEqualTo(List.of(topicMessage(3L)));
+    }
+
+    @Test
+    void disabled() {
+        listenerProperties.getCache().setEnabled(false);
+        listen();
+        sink.tryEmitNext(topicMessage(1L));
+        sink.tryEmitNext(topicMessage(2L));
+
+        assertThat(topicMessageCache.get(filter(2L))).isEmpty();
+        assertThat(meterRegistry
+                        .get("hiero.mirror.grpc.listener.cache.requests")
+                        .counters())
+                .allSatisfy(c -> assertThat(c.count()).isZero());
+    }
+
+    private Disposable listen() {
+        return topicMessageCache.feed(filter(0L), sink.asFlux()).subscribe();
+    }
+
+    private TopicMessageFilter filter(long startTime) {
+        return TopicMessageFilter.builder().startTime(startTime).topicId(TOPIC_ID).build();
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .message(new byte[] {1, 2, 3})
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
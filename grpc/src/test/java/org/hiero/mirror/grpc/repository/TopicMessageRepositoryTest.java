@@ -4,7 +4,9 @@ package org.hiero.mirror.grpc.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
@@ -14,10 +16,14 @@ import org.hiero.mirror.grpc.GrpcIntegrationTest;
 import org.hiero.mirror.grpc.domain.ReactiveDomainBuilder;
 import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+import reactor.test.subscriber.TestSubscriber;
 
 @RequiredArgsConstructor
 class TopicMessageRepositoryTest extends GrpcIntegrationTest {
 
+    private static final Duration WAIT = Duration.ofSeconds(10L);
+
     private final TopicMessageRepository topicMessageRepository;
     private final ReactiveDomainBuilder domainBuilder;
 
@@ -110,6 +116,95 @@ class TopicMessageRepositoryTest extends GrpcIntegrationTest {
         assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1);
     }
 
+    @Test
+    void streamByFilter() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage3 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage(t -> t.topicId(EntityId.of(-1))).block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1), 1)
+                .expectNext(topicMessage1)
+                .thenRequest(2)
+                .expectNext(topicMessage2, topicMessage3)
+                .thenRequest(1)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void streamByFilterWithEndTimeAndLimit() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage3 = domainBuilder.topicMessage().block();
+        domainBuilder.topicMessage().block();
+
+        var filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .endTime(topicMessage3.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId());
+
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter.build(), 10))
+                .expectNext(topicMessage1, topicMessage2)
+                .expectComplete()
+                .verify(WAIT);
+        StepVerifier.create(topicMessageRepository.streamByFilter(filter.limit(1).build(), 10))
+                .expectNext(topicMessage1)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void streamByFilterCancel() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+
+        // Cancelling must return the connection to the pool, so repeat more times than the pool has connections
+        for (int i = 0; i < 60; i++) {
+            StepVerifier.create(topicMessageRepository.streamByFilter(filter, 1), 1)
+                    .expectNext(topicMessage1)
+                    .thenCancel()
+                    .verify(WAIT);
+        }
+
+        assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1, topicMessage2);
+    }
+
+    @Test
+    void streamByFilterSlowSubscriber() {
+        TopicMessage topicMessage1 = domainBuilder.topicMessage().block();
+        TopicMessage topicMessage2 = domainBuilder.topicMessage().block();
+
+        TopicMessageFilter filter = TopicMessageFilter.builder()
+                .startTime(topicMessage1.getConsensusTimestamp())
+                .topicId(topicMessage1.getTopicId())
+                .build();
+        var subscribers = new ArrayList<TestSubscriber<TopicMessage>>();
+
+        // Subscribers that stop requesting mid stream must not hold a connection, so exceed the pool's connections
+        for (int i = 0; i < 60; i++) {
+            var subscriber = TestSubscriber.<TopicMessage>builder().initialRequest(1).build();
+            topicMessageRepository.streamByFilter(filter, 1).subscribe(subscriber);
+            subscribers.add(subscriber);
+        }
+
+        assertThat(topicMessageRepository.findByFilter(filter)).containsExactly(topicMessage1, topicMessage2);
+        assertThat(subscribers)
+                .allSatisfy(s -> assertThat(s.getReceivedOnNext()).containsExactly(topicMessage1))
+                .noneMatch(TestSubscriber::isTerminated);
+        subscribers.forEach(TestSubscriber::cancel);
+    }
+
     @Test
     void findLatest() {
         // given
@@ -0,0 +1,215 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.grpc.retriever;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.common.domain.topic.TopicMessage;
+import org.hiero.mirror.grpc.domain.TopicMessageFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+@ExtendWith(MockitoExtension.class)
+class SharedTopicMessageRetrieverTest {
+
+    private static final EntityId TOPIC_ID = EntityId.of(100L);
+    private static final Duration WAIT = Duration.ofSeconds(5L);
+
+    @Mock
+    private PollingTopicMessageRetriever pollingTopicMessageRetriever;
+
+    private RetrieverProperties retrieverProperties;
+    private SharedTopicMessageRetriever sharedTopicMessageRetriever;
+    private Sinks.Many<TopicMessage> scan;
+
+    @BeforeEach
+    void setup() {
+        retrieverProperties = new RetrieverProperties();
+        sharedTopicMessageRetriever =
+                new SharedTopicMessageRetriever(pollingTopicMessageRetriever, retrieverProperties);
+        scan = Sinks.many().unicast().onBackpressureBuffer();
+    }
+
+    @Test
+    void joinScan() {
+        when(pollingTopicMessageRetriever.retrieve(any(), anyBoolean())).thenReturn(scan.asFlux());
+
+        var subscriber1 = sharedTopicMessageRetriever
+                .retrieve(filter(1L), true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verifyLater();
+        scan.tryEmitNext(topicMessage(1L));
+        var subscriber2 = sharedTopicMessageRetriever
+                .retrieve(filter(1L), true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L, 3L)
+                .expectComplete()
+                .verifyLater();
+        var subscriber3 = sharedTopicMessageRetriever
+                .retrieve(filter(2L), true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(2L, 3L)
+                .expectComplete()
+                .verifyLater();
+
+        scan.tryEmitNext(topicMessage(2L));
+        scan.tryEmitNext(topicMessage(3L));
+        scan.tryEmitComplete();
+
+        subscriber1.verify(WAIT);
+        subscriber2.verify(WAIT);
+        subscriber3.verify(WAIT);
+        verify(pollingTopicMessageRetriever, times(1)).retrieve(any(), anyBoolean());
+    }
+
+    @Test
+    void evicted() {
+        retrieverProperties.getShared().setMaxHistory(1);
+        var filter = filter(1L);
+        when(pollingTopicMessageRetriever.retrieve(filter, true))
+                .thenReturn(scan.asFlux())
+                .thenReturn(Flux.just(topicMessage(1L), topicMessage(2L)));
+
+        var subscriber1 = sharedTopicMessageRetriever
+                .retrieve(filter, true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verifyLater();
+        awaitScan();
+        scan.tryEmitNext(topicMessage(1L));
+        scan.tryEmitNext(topicMessage(2L));
+
+        sharedTopicMessageRetriever
+                .retrieve(filter, true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L, 2L)
+                .expectComplete()
+                .verify(WAIT);
+
+        scan.tryEmitComplete();
+        subscriber1.verify(WAIT);
+        verify(pollingTopicMessageRetriever, times(2)).retrieve(filter, true);
+    }
+
+    @Test
+    void concurrentJoinsShortPage() {
+        int subscribers = 100;
+        var filter = filter(1L);
+        when(pollingTopicMessageRetriever.retrieve(filter, true)).thenAnswer(i -> Flux.just(topicMessage(1L)));
+
+        Flux.range(0, subscribers)
+                .flatMap(i -> sharedTopicMessageRetriever
+                        .retrieve(filter, true)
+                        .subscribeOn(Schedulers.parallel()))
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNextCount(subscribers)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void bounded() {
+        var filter = filter(1L).toBuilder().limit(1L).build();
+        when(pollingTopicMessageRetriever.retrieve(filter, true)).thenReturn(Flux.just(topicMessage(1L)));
+
+        sharedTopicMessageRetriever
+                .retrieve(filter, true)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L)
+                .expectComplete()
+                .verify(WAIT);
+
+        // The bounded subscriber doesn't leave a scan behind for the next subscriber to join
+        var unbounded = filter(1L);
+        when(pollingTopicMessageRetriever.retrieve(unbounded, true)).thenReturn(Flux.empty());
+        sharedTopicMessageRetriever
+                .retrieve(unbounded, true)
+                .as(StepVerifier::create)
+                .expectComplete()
+                .verify(WAIT);
+        verify(pollingTopicMessageRetriever).retrieve(unbounded, true);
+    }
+
+    @Test
+    void unthrottled() {
+        var filter = filter(1L);
+        when(pollingTopicMessageRetriever.retrieve(filter, false)).thenReturn(Flux.just(topicMessage(1L)));
+
+        sharedTopicMessageRetriever
+                .retrieve(filter, false)
+                .map(TopicMessage::getSequenceNumber)
+                .as(StepVerifier::create)
+                .expectNext(1L)
+                .expectComplete()
+                .verify(WAIT);
+        verify(pollingTopicMessageRetriever, never()).retrieve(filter, true);
+    }
+
+    @Test
+    void disabled() {
+        retrieverProperties.getShared().setEnabled(false);
+        var filter = filter(1L);
+        when(pollingTopicMessageRetriever.retrieve(filter, true))
+                .thenReturn(Flux.just(topicMessage(1L)))
+                .thenReturn(Flux.just(topicMessage(1L)));
+
+        for (int i = 0; i < 2; i++) {
+            sharedTopicMessageRetriever
+                    .retrieve(filter, true)
+                    .map(TopicMessage::getSequenceNumber)
+                    .as(StepVerifier::create)
+                    .expectNext(1L)
+                    .expectComplete()
+                    .verify(WAIT);
+        }
+
+        verify(pollingTopicMessageRetriever, times(2)).retrieve(filter, true);
+    }
+
+    // The scan is retrieved on another thread, so wait for it to subscribe before emitting to it
+    private void awaitScan() {
+        Flux.interval(Duration.ofMillis(10L))
+                .filter(i -> scan.currentSubscriberCount() > 0)
+                .take(1)
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    private TopicMessageFilter filter(long startTime) {
+        return TopicMessageFilter.builder().startTime(startTime).topicId(TOPIC_ID).build();
+    }
+
+    private TopicMessage topicMessage(long sequenceNumber) {
+        return TopicMessage.builder()
+                .consensusTimestamp(sequenceNumber)
+                .sequenceNumber(sequenceNumber)
+                .topicId(TOPIC_ID)
+                .build();
+    }
+}
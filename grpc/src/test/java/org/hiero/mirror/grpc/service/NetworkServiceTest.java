@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hiero.mirror.grpc.service.NetworkServiceImpl.INVALID_FILE_ID;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
 import java.time.Duration;
 import java.util.List;
@@ -35,19 +36,23 @@ class NetworkServiceTest extends GrpcIntegrationTest {
     private final AddressBookEntryRepository addressBookEntryRepository;
     private final AddressBookProperties addressBookProperties;
     private final DomainBuilder domainBuilder;
+    private final MeterRegistry meterRegistry;
     private final NetworkService networkService;
     private final NodeStakeRepository nodeStakeRepository;
 
     private int pageSize;
+    private Duration snapshotCheckInterval;
 
     @BeforeEach
     void setup() {
         pageSize = addressBookProperties.getPageSize();
+        snapshotCheckInterval = addressBookProperties.getSnapshotCheckInterval();
     }
 
     @AfterEach
     void cleanup() {
         addressBookProperties.setPageSize(pageSize);
+        addressBookProperties.setSnapshotCheckInterval(snapshotCheckInterval);
     }
 
     @Test
@@ -139,6 +144,27 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
     }
 
+    @Test
+    void limitReachedBeforeSnapshotLoaded() {
+        addressBookProperties.setPageSize(1);
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var addressBookEntry2 = addressBookEntry();
+        var addressBookEntry3 = addressBookEntry();
+        var filter = AddressBookFilter.builder()
+                .fileId(addressBook.getFileId())
+                .limit(1)
+                .build();
+
+        // The first entry is returned without waiting for the delayed pages of the rest of the snapshot
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+        assertThat(rebuildCount()).isZero();
+
+        var unlimited = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        assertThat(getNodes(unlimited)).containsExactly(addressBookEntry1, addressBookEntry2, addressBookEntry3);
+        assertThat(rebuildCount()).isOne();
+    }
+
     @Test
     void cached() {
         addressBookProperties.setPageSize(2);
@@ -155,6 +181,57 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry1, addressBookEntry2, addressBookEntry3);
     }
 
+    @Test
+    void snapshotUnchanged() {
+        addressBookProperties.setSnapshotCheckInterval(Duration.ZERO);
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+        var rebuilds = rebuildCount();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+        assertThat(rebuildCount()).isEqualTo(rebuilds + 1);
+    }
+
+    @Test
+    void snapshotNewerAddressBook() {
+        addressBookProperties.setSnapshotCheckInterval(Duration.ZERO);
+        var addressBook = addressBook();
+        var addressBookEntry1 = addressBookEntry();
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry1);
+
+        long timestamp = CONSENSUS_TIMESTAMP + 1;
+        domainBuilder
+                .addressBook()
+                .customize(a -> a.fileId(addressBook.getFileId()).startConsensusTimestamp(timestamp))
+                .persist();
+        var addressBookEntry2 = domainBuilder
+                .addressBookEntry()
+                .customize(a -> a.consensusTimestamp(timestamp))
+                .persist();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry2);
+    }
+
+    @Test
+    void snapshotNewerNodeStake() {
+        addressBookProperties.setSnapshotCheckInterval(Duration.ZERO);
+        var addressBook = addressBook();
+        var addressBookEntry = addressBookEntry(10L);
+        addressBookEntry.setStake(0L);
+        var filter = AddressBookFilter.builder().fileId(addressBook.getFileId()).build();
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+
+        nodeStake(addressBookEntry.getNodeId(), 100L);
+        addressBookEntry.setStake(100L);
+
+        assertThat(getNodes(filter)).containsExactly(addressBookEntry);
+    }
+
     @Test
     void overrideStakeToZeroWhenEmptyNodeStakeTable() {
         var addressBook = addressBook();
@@ -208,6 +285,14 @@ class NetworkServiceTest extends GrpcIntegrationTest {
         assertThat(getNodes(filter)).containsExactly(addressBookEntry);
     }
 
+    // The metrics are cleared before each test and the timer is only registered again once a snapshot is loaded
+    private long rebuildCount() {
+        var timer = meterRegistry
+                .find("hiero.mirror.grpc.addressbook.snapshot.rebuild")
+                .timer();
+        return timer != null ? timer.count() : 0L;
+    }
+
     private List<AddressBookEntry> getNodes(AddressBookFilter filter) {
         return networkService.getNodes(filter).collectList().block(Duration.ofMillis(1000L));
     }
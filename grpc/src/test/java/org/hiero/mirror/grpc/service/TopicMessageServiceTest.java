@@ -24,6 +24,7 @@ import org.hiero.mirror.grpc.domain.TopicMessageFilter;
 import org.hiero.mirror.grpc.exception.EntityNotFoundException;
 import org.hiero.mirror.grpc.listener.ListenerProperties;
 import org.hiero.mirror.grpc.listener.TopicListener;
+import org.hiero.mirror.grpc.listener.TopicMessageCache;
 import org.hiero.mirror.grpc.repository.EntityRepository;
 import org.hiero.mirror.grpc.retriever.RetrieverProperties;
 import org.hiero.mirror.grpc.retriever.TopicMessageRetriever;
@@ -429,7 +430,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                new TopicMessageCache(new ListenerProperties(), new SimpleMeterRegistry()));
 
         var retrieverFilter =
                 TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
@@ -461,7 +463,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                new TopicMessageCache(new ListenerProperties(), new SimpleMeterRegistry()));
 
         var filter = TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
 
@@ -538,7 +541,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                new TopicMessageCache(new ListenerProperties(), new SimpleMeterRegistry()));
 
         var retrieverFilter =
                 TopicMessageFilter.builder().startTime(0).topicId(TOPIC_ID).build();
@@ -589,7 +593,8 @@ class TopicMessageServiceTest extends GrpcIntegrationTest {
                 topicListener,
                 entityRepository,
                 topicMessageRetriever,
-                new SimpleMeterRegistry());
+                new SimpleMeterRegistry(),
+                new TopicMessageCache(new ListenerProperties(), new SimpleMeterRegistry()));
 
         // historic messages
         var retrieved1 = topicMessage(1);
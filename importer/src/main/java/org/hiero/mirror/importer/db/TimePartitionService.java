@@ -23,4 +23,11 @@ public interface TimePartitionService {
      * @return The time partitions. If the table is not time partitioned or doesn't have time partitions, returns an empty list
      */
     List<TimePartition> getTimePartitions(String tableName);
+
+    /**
+     * Evicts the cached time partitions of a given table so they're queried again after being changed.
+     *
+     * @param tableName The table name
+     */
+    void evict(String tableName);
 }
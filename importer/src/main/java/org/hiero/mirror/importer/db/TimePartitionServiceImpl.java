@@ -42,6 +42,13 @@ public class TimePartitionServiceImpl implements TimePartitionService {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Override
+    public void evict(String tableName) {
+        cacheTimePartition.evict(tableName);
+        // The overlapping time partitions are cached by table and range, so clear them all
+        cacheTimePartitionOverlap.clear();
+    }
+
     @Override
     public List<TimePartition> getOverlappingTimePartitions(String tableName, long fromTimestamp, long toTimestamp) {
         String cacheKey = tableName + "-" + fromTimestamp + "-" + toTimestamp;
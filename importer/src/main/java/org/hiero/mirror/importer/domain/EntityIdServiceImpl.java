@@ -25,6 +25,7 @@ import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.entity.EntityType;
 import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -39,10 +40,15 @@ public class EntityIdServiceImpl implements EntityIdService {
 
     private final Cache cache;
     private final EntityRepository entityRepository;
+    private final ParserContext parserContext;
 
-    public EntityIdServiceImpl(@Qualifier(CACHE_ALIAS) CacheManager cacheManager, EntityRepository entityRepository) {
+    public EntityIdServiceImpl(
+            @Qualifier(CACHE_ALIAS) CacheManager cacheManager,
+            EntityRepository entityRepository,
+            ParserContext parserContext) {
         this.cache = cacheManager.getCache(CACHE_NAME);
         this.entityRepository = entityRepository;
+        this.parserContext = parserContext;
     }
 
     @Override
@@ -166,9 +172,13 @@ public class EntityIdServiceImpl implements EntityIdService {
         var id = Optional.ofNullable(DomainUtils.fromEvmAddress(evmAddress))
                 // Verify shard and realm match when assuming evmAddress is in the 'shard.realm.num' form
                 .filter(e -> e.getShard() == shardNum && e.getRealm() == realmNum)
-                .or(() -> entityRepository
-                        .findByEvmAddress(shardNum, realmNum, evmAddress)
-                        .map(EntityId::of));
+                .or(() -> {
+                    // The entities of a pipelined previous batch are only found once it's committed
+                    parserContext.awaitPrevious();
+                    return entityRepository
+                            .findByEvmAddress(shardNum, realmNum, evmAddress)
+                            .map(EntityId::of);
+                });
 
         if (id.isEmpty() && throwRecoverableError) {
             Utility.handleRecoverableError("Entity not found for EVM address {}", Hex.encodeHexString(evmAddress));
@@ -178,6 +188,7 @@ public class EntityIdServiceImpl implements EntityIdService {
     }
 
     private Optional<EntityId> findByAlias(long shard, long realm, byte[] alias) {
+        parserContext.awaitPrevious();
         return entityRepository.findByAlias(shard, realm, alias).map(EntityId::of);
     }
 
@@ -7,15 +7,19 @@ import jakarta.inject.Named;
 import java.io.Closeable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.SneakyThrows;
 import org.hiero.mirror.common.domain.StreamFile;
@@ -34,8 +38,8 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
     private final ExecutorService executorService;
 
     BatchStreamFileNotifier(AccountBalanceFileParser accountBalanceFileParser, RecordFileParser recordFileParser) {
-        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser);
-        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser);
+        balanceStreamFileSubscriber = new StreamFileSubscriber(accountBalanceFileParser, null);
+        recordStreamFileSubscriber = new StreamFileSubscriber(recordFileParser, recordFileParser::submit);
         executorService = Executors.newFixedThreadPool(2);
         executorService.execute(balanceStreamFileSubscriber);
         executorService.execute(recordStreamFileSubscriber);
@@ -61,23 +65,34 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
 
     private class StreamFileSubscriber implements Runnable {
 
-        private final Collection<StreamFile<?>> buffer;
+        private final List<StreamFile<?>> buffer;
         private final AtomicLong files;
         private final AtomicLong items;
         private final AtomicReference<Instant> lastFlush;
+        private final boolean pipelined;
         private final BatchProperties properties;
         private final BlockingQueue<StreamFile<?>> queue;
         private final StreamFileParser<StreamFile<?>> streamFileParser;
+        private final Deque<Submission> submissions;
+        private final Function<List<StreamFile<?>>, CompletableFuture<Void>> submitter;
 
+        /**
+         * @param streamFileParser to parse the stream files with
+         * @param submitter        to submit the stream files to when pipelined or null if the parser can't pipeline
+         */
         @SuppressWarnings("unchecked")
-        StreamFileSubscriber(StreamFileParser<? extends StreamFile<?>> streamFileParser) {
+        <T extends StreamFile<?>> StreamFileSubscriber(
+                StreamFileParser<T> streamFileParser, Function<List<T>, CompletableFuture<Void>> submitter) {
             this.buffer = new ArrayList<>(); // Un-synchronized since only one thread reads and writes from it
             this.files = new AtomicLong(0L);
             this.items = new AtomicLong(0L);
             this.lastFlush = new AtomicReference<>(Instant.now());
+            this.pipelined = submitter != null && streamFileParser.getProperties().isPipelined();
             this.properties = streamFileParser.getProperties().getBatch();
             this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
             this.streamFileParser = (StreamFileParser<StreamFile<?>>) streamFileParser;
+            this.submissions = new ArrayDeque<>();
+            this.submitter = submitter != null ? s -> submitter.apply((List<T>) s) : null;
         }
 
         @SneakyThrows
@@ -106,7 +121,7 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             if (streamFile == null) {
                 // Handle the corner case where we don't receive a new file for some time to trigger a flush
                 if (!buffer.isEmpty() && exceedsInterval()) {
-                    streamFileParser.parse(new ArrayList<>(buffer));
+                    parse(new ArrayList<>(buffer));
                     reset();
                 }
                 return;
@@ -118,16 +133,52 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             }
 
             // Flush the buffer, optimizing for the single item scenario
-            if (buffer.isEmpty()) {
+            if (buffer.isEmpty() && !pipelined) {
                 streamFileParser.parse(streamFile);
             } else {
                 buffer.add(streamFile);
-                streamFileParser.parse(new ArrayList<>(buffer));
+                parse(new ArrayList<>(buffer));
             }
 
             reset();
         }
 
+        private void parse(List<StreamFile<?>> streamFiles) {
+            if (pipelined) {
+                submit(streamFiles);
+            } else {
+                streamFileParser.parse(streamFiles);
+            }
+        }
+
+        /**
+         * Submits the stream files to be parsed while keeping the files of the batches still persisting, so they're
+         * parsed again along with the buffered files if persisting them fails.
+         */
+        private void submit(List<StreamFile<?>> streamFiles) {
+            while (!submissions.isEmpty() && isCommitted(submissions.peekFirst())) {
+                submissions.removeFirst();
+            }
+
+            try {
+                var committed = submitter.apply(streamFiles);
+                submissions.addLast(new Submission(streamFiles, committed));
+            } catch (Exception e) {
+                var failed = new ArrayList<StreamFile<?>>();
+                submissions.stream()
+                        .filter(s -> !isCommitted(s))
+                        .forEach(s -> failed.addAll(s.streamFiles()));
+                submissions.clear();
+                buffer.addAll(0, failed);
+                throw e;
+            }
+        }
+
+        private boolean isCommitted(Submission submission) {
+            var committed = submission.committed();
+            return committed.isDone() && !committed.isCompletedExceptionally();
+        }
+
         /**
          * Determines whether the given stream file should trigger a flush of its buffer. The stream file triggering the
          * flush will be included within the batch.
@@ -170,4 +221,6 @@ final class BatchStreamFileNotifier implements StreamFileNotifier, Closeable {
             lastFlush.set(Instant.now());
         }
     }
+
+    private record Submission(List<StreamFile<?>> streamFiles, CompletableFuture<Void> committed) {}
 }
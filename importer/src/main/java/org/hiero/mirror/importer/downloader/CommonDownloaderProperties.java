@@ -4,6 +4,8 @@ package org.hiero.mirror.importer.downloader;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -58,6 +60,10 @@ public class CommonDownloaderProperties {
 
     private String gcpProjectId;
 
+    @NotNull
+    @Valid
+    private HedgeProperties hedge = new HedgeProperties();
+
     @Min(2L)
     private long maxSize = 50L * 1024L * 1024L; // 50 MiB
 
@@ -70,6 +76,9 @@ public class CommonDownloaderProperties {
 
     private String pathPrefix = "";
 
+    @Min(1)
+    private int prefetch = 4;
+
     private String region = "us-east-1";
 
     private String secretKey;
@@ -136,6 +145,20 @@ public class CommonDownloaderProperties {
                 : HederaNetwork.isAllowAnonymousAccess(importerProperties.getNetwork());
     }
 
+    @Data
+    public static class HedgeProperties {
+
+        private boolean enabled = false;
+
+        @DurationMin(millis = 1)
+        @NotNull
+        private Duration minDelay = Duration.ofMillis(100L);
+
+        @DecimalMax("1.0")
+        @DecimalMin(value = "0.0", inclusive = false)
+        private double percentile = 0.95;
+    }
+
     public enum PathType {
         ACCOUNT_ID,
         AUTO,
@@ -11,25 +11,34 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Sets;
 import com.google.common.collect.TreeMultimap;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.hiero.mirror.common.domain.StreamFile;
 import org.hiero.mirror.common.domain.StreamItem;
@@ -41,6 +50,7 @@ import org.hiero.mirror.importer.config.DateRangeCalculator;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFileSignature;
 import org.hiero.mirror.importer.domain.StreamFilename;
+import org.hiero.mirror.importer.downloader.provider.NodeStreamFileData;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.downloader.provider.TransientProviderException;
 import org.hiero.mirror.importer.exception.FileOperationException;
@@ -53,6 +63,7 @@ import org.hiero.mirror.importer.util.Utility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem> {
@@ -91,6 +102,8 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
     // Metrics
     private final MeterRegistry meterRegistry;
     private final Map<Long, Counter> nodeSignatureStatusMetricMap = new ConcurrentHashMap<>();
+    private final AtomicInteger prefetchInFlight = new AtomicInteger(0);
+    private final AtomicInteger prefetchQueueDepth = new AtomicInteger(0);
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
     private final Timer streamCloseMetric;
@@ -141,6 +154,16 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamVerificationMetric = Timer.builder("hiero.mirror.importer.stream.verification")
                 .description("The duration in seconds it took to verify consensus and hash chain of a stream file")
                 .tag("type", streamType.toString());
+
+        Gauge.builder("hiero.mirror.importer.stream.prefetch.inflight", prefetchInFlight, AtomicInteger::get)
+                .description("The number of data files currently being fetched ahead of verification")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
+
+        Gauge.builder("hiero.mirror.importer.stream.prefetch.queue", prefetchQueueDepth, AtomicInteger::get)
+                .description("The number of signature groups in the read-ahead window waiting to be verified")
+                .tag("type", streamType.toString())
+                .register(meterRegistry);
     }
 
     public abstract void download();
@@ -184,6 +207,16 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         streamFile.setIndex(index);
     }
 
+    /**
+     * Reads the downloaded stream file data into a stream file.
+     *
+     * @param streamFileData the stream file data
+     * @return the stream file
+     */
+    protected T read(StreamFileData streamFileData) {
+        return streamFileReader.read(streamFileData);
+    }
+
     Multimap<StreamFilename, StreamFileSignature> getStreamFileSignatureMultiMap() {
         // The custom comparator ensures there is no duplicate key-value pairs and randomly sorts the values associated
         // with the same key
@@ -270,6 +303,11 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
      * file. (3) compare the hash of data file with Hash which has been agreed on by valid signatures, if match, move
      * the data file into `valid` directory; else download the data file from other valid node folder and compare the
      * hash until we find a match.
+     * <p>
+     * Up to {@link CommonDownloaderProperties#getPrefetch()} signature groups are verified ahead of the group being
+     * processed and their data files are fetched concurrently. The data files are still read, verified against the
+     * hash chain and notified strictly in filename order. Nothing is prefetched past the first group after the end
+     * date, since verifying that group disables the downloader.
      *
      * @param sigFilesMap signature files grouped by filename
      */
@@ -278,57 +316,163 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         var nodeIds = consensusNodeService.getNodes().stream()
                 .map(ConsensusNode::getNodeId)
                 .collect(Collectors.toSet());
+        int prefetch = downloaderProperties.getCommon().getPrefetch();
+        Instant endDate = importerProperties.getEndDate();
+        Deque<PendingStreamFile> pending = new ArrayDeque<>(prefetch);
+        SignatureVerificationException failure = null;
+        boolean pastEndDate = false;
 
-        for (var sigFilenameIter = sigFilesMap.keySet().iterator(); sigFilenameIter.hasNext(); ) {
-            if (ShutdownHelper.isStopping()) {
-                return;
-            }
+        try {
+            for (var sigFilenameIter = sigFilesMap.keySet().iterator();
+                    (!pastEndDate && sigFilenameIter.hasNext()) || !pending.isEmpty(); ) {
+                if (ShutdownHelper.isStopping()) {
+                    return;
+                }
 
-            Instant startTime = Instant.now();
-            var sigFilename = sigFilenameIter.next();
-            var signatures = sigFilesMap.get(sigFilename);
+                // Fill the read-ahead window with signature groups whose data files are being fetched
+                while (!pastEndDate && pending.size() < prefetch && sigFilenameIter.hasNext()) {
+                    var sigFilename = sigFilenameIter.next();
+                    var signatures = sigFilesMap.get(sigFilename);
+
+                    try {
+                        var pendingStreamFile = prefetch(signatures, nodeIds, sigFilenameIter.hasNext());
+                        if (pendingStreamFile != null) {
+                            pending.add(pendingStreamFile);
+                            pastEndDate = sigFilename.getInstant().isAfter(endDate);
+                        }
+                    } catch (SignatureVerificationException e) {
+                        // Only thrown for the last group, so defer it until the groups before it are processed
+                        failure = e;
+                    }
+                }
 
-            try {
-                nodeSignatureVerifier.verify(signatures);
-            } catch (SignatureVerificationException ex) {
-                var statusMapMessage = statusMap(signatures, nodeIds);
-                if (sigFilenameIter.hasNext()) {
-                    log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                prefetchQueueDepth.set(pending.size());
+                var pendingStreamFile = pending.poll();
+                if (pendingStreamFile == null) {
                     continue;
                 }
 
-                throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
+                Instant startTime = Instant.now();
+                boolean valid = verifySignatures(pendingStreamFile);
+                if (!valid) {
+                    log.error(
+                            "None of the data files could be verified, signatures: {}",
+                            pendingStreamFile.signatures());
+                }
+
+                streamVerificationMetric
+                        .tag("success", String.valueOf(valid))
+                        .register(meterRegistry)
+                        .record(pendingStreamFile.signatureDuration().plus(Duration.between(startTime, Instant.now())));
             }
 
-            boolean valid = verifySignatures(signatures);
-            if (!valid) {
-                log.error("None of the data files could be verified, signatures: {}", signatures);
+            if (failure != null) {
+                throw failure;
+            }
+        } finally {
+            pending.forEach(PendingStreamFile::cancel);
+            prefetchQueueDepth.set(0);
+        }
+    }
+
+    /**
+     * Verifies the node signatures of a signature group and starts fetching the data file from the first node that
+     * reached consensus.
+     *
+     * @param signatures the signatures with the same filename
+     * @param nodeIds    the ids of all consensus nodes
+     * @param hasNext    whether there are more signature groups after this one
+     * @return the pending stream file, or null if the group should be skipped
+     */
+    private PendingStreamFile prefetch(Collection<StreamFileSignature> signatures, Set<Long> nodeIds, boolean hasNext) {
+        Instant startTime = Instant.now();
+
+        try {
+            nodeSignatureVerifier.verify(signatures);
+        } catch (SignatureVerificationException ex) {
+            var statusMapMessage = statusMap(signatures, nodeIds);
+            if (hasNext) {
+                log.warn("{}. Trying next group: {}", ex.getMessage(), statusMapMessage);
+                return null;
             }
 
-            streamVerificationMetric
-                    .tag("success", String.valueOf(valid))
-                    .register(meterRegistry)
-                    .record(Duration.between(startTime, Instant.now()));
+            throw new SignatureVerificationException(ex.getMessage() + ": " + statusMapMessage);
         }
+
+        var signatureDuration = Duration.between(startTime, Instant.now());
+        var consensusSignatures = getConsensusSignatures(signatures);
+
+        if (consensusSignatures.isEmpty()) {
+            return new PendingStreamFile(signatures, signatureDuration, null, null);
+        }
+
+        var streamFileData = Mono.defer(() -> getDataFile(consensusSignatures))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnSubscribe(s -> prefetchInFlight.incrementAndGet())
+                .doFinally(s -> prefetchInFlight.decrementAndGet())
+                .toFuture();
+        return new PendingStreamFile(signatures, signatureDuration, consensusSignatures.getFirst(), streamFileData);
+    }
+
+    private List<StreamFileSignature> getConsensusSignatures(Collection<StreamFileSignature> signatures) {
+        return signatures.stream()
+                .filter(s -> s.getStatus() == SignatureStatus.CONSENSUS_REACHED)
+                .toList();
+    }
+
+    /**
+     * Downloads the data file corresponding to the first signature. When hedging is enabled, the download is hedged
+     * across the nodes of the rest of the signatures so the data file may come from any of them.
+     */
+    private Mono<NodeStreamFileData> getDataFile(List<StreamFileSignature> signatures) {
+        var signature = signatures.getFirst();
+
+        if (!downloaderProperties.getCommon().getHedge().isEnabled() || signatures.size() == 1) {
+            var node = signature.getNode();
+            return streamFileProvider
+                    .get(node, signature.getDataFilename())
+                    .map(streamFileData -> new NodeStreamFileData(node, streamFileData));
+        }
+
+        var dataFilenames = new HashMap<Long, StreamFilename>();
+        var nodes = new ArrayList<ConsensusNode>(signatures.size());
+        for (var s : signatures) {
+            dataFilenames.put(s.getNode().getNodeId(), s.getDataFilename());
+            nodes.add(s.getNode());
+        }
+
+        return streamFileProvider.get(nodes, node -> dataFilenames.get(node.getNodeId()));
     }
 
-    private boolean verifySignatures(Collection<StreamFileSignature> signatures) {
+    private boolean verifySignatures(PendingStreamFile pendingStreamFile) {
         Instant endDate = importerProperties.getEndDate();
+        var signatures = pendingStreamFile.signatures();
+        // Ignore signatures that didn't validate or weren't in the majority
+        var consensusSignatures = getConsensusSignatures(signatures);
+        var failedNodeIds = new HashSet<Long>();
+
+        for (int i = 0; i < consensusSignatures.size(); i++) {
+            var signature = consensusSignatures.get(i);
+            var nodeId = signature.getNode().getNodeId();
 
-        for (var signature : signatures) {
-            // Ignore signatures that didn't validate or weren't in the majority
-            if (signature.getStatus() != StreamFileSignature.SignatureStatus.CONSENSUS_REACHED) {
+            if (failedNodeIds.contains(nodeId)) {
                 continue;
             }
 
-            var nodeId = signature.getNode().getNodeId();
-
             try {
+                var remaining = consensusSignatures.subList(i, consensusSignatures.size()).stream()
+                        .filter(s -> !failedNodeIds.contains(s.getNode().getNodeId()))
+                        .toList();
+                var response = Objects.requireNonNull(
+                        pendingStreamFile.get(signature, () -> getDataFile(remaining)).block());
+
+                // A hedged download may have come from the node of another signature
+                var node = response.node();
+                nodeId = node.getNodeId();
+                signature = getSignature(remaining, nodeId);
                 var dataFilename = signature.getDataFilename();
-                var node = signature.getNode();
-                var streamFileData = Objects.requireNonNull(
-                        streamFileProvider.get(node, dataFilename).block());
-                T streamFile = streamFileReader.read(streamFileData);
+                var streamFileData = response.streamFileData();
+                T streamFile = read(streamFileData);
                 streamFile.setNodeId(nodeId);
 
                 verify(streamFile, signature);
@@ -357,12 +501,14 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 onVerified(streamFileData, streamFile, node);
                 return true;
             } catch (FileOperationException | HashMismatchException | TransientProviderException e) {
+                failedNodeIds.add(nodeId);
                 log.warn(
                         "Failed processing signature from node {} corresponding to {}. Will retry another node: {}",
                         nodeId,
                         signature.getFilename(),
                         e.getMessage());
             } catch (Exception e) {
+                failedNodeIds.add(nodeId);
                 log.error(
                         "Error downloading data file from node {} corresponding to {}. Will retry another node",
                         nodeId,
@@ -374,6 +520,13 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
         return false;
     }
 
+    private StreamFileSignature getSignature(List<StreamFileSignature> signatures, long nodeId) {
+        return signatures.stream()
+                .filter(s -> s.getNode().getNodeId() == nodeId)
+                .findFirst()
+                .orElseThrow();
+    }
+
     @SuppressWarnings({"unchecked", "java:S1172"}) // Unused Parameter (node) required by subclass implementations
     protected void onVerified(StreamFileData streamFileData, T streamFile, ConsensusNode node) {
         setStreamFileIndex(streamFile);
@@ -517,4 +670,28 @@ public abstract class Downloader<T extends StreamFile<I>, I extends StreamItem>
                 totalStake);
         return nodes.subList(0, lastEntry);
     }
+
+    /**
+     * A signature group in the read-ahead window along with the in-flight fetch of its data file starting with the
+     * first node that reached consensus.
+     */
+    private record PendingStreamFile(
+            Collection<StreamFileSignature> signatures,
+            Duration signatureDuration,
+            StreamFileSignature prefetched,
+            CompletableFuture<NodeStreamFileData> streamFileData) {
+
+        /**
+         * Returns the prefetched data file if it was fetched for the given signature, otherwise fetches it on demand.
+         */
+        Mono<NodeStreamFileData> get(StreamFileSignature signature, Supplier<Mono<NodeStreamFileData>> fetcher) {
+            return signature == prefetched ? Mono.fromFuture(streamFileData) : fetcher.get();
+        }
+
+        void cancel() {
+            if (streamFileData != null) {
+                streamFileData.cancel(true);
+            }
+        }
+    }
 }
@@ -31,13 +31,12 @@ abstract class AbstractBlockStreamSource implements BlockStreamSource {
                 .orElse(GENESIS_BLOCK_NUMBER);
     }
 
-    protected final BlockFile onBlockStream(BlockStream blockStream) {
+    protected final BlockFile readBlockStream(BlockStream blockStream) {
         var blockFile = blockStreamReader.read(blockStream);
         if (!properties.isPersistBytes()) {
             blockFile.setBytes(null);
         }
 
-        blockStreamVerifier.verify(blockFile);
         return blockFile;
     }
 }
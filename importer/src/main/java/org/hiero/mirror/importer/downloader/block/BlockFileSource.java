@@ -3,22 +3,39 @@
 package org.hiero.mirror.importer.downloader.block;
 
 import com.google.common.base.Stopwatch;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.UnsafeByteOperations;
+import com.google.protobuf.WireFormat;
 import com.hedera.hapi.block.stream.protoc.Block;
+import com.hedera.hapi.block.stream.protoc.BlockItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.hiero.mirror.common.domain.StreamType;
+import org.hiero.mirror.common.domain.transaction.BlockFile;
 import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.addressbook.ConsensusNodeService;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.downloader.CommonDownloaderProperties;
+import org.hiero.mirror.importer.downloader.provider.NodeStreamFileData;
 import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.exception.BlockStreamException;
 import org.hiero.mirror.importer.reader.block.BlockStream;
@@ -26,14 +43,24 @@ import org.hiero.mirror.importer.reader.block.BlockStreamReader;
 import org.hiero.mirror.importer.util.Utility;
 
 @Named
-final class BlockFileSource extends AbstractBlockStreamSource {
+final class BlockFileSource extends AbstractBlockStreamSource implements Closeable {
+
+    private static final int BLOCK_ITEMS_TAG = (Block.ITEMS_FIELD_NUMBER << 3) | WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    private static final int MAX_PROBE_INTERVAL = 64;
 
     private final ConsensusNodeService consensusNodeService;
+    private final ExecutorService executor;
+    private final Deque<PrefetchedBlock> pending = new ConcurrentLinkedDeque<>();
     private final StreamFileProvider streamFileProvider;
+    private int lookAhead; // The number of blocks to fetch ahead of the block being verified
+    private int probeInterval = 1; // The number of blocks to verify before fetching ahead again after a miss
+    private int untilProbe = 1;
 
     // metrics
     private final Timer cloudStorageLatencyMetric;
     private final Timer downloadLatencyMetric;
+    private final Counter prefetchHitMetric;
+    private final Counter prefetchMissMetric;
 
     BlockFileSource(
             BlockStreamReader blockStreamReader,
@@ -46,6 +73,7 @@ final class BlockFileSource extends AbstractBlockStreamSource {
         super(blockStreamReader, blockStreamVerifier, commonDownloaderProperties, properties);
         this.consensusNodeService = consensusNodeService;
         this.streamFileProvider = streamFileProvider;
+        this.executor = Executors.newFixedThreadPool(properties.getPrefetch());
 
         cloudStorageLatencyMetric = Timer.builder("hiero.mirror.importer.cloud.latency")
                 .description("The difference in time between the consensus time of the last transaction in the file "
@@ -58,44 +86,180 @@ final class BlockFileSource extends AbstractBlockStreamSource {
                         + "and the time at which the file was downloaded and verified")
                 .tag("type", StreamType.BLOCK.toString())
                 .register(meterRegistry);
+
+        var prefetchMetric = Counter.builder("hiero.mirror.importer.block.prefetch")
+                .description("The number of blocks taken from the look-ahead window by whether they were already "
+                        + "downloaded and read");
+        prefetchHitMetric = prefetchMetric.tag("hit", "true").register(meterRegistry);
+        prefetchMissMetric = prefetchMetric.tag("hit", "false").register(meterRegistry);
+
+        Gauge.builder("hiero.mirror.importer.block.prefetch.ahead", pending, BlockFileSource::getReadyCount)
+                .description("The number of blocks downloaded and read ahead of the block being verified")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.close();
     }
 
     @Override
     public void get() {
         long blockNumber = getNextBlockNumber();
+
+        if (properties.getPrefetch() > 1 && getPrefetched(blockNumber)) {
+            return;
+        }
+
         var nodes = getRandomizedNodes();
         var stopwatch = Stopwatch.createStarted();
         var streamFilename = StreamFilename.from(blockNumber);
         var filename = streamFilename.getFilename();
-        var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
         var timeout = commonDownloaderProperties.getTimeout();
 
+        if (commonDownloaderProperties.getHedge().isEnabled()) {
+            var response = download(nodes, streamFilename, timeout);
+            long nodeId = response.node().getNodeId();
+
+            try {
+                onFetchedBlock(read(response.streamFileData(), nodeId));
+                return;
+            } catch (Throwable t) {
+                log.error("Failed to process block file {} from node {}", filename, nodeId, t);
+            }
+
+            timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
+        }
+
         for (int i = 0; i < nodes.size() && timeout.isPositive(); i++) {
             var node = nodes.get(i);
-            long nodeId = node.getNodeId();
 
             try {
-                var blockFileData = streamFileProvider
-                        .get(node, streamFilename)
-                        .blockOptional(timeout)
-                        .orElseThrow();
-                log.debug("Downloaded block file {} from node {}", filename, nodeId);
+                onFetchedBlock(fetch(node, streamFilename, timeout));
+                return;
+            } catch (Throwable t) {
+                log.error("Failed to process block file {} from node {}", filename, node.getNodeId(), t);
+            }
 
-                var blockStream = getBlockStream(blockFileData, nodeId);
-                var blockFile = onBlockStream(blockStream);
+            timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
+        }
 
-                var cloudStorageTime = blockFileData.getLastModified();
-                var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
-                cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
-                downloadLatencyMetric.record(Duration.between(consensusEnd, Instant.now()));
+        throw new BlockStreamException("Failed to download block file " + filename);
+    }
 
-                if (properties.isWriteFiles()) {
-                    Utility.archiveFile(blockFileData.getFilePath(), blockStream.bytes(), streamPath);
-                }
+    /**
+     * Verifies the block from the head of the look-ahead window while the blocks ahead of it are downloaded and read
+     * concurrently, then refills the window. The window only grows while the blocks fetched ahead
+     * turn out to be available. Once one isn't, nothing is fetched ahead until a growing number of blocks have been
+     * verified, so the importer doesn't repeatedly request blocks past the latest one.
+     *
+     * @param blockNumber the block number the verifier expects next
+     * @return whether the block was verified, false if it should be downloaded again from each node in turn
+     */
+    private boolean getPrefetched(long blockNumber) {
+        var head = pending.peekFirst();
+        if (head != null && head.blockNumber() != blockNumber) {
+            clearPending();
+        }
 
-                return;
-            } catch (Throwable t) {
-                log.error("Failed to process block file {} from node {}", filename, nodeId, t);
+        boolean ahead = !pending.isEmpty();
+        if (!ahead) {
+            pending.addLast(prefetch(blockNumber));
+        }
+
+        var future = pending.removeFirst().future();
+        (future.isDone() ? prefetchHitMetric : prefetchMissMetric).increment();
+
+        FetchedBlock fetchedBlock;
+        try {
+            fetchedBlock = future.join();
+        } catch (CancellationException | CompletionException e) {
+            clearPending();
+
+            if (ahead) {
+                lookAhead = 0;
+                probeInterval = Math.min(probeInterval * 2, MAX_PROBE_INTERVAL);
+                untilProbe = probeInterval;
+            }
+
+            throw new BlockStreamException(
+                    "Failed to download block file " + BlockFile.getBlockStreamFilename(blockNumber), e);
+        }
+
+        try {
+            onFetchedBlock(fetchedBlock);
+        } catch (Exception e) {
+            log.error(
+                    "Failed to process block file {} from node {}",
+                    fetchedBlock.blockStream().filename(),
+                    fetchedBlock.blockStream().nodeId(),
+                    e);
+            clearPending();
+            return false;
+        }
+
+        if (ahead) {
+            lookAhead = Math.min(Math.max(lookAhead * 2, 1), properties.getPrefetch() - 1);
+            probeInterval = 1;
+        } else if (lookAhead == 0 && --untilProbe <= 0) {
+            lookAhead = 1;
+        }
+
+        fillPending(blockNumber + 1);
+        return true;
+    }
+
+    private void clearPending() {
+        PrefetchedBlock prefetchedBlock;
+        while ((prefetchedBlock = pending.pollFirst()) != null) {
+            prefetchedBlock.future().cancel(false);
+        }
+    }
+
+    private void fillPending(long blockNumber) {
+        var last = pending.peekLast();
+        long next = last != null ? last.blockNumber() + 1 : blockNumber;
+
+        while (pending.size() < lookAhead) {
+            pending.addLast(prefetch(next++));
+        }
+    }
+
+    private PrefetchedBlock prefetch(long blockNumber) {
+        return new PrefetchedBlock(blockNumber, CompletableFuture.supplyAsync(() -> fetch(blockNumber), executor));
+    }
+
+    private FetchedBlock fetch(long blockNumber) {
+        var nodes = getRandomizedNodes();
+        var stopwatch = Stopwatch.createStarted();
+        var streamFilename = StreamFilename.from(blockNumber);
+        var filename = streamFilename.getFilename();
+        var timeout = commonDownloaderProperties.getTimeout();
+
+        if (commonDownloaderProperties.getHedge().isEnabled()) {
+            var response = download(nodes, streamFilename, timeout);
+
+            try {
+                return read(response.streamFileData(), response.node().getNodeId());
+            } catch (Exception e) {
+                log.debug(
+                        "Failed to prefetch block file {} from node {}: {}",
+                        filename,
+                        response.node().getNodeId(),
+                        e.getMessage());
+            }
+
+            timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
+        }
+
+        for (int i = 0; i < nodes.size() && timeout.isPositive(); i++) {
+            var node = nodes.get(i);
+
+            try {
+                return fetch(node, streamFilename, timeout);
+            } catch (Exception e) {
+                log.debug(
+                        "Failed to prefetch block file {} from node {}: {}", filename, node.getNodeId(), e.getMessage());
             }
 
             timeout = commonDownloaderProperties.getTimeout().minus(stopwatch.elapsed());
@@ -104,17 +268,96 @@ final class BlockFileSource extends AbstractBlockStreamSource {
         throw new BlockStreamException("Failed to download block file " + filename);
     }
 
+    private FetchedBlock fetch(ConsensusNode node, StreamFilename streamFilename, Duration timeout)
+            throws IOException {
+        long nodeId = node.getNodeId();
+        var blockFileData = streamFileProvider
+                .get(node, streamFilename)
+                .blockOptional(timeout)
+                .orElseThrow();
+        log.debug("Downloaded block file {} from node {}", streamFilename.getFilename(), nodeId);
+        return read(blockFileData, nodeId);
+    }
+
+    /**
+     * Downloads the block file from whichever node provides it first, hedging slow requests across the nodes.
+     */
+    private NodeStreamFileData download(List<ConsensusNode> nodes, StreamFilename streamFilename, Duration timeout) {
+        var filename = streamFilename.getFilename();
+
+        try {
+            var response = streamFileProvider
+                    .get(nodes, node -> streamFilename)
+                    .blockOptional(timeout)
+                    .orElseThrow();
+            log.debug("Downloaded block file {} from node {}", filename, response.node().getNodeId());
+            return response;
+        } catch (Exception e) {
+            throw new BlockStreamException("Failed to download block file " + filename, e);
+        }
+    }
+
+    private FetchedBlock read(StreamFileData blockFileData, long nodeId) throws IOException {
+        var blockStream = getBlockStream(blockFileData, nodeId);
+        return new FetchedBlock(blockFileData, blockStream, readBlockStream(blockStream));
+    }
+
+    private void onFetchedBlock(FetchedBlock fetchedBlock) {
+        var blockFile = fetchedBlock.blockFile();
+        var blockFileData = fetchedBlock.blockFileData();
+        blockStreamVerifier.verify(blockFile);
+
+        var cloudStorageTime = blockFileData.getLastModified();
+        var consensusEnd = Instant.ofEpochSecond(0, blockFile.getConsensusEnd());
+        cloudStorageLatencyMetric.record(Duration.between(consensusEnd, cloudStorageTime));
+        downloadLatencyMetric.record(Duration.between(consensusEnd, Instant.now()));
+
+        if (properties.isWriteFiles()) {
+            var streamPath = commonDownloaderProperties.getImporterProperties().getStreamPath();
+            Utility.archiveFile(blockFileData.getFilePath(), fetchedBlock.blockStream().bytes(), streamPath);
+        }
+    }
+
+    /**
+     * Parses the block items while keeping a zero-copy slice of each item's original bytes so the block root hash can be
+     * computed without serializing the block items again.
+     */
     private BlockStream getBlockStream(StreamFileData blockFileData, long nodeId) throws IOException {
-        try (var inputStream = blockFileData.getInputStream()) {
-            var block = Block.parseFrom(inputStream);
-            byte[] bytes = blockFileData.getBytes();
-            return new BlockStream(
-                    block.getItemsList(),
-                    bytes,
-                    blockFileData.getFilename(),
-                    blockFileData.getStreamFilename().getTimestamp(),
-                    nodeId);
+        byte[] decompressedBytes = blockFileData.getDecompressedBytes();
+        var input = CodedInputStream.newInstance(decompressedBytes);
+        var blockItems = new ArrayList<BlockItem>();
+        var blockItemBytes = new ArrayList<ByteString>();
+        int tag;
+
+        while ((tag = input.readTag()) != 0) {
+            if (tag != BLOCK_ITEMS_TAG) {
+                input.skipField(tag);
+                continue;
+            }
+
+            int length = input.readRawVarint32();
+            var itemBytes = UnsafeByteOperations.unsafeWrap(decompressedBytes, input.getTotalBytesRead(), length);
+            blockItems.add(BlockItem.parseFrom(itemBytes));
+            blockItemBytes.add(itemBytes);
+            input.skipRawBytes(length);
         }
+
+        return new BlockStream(
+                blockItems,
+                blockItemBytes,
+                blockFileData.getBytes(),
+                blockFileData.getFilename(),
+                blockFileData.getStreamFilename().getTimestamp(),
+                nodeId);
+    }
+
+    private static int getReadyCount(Deque<PrefetchedBlock> pending) {
+        int count = 0;
+        for (var prefetchedBlock : pending) {
+            var future = prefetchedBlock.future();
+            count += future.isDone() && !future.isCompletedExceptionally() ? 1 : 0;
+        }
+        return count;
     }
 
     private List<ConsensusNode> getRandomizedNodes() {
@@ -122,4 +365,8 @@ final class BlockFileSource extends AbstractBlockStreamSource {
         Collections.shuffle(nodes);
         return nodes;
     }
+
+    private record FetchedBlock(StreamFileData blockFileData, BlockStream blockStream, BlockFile blockFile) {}
+
+    private record PrefetchedBlock(long blockNumber, CompletableFuture<FetchedBlock> future) {}
 }
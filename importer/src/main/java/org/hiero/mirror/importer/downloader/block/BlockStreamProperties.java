@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.downloader.block;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import lombok.Data;
@@ -24,5 +25,8 @@ public class BlockStreamProperties {
 
     private boolean persistBytes = false;
 
+    @Min(1)
+    private int prefetch = 1;
+
     private boolean writeFiles = false;
 }
@@ -3,14 +3,24 @@
 package org.hiero.mirror.importer.downloader.provider;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import lombok.CustomLog;
 import lombok.Value;
+import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
@@ -27,9 +37,19 @@ import reactor.util.retry.Retry;
 @Primary
 final class CompositeStreamFileProvider implements StreamFileProvider {
 
+    private final Counter hedgeMetric;
+    private final Map<LatencyKey, Timer> latencyMetrics = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final CommonDownloaderProperties properties;
     private final List<ProviderHealth> providers;
 
-    public CompositeStreamFileProvider(CommonDownloaderProperties properties, List<StreamFileProvider> providers) {
+    public CompositeStreamFileProvider(
+            CommonDownloaderProperties properties, MeterRegistry meterRegistry, List<StreamFileProvider> providers) {
+        this.hedgeMetric = Counter.builder("hiero.mirror.importer.stream.hedge")
+                .description("The number of stream file requests duplicated to another node due to a slow response")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
         var providerHealth = new ArrayList<ProviderHealth>();
 
         for (int i = 0; i < providers.size(); ++i) {
@@ -44,9 +64,24 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
     @Override
     public Mono<StreamFileData> get(ConsensusNode consensusNode, StreamFilename streamFilename) {
         var index = new AtomicInteger(0);
-        return Mono.fromSupplier(() -> getProvider(index))
-                .flatMap(p -> p.get(consensusNode, streamFilename))
-                .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.fromSupplier(() -> getProvider(index))
+                    .flatMap(p -> p.get(consensusNode, streamFilename))
+                    .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))))
+                    .doOnNext(d -> getLatencyMetric(consensusNode, streamFilename.getStreamType())
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public Mono<NodeStreamFileData> get(
+            List<ConsensusNode> nodes, Function<ConsensusNode, StreamFilename> streamFilenames) {
+        if (!properties.getHedge().isEnabled() || nodes.isEmpty()) {
+            return StreamFileProvider.super.get(nodes, streamFilenames);
+        }
+
+        return hedge(nodes, 0, streamFilenames);
     }
 
     @Override
@@ -57,6 +92,76 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .retryWhen(Retry.from(s -> s.map(r -> shouldRetry(r, index))));
     }
 
+    /**
+     * Requests the stream file from the node at the index. If the node fails, the next node is requested right away.
+     * If it takes longer than the configured percentile of the node's observed latency, the next node is requested in
+     * parallel and whichever responds first wins.
+     */
+    private Mono<NodeStreamFileData> hedge(
+            List<ConsensusNode> nodes, int index, Function<ConsensusNode, StreamFilename> streamFilenames) {
+        var node = nodes.get(index);
+        var streamFilename = streamFilenames.apply(node);
+        var request = get(node, streamFilename).map(d -> new NodeStreamFileData(node, d));
+
+        if (index + 1 >= nodes.size()) {
+            return request;
+        }
+
+        var started = new AtomicBoolean(false);
+        var delay = getHedgeDelay(node, streamFilename.getStreamType());
+        var primary = request.onErrorResume(e -> hedgeNext(started, false, nodes, index, streamFilenames))
+                .switchIfEmpty(Mono.defer(() -> hedgeNext(started, false, nodes, index, streamFilenames)));
+        var hedged = Mono.delay(delay)
+                .then(Mono.defer(() -> hedgeNext(started, true, nodes, index, streamFilenames)));
+        return Mono.firstWithValue(primary, hedged);
+    }
+
+    // Requests the next node only once, whether due to a failure or a slow response
+    private Mono<NodeStreamFileData> hedgeNext(
+            AtomicBoolean started,
+            boolean slow,
+            List<ConsensusNode> nodes,
+            int index,
+            Function<ConsensusNode, StreamFilename> streamFilenames) {
+        if (!started.compareAndSet(false, true)) {
+            return Mono.empty();
+        }
+
+        if (slow) {
+            hedgeMetric.increment();
+            log.debug(
+                    "Hedging slow request to node {} with node {}",
+                    nodes.get(index).getNodeId(),
+                    nodes.get(index + 1).getNodeId());
+        }
+
+        return hedge(nodes, index + 1, streamFilenames);
+    }
+
+    private Duration getHedgeDelay(ConsensusNode node, StreamType streamType) {
+        var hedgeProperties = properties.getHedge();
+        var minDelay = hedgeProperties.getMinDelay();
+
+        for (var percentile : getLatencyMetric(node, streamType).takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == hedgeProperties.getPercentile()) {
+                var latency = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                return latency.compareTo(minDelay) > 0 ? latency : minDelay;
+            }
+        }
+
+        return minDelay;
+    }
+
+    private Timer getLatencyMetric(ConsensusNode node, StreamType streamType) {
+        var key = new LatencyKey(node.getNodeId(), streamType);
+        return latencyMetrics.computeIfAbsent(key, k -> Timer.builder("hiero.mirror.importer.stream.node.latency")
+                .description("The time it took to download a stream file from a node")
+                .publishPercentiles(properties.getHedge().getPercentile())
+                .tag("node", String.valueOf(k.nodeId()))
+                .tag("type", k.streamType().toString())
+                .register(meterRegistry));
+    }
+
     // Get the next healthy provider
     private StreamFileProvider getProvider(AtomicInteger index) {
         for (; index.get() < providers.size(); index.getAndIncrement()) {
@@ -97,6 +202,8 @@ final class CompositeStreamFileProvider implements StreamFileProvider {
                 .orElse(false);
     }
 
+    private record LatencyKey(long nodeId, StreamType streamType) {}
+
     @Value
     private class ProviderHealth {
 
@@ -0,0 +1,14 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.downloader.provider;
+
+import org.hiero.mirror.importer.addressbook.ConsensusNode;
+import org.hiero.mirror.importer.domain.StreamFileData;
+
+/**
+ * A stream file along with the consensus node it was downloaded from.
+ *
+ * @param node           the consensus node
+ * @param streamFileData the stream file data
+ */
+public record NodeStreamFileData(ConsensusNode node, StreamFileData streamFileData) {}
@@ -2,6 +2,8 @@
 
 package org.hiero.mirror.importer.downloader.provider;
 
+import java.util.List;
+import java.util.function.Function;
 import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
@@ -21,6 +23,23 @@ public interface StreamFileProvider {
      */
     Mono<StreamFileData> get(ConsensusNode node, StreamFilename streamFilename);
 
+    /**
+     * Fetches a stream file from the first of the nodes able to provide it upon subscription. By default, the nodes are
+     * tried one at a time in order. Implementations may hedge by also requesting the stream file from the next node
+     * when a node is slower to respond than usual, in which case the first response wins and the rest are cancelled.
+     *
+     * @param nodes           the consensus nodes to download from in order of preference
+     * @param streamFilenames a function returning the stream filename to download from a node
+     * @return the downloaded stream file data and the node it came from, wrapped in a Mono
+     */
+    default Mono<NodeStreamFileData> get(
+            List<ConsensusNode> nodes, Function<ConsensusNode, StreamFilename> streamFilenames) {
+        return Flux.fromIterable(nodes)
+                .concatMapDelayError(node -> get(node, streamFilenames.apply(node))
+                        .map(streamFileData -> new NodeStreamFileData(node, streamFileData)))
+                .next();
+    }
+
     /**
      * Lists and downloads signature files for a particular node upon subscription. Uses the provided lastFilename to
      * search for files lexicographically and chronologically after the last confirmed stream file.
@@ -29,6 +29,8 @@ public class RecordDownloaderProperties implements DownloaderProperties {
 
     private boolean persistBytes = false;
 
+    private boolean streaming = false;
+
     private boolean writeFiles = false;
 
     private boolean writeSignatures = false;
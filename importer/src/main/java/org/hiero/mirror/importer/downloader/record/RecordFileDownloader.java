@@ -29,6 +29,7 @@ import org.hiero.mirror.importer.leader.Leader;
 import org.hiero.mirror.importer.parser.record.sidecar.SidecarProperties;
 import org.hiero.mirror.importer.reader.record.ProtoRecordFileReader;
 import org.hiero.mirror.importer.reader.record.RecordFileReader;
+import org.hiero.mirror.importer.reader.record.StreamingRecordItems;
 import org.hiero.mirror.importer.reader.record.sidecar.SidecarFileReader;
 import org.hiero.mirror.importer.reader.signature.SignatureFileReader;
 import org.hiero.mirror.importer.util.Utility;
@@ -46,6 +47,8 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
 
     private static final String HASH_TYPE_SIDECAR = "Sidecar";
 
+    private final RecordDownloaderProperties recordDownloaderProperties;
+    private final RecordFileReader recordFileReader;
     private final SidecarFileReader sidecarFileReader;
     private final SidecarProperties sidecarProperties;
 
@@ -74,6 +77,8 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                 streamFileNotifier,
                 streamFileProvider,
                 streamFileReader);
+        this.recordDownloaderProperties = downloaderProperties;
+        this.recordFileReader = streamFileReader;
         this.sidecarFileReader = sidecarFileReader;
         this.sidecarProperties = sidecarProperties;
     }
@@ -91,6 +96,11 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
         super.onVerified(streamFileData, recordFile, node);
     }
 
+    @Override
+    protected RecordFile read(StreamFileData streamFileData) {
+        return recordFileReader.read(streamFileData, recordDownloaderProperties.isStreaming());
+    }
+
     @Override
     protected void setStreamFileIndex(RecordFile recordFile) {
         // Starting from the record stream file v6, the record file index is externalized as the block_number field of
@@ -120,6 +130,12 @@ public class RecordFileDownloader extends Downloader<RecordFile, RecordItem> {
                         ArrayListMultimap::create))
                 .block();
 
+        // Streaming record items are decoded on demand so the sidecar records are attached as they are decoded
+        if (recordFile.getItems() instanceof StreamingRecordItems streamingRecordItems) {
+            streamingRecordItems.setSidecarRecords(records);
+            return;
+        }
+
         recordFile.getItems().forEach(recordItem -> {
             var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
             if (records.containsKey(timestamp)) {
@@ -13,4 +13,8 @@ public class BlockStreamException extends ImporterException {
     public BlockStreamException(String message) {
         super(message);
     }
+
+    public BlockStreamException(String message, Throwable throwable) {
+        super(message, throwable);
+    }
 }
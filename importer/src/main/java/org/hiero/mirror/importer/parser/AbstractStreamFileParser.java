@@ -88,6 +88,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
             }
 
             doParse(streamFile);
+            onParsed(streamFile);
             doFlush(streamFile);
 
             log.info(
@@ -147,6 +148,7 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
                 return;
             }
 
+            onParsed(previous);
             doFlush(previous);
             log.info(
                     "Successfully batch processed {} items from {} files in {}: [{}, {}]",
@@ -171,13 +173,20 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
 
     protected void doFlush(T streamFile) {
         streamFileListener.onEnd(streamFile);
-        last.set(streamFile);
+        setLast(streamFile);
         streamFile.clear();
     }
 
     protected abstract void doParse(T streamFile);
 
-    protected final T getLast() {
+    /**
+     * Invoked once every stream file is parsed and before they're flushed.
+     *
+     * @param streamFile the last parsed stream file
+     */
+    protected void onParsed(T streamFile) {}
+
+    protected T getLast() {
         var latest = last.get();
 
         if (latest != null) {
@@ -187,6 +196,10 @@ public abstract class AbstractStreamFileParser<T extends StreamFile<?>> implemen
         return streamFileRepository.findLatest().orElse(null);
     }
 
+    protected void setLast(T streamFile) {
+        last.set(streamFile);
+    }
+
     private boolean shouldParse(T previous, T current) {
         if (!parserProperties.isEnabled()) {
             return false;
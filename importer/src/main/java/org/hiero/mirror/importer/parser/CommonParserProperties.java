@@ -7,6 +7,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
@@ -40,6 +41,9 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class CommonParserProperties {
 
+    @NotNull
+    private Set<String> binaryCopyTables = new HashSet<>(); // tables to COPY using the binary instead of CSV format
+
     @Min(8192)
     private int bufferSize = 32768; // tested max byte size of buffer used by PGCopyOutputStream
 
@@ -51,6 +55,9 @@ public class CommonParserProperties {
     @Valid
     private Collection<TransactionFilter> include = new ArrayList<>();
 
+    @NotNull
+    private Set<String> sessionTempTables = new HashSet<>(); // upsert tables staged in a per connection temp table
+
     @Getter(lazy = true)
     private final Predicate<TransactionFilterFields> filter = includeFilter().and(excludeFilter());
 
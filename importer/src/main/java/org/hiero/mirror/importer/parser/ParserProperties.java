@@ -18,5 +18,9 @@ public interface ParserProperties {
 
     boolean isEnabled();
 
+    default boolean isPipelined() {
+        return false;
+    }
+
     void setEnabled(boolean enabled);
 }
@@ -18,6 +18,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.common.converter.EntityIdSerializer;
@@ -27,6 +28,7 @@ import org.hiero.mirror.importer.converter.ByteArrayArrayToHexSerializer;
 import org.hiero.mirror.importer.converter.ByteArrayToHexSerializer;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyIn;
 import org.postgresql.copy.PGCopyOutputStream;
@@ -43,6 +45,7 @@ public class BatchInserter implements BatchPersister {
     protected final MeterRegistry meterRegistry;
     protected final String tableName;
 
+    private final BinaryCopyWriter binaryWriter;
     private final Counter rowsMetric;
     private final String sql;
     private final ObjectWriter writer;
@@ -62,6 +65,19 @@ public class BatchInserter implements BatchPersister {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             String tableName) {
+        this(entityClass, dataSource, meterRegistry, properties, tableName, null);
+    }
+
+    /**
+     * Creates a batch inserter that uses the binary COPY format when entity metadata is provided and CSV otherwise.
+     */
+    public BatchInserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            String tableName,
+            @Nullable EntityMetadata entityMetadata) {
         this.dataSource = dataSource;
         this.properties = properties;
         this.meterRegistry = meterRegistry;
@@ -77,12 +93,21 @@ public class BatchInserter implements BatchPersister {
         mapper.configure(CsvGenerator.Feature.ALWAYS_QUOTE_EMPTY_STRINGS, true);
         var schema = mapper.schemaFor(entityClass);
         writer = mapper.writer(schema);
-        String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
-                .map(CsvSchema.Column::getName)
-                .distinct()
-                .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
-                .collect(Collectors.joining(", "));
-        sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+
+        if (entityMetadata != null) {
+            binaryWriter = new BinaryCopyWriter(entityMetadata.getColumns());
+            sql = String.format(
+                    "COPY %s(%s) FROM STDIN WITH (FORMAT binary)", this.tableName, binaryWriter.getColumns());
+        } else {
+            binaryWriter = null;
+            String columnsCsv = Lists.newArrayList(schema.iterator()).stream()
+                    .map(CsvSchema.Column::getName)
+                    .distinct()
+                    .map(name -> CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, name))
+                    .collect(Collectors.joining(", "));
+            sql = String.format("COPY %s(%s) FROM STDIN WITH CSV", this.tableName, columnsCsv);
+        }
+
         var parentTableName = this.tableName.replaceAll("_\\d+$", ""); // Strip _01 shard suffix
         latencyMetric = Timer.builder(LATENCY_METRIC)
                 .description("The time it took to batch insert rows")
@@ -125,7 +150,12 @@ public class BatchInserter implements BatchPersister {
         }
 
         try (var pgCopyOutputStream = new PGCopyOutputStream(copyIn, properties.getBufferSize())) {
-            writer.writeValue(pgCopyOutputStream, items);
+            if (binaryWriter != null) {
+                binaryWriter.write(pgCopyOutputStream, items);
+            } else {
+                writer.writeValue(pgCopyOutputStream, items);
+            }
+
             rowsMetric.increment(items.size());
             latencyMetric.record(stopwatch.elapsed());
         } finally {
@@ -9,15 +9,20 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import org.springframework.util.CollectionUtils;
 
 /**
- * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table
+ * Stateless writer to upsert rows into PostgreSQL using COPY into a temp table then insert and update into final table.
+ * By default, the temp table is a shared unlogged table truncated before every batch. Tables configured as session temp
+ * tables instead use a temporary table that's created once per connection and emptied on commit, which avoids the
+ * exclusive lock and catalog updates of the truncate.
  */
 @CustomLog
 public class BatchUpserter extends BatchInserter {
@@ -33,9 +38,27 @@ public class BatchUpserter extends BatchInserter {
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGenerator upsertQueryGenerator) {
-        super(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator.getTemporaryTableName());
-        tempTableCleanupSql = String.format("truncate table %s restart identity cascade", tableName);
+        this(entityClass, dataSource, meterRegistry, properties, upsertQueryGenerator, null);
+    }
+
+    public BatchUpserter(
+            Class<?> entityClass,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties properties,
+            UpsertQueryGenerator upsertQueryGenerator,
+            @Nullable EntityMetadata entityMetadata) {
+        super(
+                entityClass,
+                dataSource,
+                meterRegistry,
+                properties,
+                upsertQueryGenerator.getTemporaryTableName(),
+                entityMetadata);
         finalTableName = upsertQueryGenerator.getFinalTableName();
+        tempTableCleanupSql = properties.getSessionTempTables().contains(finalTableName)
+                ? sessionTempTableSql(tableName)
+                : String.format("truncate table %s restart identity cascade", tableName);
         upsertSql = upsertQueryGenerator.getUpsertQuery();
         log.trace("Table: {}, Entity: {}, upsertSql:\n{}", finalTableName, entityClass, upsertSql);
         upsertMetric = Timer.builder(LATENCY_METRIC)
@@ -66,6 +89,19 @@ public class BatchUpserter extends BatchInserter {
         }
     }
 
+    /*
+     * The temporary table shadows the shared temp table of the same name, so the COPY and upsert queries don't change.
+     * Creating it is a no-op once it exists on the connection and the delete only finds rows when the table was already
+     * used earlier in the same transaction. Until it exists, the like clause resolves to the shared temp table so it's
+     * created with the same columns and indexes.
+     */
+    private static String sessionTempTableSql(String tempTableName) {
+        return String.format(
+                "create temporary table if not exists %1$s (like %1$s including indexes) on commit delete rows;"
+                        + "delete from %1$s",
+                tempTableName);
+    }
+
     private void cleanupTempTable(Connection connection) throws SQLException {
         try (var preparedStatement = connection.prepareStatement(tempTableCleanupSql)) {
             preparedStatement.execute();
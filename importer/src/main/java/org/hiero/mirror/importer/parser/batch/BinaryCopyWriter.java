@@ -0,0 +1,261 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.batch;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.ClassUtils;
+import org.hiero.mirror.common.domain.entity.EntityId;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+
+/**
+ * Writes domain objects in the PostgreSQL binary COPY format. Each column's encoder is resolved once from the column's
+ * database type so rows are written directly from the domain object's getters without any intermediate strings.
+ */
+final class BinaryCopyWriter {
+
+    private static final byte[] HEADER = {
+        'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0, // Signature
+        0, 0, 0, 0, // Flags
+        0, 0, 0, 0 // Header extension length
+    };
+    private static final int NULL_LENGTH = -1;
+    private static final short TRAILER = -1;
+
+    // Postgres type OIDs of supported array elements
+    private static final int BYTEA_OID = 17;
+    private static final int INT8_OID = 20;
+
+    // Postgres range flags
+    private static final byte RANGE_EMPTY = 0x01;
+    private static final byte RANGE_LB_INC = 0x02;
+    private static final byte RANGE_UB_INC = 0x04;
+    private static final byte RANGE_LB_INF = 0x08;
+    private static final byte RANGE_UB_INF = 0x10;
+
+    private final List<Column> columns;
+
+    BinaryCopyWriter(Collection<ColumnMetadata> columnMetadata) {
+        this.columns = columnMetadata.stream()
+                .map(c -> new Column(c.getName(), c.getGetter(), getEncoder(c)))
+                .toList();
+    }
+
+    /**
+     * Finds the first column whose type can't be written in the binary COPY format.
+     *
+     * @param columnMetadata the columns of the table
+     * @return the unsupported column, or empty if every column is supported
+     */
+    static Optional<ColumnMetadata> findUnsupported(Collection<ColumnMetadata> columnMetadata) {
+        return columnMetadata.stream().filter(c -> encoder(c) == null).findFirst();
+    }
+
+    String getColumns() {
+        return columns.stream().map(Column::name).collect(Collectors.joining(", "));
+    }
+
+    void write(OutputStream outputStream, Collection<?> items) throws IOException {
+        var out = new DataOutputStream(outputStream);
+        out.write(HEADER);
+
+        for (var item : items) {
+            out.writeShort(columns.size());
+
+            for (var column : columns) {
+                var value = column.getter().apply(item);
+
+                if (isNull(value)) {
+                    out.writeInt(NULL_LENGTH);
+                } else {
+                    column.encoder().encode(out, value);
+                }
+            }
+        }
+
+        out.writeShort(TRAILER);
+        out.flush();
+    }
+
+    private static Encoder getEncoder(ColumnMetadata column) {
+        var encoder = encoder(column);
+
+        if (encoder == null) {
+            throw new UnsupportedOperationException("Unsupported binary COPY of %s column %s of type %s"
+                    .formatted(column.getType().getSimpleName(), column.getName(), column.getDataType()));
+        }
+
+        return encoder;
+    }
+
+    // Returns the encoder of the column's Java and database types or null if they aren't supported
+    @SuppressWarnings("java:S1541")
+    private static Encoder encoder(ColumnMetadata column) {
+        var type = ClassUtils.primitiveToWrapper(column.getType());
+        boolean number = Number.class.isAssignableFrom(type);
+
+        return switch (column.getDataType()) {
+            case "bool" -> type == Boolean.class ? BinaryCopyWriter::writeBoolean : null;
+            case "bytea" -> type == byte[].class ? BinaryCopyWriter::writeBytes : null;
+            case "int2" -> number ? BinaryCopyWriter::writeShort : null;
+            case "int4" -> number ? BinaryCopyWriter::writeInt : null;
+            case "int8" -> number || type == EntityId.class ? BinaryCopyWriter::writeLong : null;
+            case "int8range" -> type == Range.class ? BinaryCopyWriter::writeRange : null;
+            case "_bytea" -> type == byte[][].class ? BinaryCopyWriter::writeByteaArray : null;
+            case "_int8" -> List.class.isAssignableFrom(type) ? BinaryCopyWriter::writeInt8Array : null;
+            case "bpchar", "text", "varchar" -> type == String.class ? BinaryCopyWriter::writeString : null;
+            // Postgres enum types are received as their text label
+            default -> type.isEnum() ? (out, v) -> writeString(out, ((Enum<?>) v).name()) : null;
+        };
+    }
+
+    private static void writeBoolean(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(1);
+        out.writeBoolean((Boolean) value);
+    }
+
+    private static void writeBytes(DataOutputStream out, Object value) throws IOException {
+        var bytes = (byte[]) value;
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // An empty entity id is written as null like the CSV format's EntityIdSerializer does
+    private static boolean isNull(Object value) {
+        return value == null || (value instanceof EntityId entityId && EntityId.isEmpty(entityId));
+    }
+
+    private static void writeShort(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Short.BYTES);
+        out.writeShort(((Number) value).shortValue());
+    }
+
+    private static void writeInt(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Integer.BYTES);
+        out.writeInt(((Number) value).intValue());
+    }
+
+    private static void writeLong(DataOutputStream out, Object value) throws IOException {
+        out.writeInt(Long.BYTES);
+        out.writeLong(value instanceof EntityId entityId ? entityId.getId() : ((Number) value).longValue());
+    }
+
+    private static void writeString(DataOutputStream out, Object value) throws IOException {
+        writeBytes(out, value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeRange(DataOutputStream out, Object value) throws IOException {
+        var range = (Range<?>) value;
+
+        if (range.isEmpty()) {
+            out.writeInt(1);
+            out.writeByte(RANGE_EMPTY);
+            return;
+        }
+
+        byte flags = 0;
+        int length = 1;
+
+        if (range.hasLowerBound()) {
+            flags |= range.lowerBoundType() == BoundType.CLOSED ? RANGE_LB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_LB_INF;
+        }
+
+        if (range.hasUpperBound()) {
+            flags |= range.upperBoundType() == BoundType.CLOSED ? RANGE_UB_INC : 0;
+            length += Integer.BYTES + Long.BYTES;
+        } else {
+            flags |= RANGE_UB_INF;
+        }
+
+        out.writeInt(length);
+        out.writeByte(flags);
+
+        if (range.hasLowerBound()) {
+            writeLong(out, range.lowerEndpoint());
+        }
+
+        if (range.hasUpperBound()) {
+            writeLong(out, range.upperEndpoint());
+        }
+    }
+
+    private static void writeByteaArray(DataOutputStream out, Object value) throws IOException {
+        var elements = (byte[][]) value;
+        int length = 0;
+        boolean hasNull = false;
+
+        for (var element : elements) {
+            length += Integer.BYTES + (element != null ? element.length : 0);
+            hasNull |= element == null;
+        }
+
+        writeArrayHeader(out, elements.length, length, hasNull, BYTEA_OID);
+
+        for (var element : elements) {
+            if (element == null) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                writeBytes(out, element);
+            }
+        }
+    }
+
+    private static void writeInt8Array(DataOutputStream out, Object value) throws IOException {
+        var elements = (List<?>) value;
+        int length = 0;
+        boolean hasNull = false;
+
+        for (var element : elements) {
+            boolean isNull = isNull(element);
+            length += Integer.BYTES + (isNull ? 0 : Long.BYTES);
+            hasNull |= isNull;
+        }
+
+        writeArrayHeader(out, elements.size(), length, hasNull, INT8_OID);
+
+        for (var element : elements) {
+            if (isNull(element)) {
+                out.writeInt(NULL_LENGTH);
+            } else {
+                writeLong(out, element);
+            }
+        }
+    }
+
+    private static void writeArrayHeader(DataOutputStream out, int size, int length, boolean hasNull, int oid)
+            throws IOException {
+        if (size == 0) {
+            out.writeInt(3 * Integer.BYTES);
+            out.writeInt(0); // Dimensions
+            out.writeInt(0); // Has nulls
+            out.writeInt(oid);
+            return;
+        }
+
+        out.writeInt(5 * Integer.BYTES + length);
+        out.writeInt(1); // Dimensions
+        out.writeInt(hasNull ? 1 : 0);
+        out.writeInt(oid);
+        out.writeInt(size);
+        out.writeInt(1); // Lower bound
+    }
+
+    @FunctionalInterface
+    private interface Encoder {
+        void encode(DataOutputStream out, Object value) throws IOException;
+    }
+
+    private record Column(String name, Function<Object, Object> getter, Encoder encoder) {}
+}
@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.batch;
 
+import com.google.common.base.CaseFormat;
 import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import jakarta.persistence.Entity;
@@ -10,31 +11,38 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
+import lombok.CustomLog;
 import org.hiero.mirror.common.domain.Upsertable;
 import org.hiero.mirror.common.domain.transaction.TransactionHash;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGenerator;
 import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.core.annotation.AnnotationUtils;
 
+@CustomLog
 @Named
 @Primary
 public class CompositeBatchPersister implements BatchPersister {
 
     private final Map<Class<?>, BatchPersister> batchPersisters = new ConcurrentHashMap<>();
     private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final MeterRegistry meterRegistry;
     private final CommonParserProperties properties;
     private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     public CompositeBatchPersister(
             DataSource dataSource,
+            EntityMetadataRegistry entityMetadataRegistry,
             MeterRegistry meterRegistry,
             CommonParserProperties properties,
             UpsertQueryGeneratorFactory upsertQueryGeneratorFactory,
             Optional<TransactionHashBatchInserter> transactionHashV1BatchPersister) {
         this.dataSource = dataSource;
+        this.entityMetadataRegistry = entityMetadataRegistry;
         this.meterRegistry = meterRegistry;
         this.properties = properties;
         this.upsertQueryGeneratorFactory = upsertQueryGeneratorFactory;
@@ -70,12 +78,38 @@ public class CompositeBatchPersister implements BatchPersister {
 
         if (upsertable != null) {
             UpsertQueryGenerator generator = upsertQueryGeneratorFactory.get(domainClass);
-            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator);
+            var entityMetadata = getBinaryEntityMetadata(domainClass, generator.getFinalTableName());
+            return new BatchUpserter(entityClass, dataSource, meterRegistry, properties, generator, entityMetadata);
         } else {
-            return new BatchInserter(entityClass, dataSource, meterRegistry, properties);
+            var tableName = entityClass.getSimpleName();
+            var entityMetadata = getBinaryEntityMetadata(
+                    entityClass, CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_UNDERSCORE, tableName));
+            return new BatchInserter(entityClass, dataSource, meterRegistry, properties, tableName, entityMetadata);
         }
     }
 
+    // Returns the entity metadata if the table is configured to use binary COPY and all its columns support it
+    private EntityMetadata getBinaryEntityMetadata(Class<?> domainClass, String tableName) {
+        if (!properties.getBinaryCopyTables().contains(tableName)) {
+            return null;
+        }
+
+        var entityMetadata = entityMetadataRegistry.lookupColumns(domainClass);
+        var unsupported = BinaryCopyWriter.findUnsupported(entityMetadata.getColumns());
+
+        if (unsupported.isPresent()) {
+            var column = unsupported.get();
+            log.warn(
+                    "Falling back to CSV COPY for table {} since its column {} of type {} isn't supported",
+                    tableName,
+                    column.getName(),
+                    column.getDataType());
+            return null;
+        }
+
+        return entityMetadata;
+    }
+
     // Finds which parent class has the Entity annotation to get an accurate table name
     private Class<?> getEntityClass(Class<?> domainClass) {
         if (domainClass == null || domainClass == Object.class) {
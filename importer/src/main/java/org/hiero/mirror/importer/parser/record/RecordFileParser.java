@@ -12,18 +12,30 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.Closeable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.hiero.mirror.common.aggregator.LogsBloomAggregator;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
+import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.leader.Leader;
 import org.hiero.mirror.importer.parser.AbstractStreamFileParser;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
@@ -33,16 +45,27 @@ import org.hiero.mirror.importer.util.Utility;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Named
-public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
+public class RecordFileParser extends AbstractStreamFileParser<RecordFile> implements Closeable {
 
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecordItemListener recordItemListener;
     private final DateRangeCalculator dateRangeCalculator;
     private final ParserContext parserContext;
 
+    // Pipelining
+    private final Deque<Submission> submissions = new ArrayDeque<>();
+    private final ThreadLocal<Submission> current = new ThreadLocal<>();
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final RetryTemplate retryTemplate;
+    private final TransactionTemplate transactionTemplate;
+
     // Metrics
     private final Map<Integer, Timer> latencyMetrics;
     private final Map<Integer, DistributionSummary> sizeMetrics;
@@ -58,13 +81,28 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
             RecordItemListener recordItemListener,
             RecordStreamFileListener recordStreamFileListener,
             DateRangeCalculator dateRangeCalculator,
-            ParserContext parserContext) {
+            ParserContext parserContext,
+            PlatformTransactionManager transactionManager) {
         super(meterRegistry, parserProperties, recordStreamFileListener, streamFileRepository);
         this.applicationEventPublisher = applicationEventPublisher;
         this.recordItemListener = recordItemListener;
         this.dateRangeCalculator = dateRangeCalculator;
         this.parserContext = parserContext;
 
+        var retry = parserProperties.getRetry();
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(Math.max(retry.getMaxAttempts(), 1))
+                .exponentialBackoff(
+                        retry.getMinBackoff().toMillis(),
+                        retry.getMultiplier(),
+                        retry.getMaxBackoff().toMillis())
+                .notRetryOn(List.of(CancellationException.class, OutOfMemoryError.class))
+                .traversingCauses()
+                .build();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout(
+                (int) parserProperties.getTransactionTimeout().toSeconds());
+
         // build transaction latency metrics
         ImmutableMap.Builder<Integer, Timer> latencyMetricsBuilder = ImmutableMap.builder();
         ImmutableMap.Builder<Integer, DistributionSummary> sizeMetricsBuilder = ImmutableMap.builder();
@@ -137,12 +175,66 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * Parses the record files into a batch of its own and returns once they're parsed, leaving them to be persisted in
+     * the background while the next batch is parsed. Each batch is persisted in its own transaction and retried as a
+     * whole, committing only after the previous batch has committed.
+     *
+     * @param recordFiles to parse
+     * @return a future completed once the batch is committed
+     */
+    @Leader
+    public synchronized CompletableFuture<Void> submit(List<RecordFile> recordFiles) {
+        throwIfFailed();
+
+        // Bound the batches in flight to the one being persisted and the one being parsed
+        while (submissions.size() > 1) {
+            submissions.removeFirst().getBatch().getCommitted().exceptionally(e -> null).join();
+        }
+
+        // Continue from the last file parsed by the previous batch or, if none is in flight, from the last committed
+        var previous = submissions.peekLast();
+        var start = previous != null ? previous.getEnd() : getLast();
+        var batch = new ParserContext.Batch(previous != null ? previous.getBatch() : null);
+        var submission = new Submission(batch, start);
+        submissions.addLast(submission);
+        executorService.execute(() -> persist(submission, recordFiles));
+
+        CompletableFuture.anyOf(batch.getParsed(), batch.getCommitted())
+                .exceptionally(e -> null)
+                .join();
+        throwIfFailed();
+        return batch.getCommitted();
+    }
+
+    @Override
+    public void close() {
+        executorService.close();
+    }
+
     @Override
     protected void doFlush(RecordFile streamFile) {
         super.doFlush(streamFile);
         applicationEventPublisher.publishEvent(new RecordFileParsedEvent(this, streamFile.getConsensusEnd()));
     }
 
+    @Override
+    protected RecordFile getLast() {
+        var submission = current.get();
+        return submission != null ? submission.getLast() : super.getLast();
+    }
+
+    @Override
+    protected void setLast(RecordFile recordFile) {
+        var submission = current.get();
+
+        if (submission != null) {
+            submission.setLast(recordFile);
+        } else {
+            super.setLast(recordFile);
+        }
+    }
+
     @Override
     protected void doParse(RecordFile recordFile) {
         DateRangeFilter dateRangeFilter = dateRangeCalculator.getFilter(parserProperties.getStreamType());
@@ -150,20 +242,26 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         var count = new AtomicLong(0L);
         boolean shouldLog = log.isDebugEnabled() || log.isTraceEnabled();
 
-        recordFile.getItems().forEach(recordItem -> {
-            if (shouldLog) {
-                logItem(recordItem);
-            }
-
-            aggregator.accept(recordItem);
-
-            if (dateRangeFilter.filter(recordItem.getConsensusTimestamp())) {
-                recordItemListener.onItem(recordItem);
-                recordMetrics(recordItem);
-                count.incrementAndGet();
-            }
-        });
+        try {
+            recordFile.getItems().forEach(recordItem -> {
+                if (shouldLog) {
+                    logItem(recordItem);
+                }
+
+                aggregator.accept(recordItem);
+
+                if (dateRangeFilter.filter(recordItem.getConsensusTimestamp())) {
+                    recordItemListener.onItem(recordItem);
+                    recordMetrics(recordItem);
+                    count.incrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            recordItemListener.discard();
+            throw e;
+        }
 
+        recordItemListener.complete();
         recordFile.setCount(count.get());
         aggregator.update(recordFile);
         updateIndex(recordFile);
@@ -172,6 +270,58 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         parserContext.addAll(recordFile.getSidecars());
     }
 
+    @Override
+    protected void onParsed(RecordFile streamFile) {
+        var submission = current.get();
+
+        if (submission != null) {
+            // Let the next batch be parsed while this one is flushed once the previous batch commits
+            submission.setEnd(streamFile);
+            parserContext.publish();
+            parserContext.awaitPrevious();
+        }
+    }
+
+    private void persist(Submission submission, List<RecordFile> recordFiles) {
+        var batch = submission.getBatch();
+
+        try {
+            current.set(submission);
+            retryTemplate.execute(c -> transactionTemplate.execute(s -> {
+                // Undo any previous attempt setting the last file once parsed
+                submission.setLast(submission.getStart());
+                parserContext.bind(batch);
+                super.parse(recordFiles);
+                return null;
+            }));
+
+            // Batches commit in order, so the last file is only ever moved forward to the last committed file
+            super.setLast(submission.getLast());
+            batch.getCommitted().complete(null);
+        } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+            batch.getCommitted().completeExceptionally(e);
+        } finally {
+            current.remove();
+            parserContext.unbind();
+        }
+    }
+
+    private void throwIfFailed() {
+        var exception = failure.get();
+
+        if (exception == null) {
+            return;
+        }
+
+        // Wait for the batches depending upon the failed batch to fail before parsing from the last committed file
+        submissions.forEach(s -> s.getBatch().getCommitted().exceptionally(e -> null).join());
+        submissions.clear();
+        failure.set(null);
+        clear();
+        throw new ParserException("Error persisting pipelined batch", exception);
+    }
+
     private void logItem(RecordItem recordItem) {
         if (log.isTraceEnabled()) {
             log.trace(
@@ -209,6 +359,29 @@ public class RecordFileParser extends AbstractStreamFileParser<RecordFile> {
         }
     }
 
+    /**
+     * A batch submitted to be parsed and persisted in the background. It tracks its own last file so retrying it never
+     * affects the file the next batch continues from.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    private static class Submission {
+
+        private final ParserContext.Batch batch;
+        private final RecordFile start;
+
+        @Setter
+        private volatile RecordFile end;
+
+        @Setter
+        private volatile RecordFile last;
+
+        RecordFile getEnd() {
+            var parsed = end;
+            return parsed != null ? parsed : start;
+        }
+    }
+
     private class RecordItemAggregator implements Consumer<RecordItem> {
 
         private final LogsBloomAggregator logsBloom = new LogsBloomAggregator();
@@ -5,4 +5,17 @@ package org.hiero.mirror.importer.parser.record;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.importer.parser.StreamItemListener;
 
-public interface RecordItemListener extends StreamItemListener<RecordItem> {}
+public interface RecordItemListener extends StreamItemListener<RecordItem> {
+
+    /**
+     * Completes processing every record item passed to {@link #onItem(RecordItem)} so far. Must be called before the
+     * parsed domain objects are flushed since record items may be processed concurrently.
+     */
+    default void complete() {}
+
+    /**
+     * Discards the record items passed to {@link #onItem(RecordItem)} that haven't been completed, waiting for any still
+     * being processed concurrently. Must be called when parsing fails before {@link #complete()}.
+     */
+    default void discard() {}
+}
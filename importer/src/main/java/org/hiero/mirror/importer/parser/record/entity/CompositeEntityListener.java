@@ -3,6 +3,7 @@
 package org.hiero.mirror.importer.parser.record.entity;
 
 import jakarta.inject.Named;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
@@ -50,9 +51,35 @@ import org.springframework.context.annotation.Primary;
 @RequiredArgsConstructor
 public class CompositeEntityListener implements EntityListener {
 
+    private final ThreadLocal<List<Runnable>> deferred = new ThreadLocal<>();
     private final List<EntityListener> entityListeners;
 
+    /**
+     * Runs the action on the current thread with the entity events it generates deferred instead of passed to the
+     * listeners, so they can be replayed in order on another thread.
+     *
+     * @param action to run
+     * @return the deferred entity events
+     */
+    public List<Runnable> defer(Runnable action) {
+        var events = new ArrayList<Runnable>();
+        deferred.set(events);
+
+        try {
+            action.run();
+            return events;
+        } finally {
+            deferred.remove();
+        }
+    }
+
     private <T> void onEach(BiConsumer<EntityListener, T> consumer, T t) {
+        var events = deferred.get();
+        if (events != null) {
+            events.add(() -> onEach(consumer, t));
+            return;
+        }
+
         for (int i = 0; i < entityListeners.size(); ++i) {
             var entityListener = entityListeners.get(i);
             if (entityListener.isEnabled()) {
@@ -3,10 +3,12 @@
 package org.hiero.mirror.importer.parser.record.entity;
 
 import static org.hiero.mirror.common.domain.transaction.TransactionType.CONSENSUSSUBMITMESSAGE;
+import static org.hiero.mirror.common.domain.transaction.TransactionType.CRYPTOTRANSFER;
 import static org.hiero.mirror.common.domain.transaction.TransactionType.SCHEDULECREATE;
 import static org.hiero.mirror.common.domain.transaction.TransactionType.SCHEDULESIGN;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.util.EnumSet;
 import java.util.Set;
@@ -23,6 +25,10 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class EntityProperties {
 
+    @NotNull
+    @Valid
+    private ParallelProperties parallel = new ParallelProperties();
+
     @NotNull
     @Valid
     private PersistProperties persist;
@@ -32,6 +38,23 @@ public class EntityProperties {
         this.persist = new PersistProperties(systemEntity);
     }
 
+    @Data
+    @Validated
+    public static class ParallelProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxConcurrency = 4;
+
+        /**
+         * The transaction types whose record items are converted concurrently. Their conversion must not depend upon
+         * state changed by the preceding record items.
+         */
+        @NotNull
+        private Set<TransactionType> transactionTypes = EnumSet.of(CONSENSUSSUBMITMESSAGE, CRYPTOTRANSFER);
+    }
+
     @Data
     @Validated
     public static class PersistProperties {
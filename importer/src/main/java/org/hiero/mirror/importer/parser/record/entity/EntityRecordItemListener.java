@@ -8,6 +8,7 @@ import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.UnknownFieldSet;
 import com.hederahashgraph.api.proto.java.AccountAmount;
+import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.NftTransfer;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.SignaturePair;
@@ -16,12 +17,19 @@ import com.hederahashgraph.api.proto.java.TokenTransferList;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
+import java.io.Closeable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Predicate;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
@@ -64,19 +72,152 @@ import org.hiero.mirror.importer.util.Utility;
 @Named
 @ConditionOnEntityRecordParser
 @RequiredArgsConstructor
-public class EntityRecordItemListener implements RecordItemListener {
+public class EntityRecordItemListener implements Closeable, RecordItemListener {
+
+    private static final int MAX_PENDING = 1024;
 
     private final CommonParserProperties commonParserProperties;
     private final ContractResultService contractResultService;
     private final EntityIdService entityIdService;
     private final EntityListener entityListener;
     private final EntityProperties entityProperties;
+    private final ParserContext parserContext;
     private final TransactionHandlerFactory transactionHandlerFactory;
     private final SyntheticContractLogService syntheticContractLogService;
     private final SyntheticContractResultService syntheticContractResultService;
 
+    // Record items converted concurrently whose entity events are pending replay, per parsing thread
+    private final ThreadLocal<Deque<CompletableFuture<List<Runnable>>>> pending =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    private ExecutorService executorService; // Created on first use so there's none while parallel is disabled
+
     @Override
     public void onItem(RecordItem recordItem) throws ImporterException {
+        if (entityListener instanceof CompositeEntityListener compositeEntityListener && isIndependent(recordItem)) {
+            var queue = pending.get();
+
+            if (queue.size() >= MAX_PENDING) {
+                replay(queue);
+            }
+
+            // Run the conversion against the pipelined batch of the parser thread, if any
+            var batch = parserContext.getBatch();
+            queue.addLast(CompletableFuture.supplyAsync(
+                    () -> {
+                        if (batch != null) {
+                            parserContext.attach(batch);
+                        }
+
+                        try {
+                            return compositeEntityListener.defer(() -> process(recordItem));
+                        } finally {
+                            parserContext.unbind();
+                        }
+                    },
+                    getExecutorService()));
+            return;
+        }
+
+        // Apply the entity events of the preceding record items first since this one may depend upon them
+        complete();
+        process(recordItem);
+    }
+
+    @Override
+    public void complete() {
+        var queue = pending.get();
+
+        while (!queue.isEmpty()) {
+            replay(queue);
+        }
+    }
+
+    @Override
+    public void discard() {
+        var queue = pending.get();
+
+        // Wait for the record items still converting so none outlive the failed record file
+        while (!queue.isEmpty()) {
+            queue.removeFirst().handle((events, e) -> null).join();
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executorService != null) {
+            executorService.close();
+        }
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(entityProperties.getParallel().getMaxConcurrency());
+        }
+
+        return executorService;
+    }
+
+    /*
+     * Record items whose conversion looks up an account by its alias are processed on the parser thread since the
+     * lookup reads the database in the parser transaction and may depend upon accounts created by earlier items.
+     */
+    private boolean isIndependent(RecordItem recordItem) {
+        var parallel = entityProperties.getParallel();
+        var transactionRecord = recordItem.getTransactionRecord();
+        return parallel.isEnabled()
+                && parallel.getTransactionTypes().contains(TransactionType.of(recordItem.getTransactionType()))
+                && !transactionRecord.hasContractCallResult()
+                && !transactionRecord.hasContractCreateResult()
+                && recordItem.getSidecarRecords().isEmpty()
+                && !hasAliasTransfer(recordItem.getTransactionBody());
+    }
+
+    private boolean hasAliasTransfer(TransactionBody body) {
+        if (!body.hasCryptoTransfer()) {
+            return false;
+        }
+
+        var cryptoTransfer = body.getCryptoTransfer();
+        if (hasAlias(cryptoTransfer.getTransfers().getAccountAmountsList())) {
+            return true;
+        }
+
+        for (var tokenTransferList : cryptoTransfer.getTokenTransfersList()) {
+            if (hasAlias(tokenTransferList.getTransfersList())) {
+                return true;
+            }
+
+            for (var nftTransfer : tokenTransferList.getNftTransfersList()) {
+                if (isAlias(nftTransfer.getSenderAccountID()) || isAlias(nftTransfer.getReceiverAccountID())) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasAlias(List<AccountAmount> accountAmounts) {
+        return accountAmounts.stream().anyMatch(aa -> isAlias(aa.getAccountID()));
+    }
+
+    private static boolean isAlias(AccountID accountId) {
+        return accountId.getAccountCase() == AccountID.AccountCase.ALIAS;
+    }
+
+    private void replay(Deque<CompletableFuture<List<Runnable>>> queue) {
+        try {
+            queue.removeFirst().join().forEach(Runnable::run);
+        } catch (CompletionException e) {
+            discard();
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        } catch (RuntimeException e) {
+            discard();
+            throw e;
+        }
+    }
+
+    private void process(RecordItem recordItem) {
         recordItem.setEntityTransactionPredicate(entityProperties.getPersist()::shouldPersistEntityTransaction);
         recordItem.setContractTransactionPredicate(
                 entityId -> entityProperties.getPersist().isContractTransaction());
@@ -9,6 +9,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
@@ -16,12 +19,14 @@ import lombok.Getter;
 import lombok.NonNull;
 
 /**
- * Stores the domain objects parsed from the stream files before persisting to the database.
+ * Stores the domain objects parsed from the stream files before persisting to the database. When parsing is pipelined,
+ * each thread stores the domain objects of its own {@link Batch} instead.
  */
 @Named
 public class ParserContext {
 
-    private final Map<Class<?>, DomainContext<?>> state = new ConcurrentSkipListMap<>(new DomainClassComparator());
+    private final ThreadLocal<Batch> batch = new ThreadLocal<>();
+    private final Map<Class<?>, DomainContext<?>> state = newState();
 
     public <T> void add(@NonNull T object) {
         add(object, null);
@@ -44,17 +49,81 @@ public class ParserContext {
         }
     }
 
+    /**
+     * Waits for the previous batch of the batch bound to the current thread to be committed, then stops falling back to
+     * its domain objects. Must be called before the database is written to directly while parsing.
+     */
+    public void awaitPrevious() {
+        var current = batch.get();
+        var previous = current != null ? current.previous : null;
+
+        if (previous == null) {
+            return;
+        }
+
+        try {
+            previous.committed.join();
+        } catch (CancellationException | CompletionException e) {
+            throw new CancellationException("Previous batch failed to persist");
+        }
+
+        current.previous = null;
+    }
+
+    /**
+     * Binds the batch as is to the current thread, so a task run on another thread on behalf of the thread parsing the
+     * batch sees the same batch until unbound.
+     *
+     * @param current the batch to attach
+     */
+    public void attach(@NonNull Batch current) {
+        batch.set(current);
+    }
+
+    /**
+     * Binds the batch with an empty state to the current thread so domain objects are stored in it until unbound.
+     *
+     * @param current the batch to bind
+     */
+    public void bind(@NonNull Batch current) {
+        current.state = newState();
+        attach(current);
+    }
+
     public void clear() {
-        state.clear();
+        state().clear();
     }
 
     public void forEach(@NonNull Consumer<Collection<?>> sink) {
-        state.forEach((c, v) -> sink.accept(v.getInserts()));
+        state().forEach((c, v) -> sink.accept(v.getInserts()));
     }
 
+    @SuppressWarnings("unchecked")
     public <T> T get(@NonNull Class<T> domainClass, @NonNull Object key) {
         var domainContext = getDomainContext(domainClass);
-        return domainContext.getState().get(key);
+        var value = domainContext.getState().get(key);
+
+        if (value == null) {
+            // Fall back to the domain objects of the previous batch since they're not committed yet
+            var current = batch.get();
+            var previous = current != null ? current.previous : null;
+            var published = previous != null ? previous.published : null;
+
+            if (published != null && published.get(domainClass) instanceof DomainContext<?> previousContext) {
+                return (T) previousContext.getState().get(key);
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets the batch bound to the current thread, if any.
+     *
+     * @return the bound batch or null if the shared state is used
+     */
+    public Batch getBatch() {
+        return batch.get();
     }
 
     public <T> Collection<T> get(@NonNull Class<T> domainClass) {
@@ -62,6 +131,36 @@ public class ParserContext {
         return Collections.unmodifiableList(domainContext.getInserts());
     }
 
+    /**
+     * Partitions the domain objects into groups that can be persisted independently of each other. The first group
+     * contains the domain classes with an explicit persist order along with the given dependent domain classes, in
+     * persist order. Every other domain class forms its own group, except the excluded ones which are left out.
+     *
+     * @param dependent domain classes that must be persisted with the explicitly ordered domain classes
+     * @param excluded  domain classes that are persisted separately by the caller
+     * @return the groups of domain objects, with the dependent group first
+     */
+    public List<List<Collection<?>>> partition(
+            @NonNull Collection<Class<?>> dependent, @NonNull Collection<Class<?>> excluded) {
+        var dependentGroup = new ArrayList<Collection<?>>();
+        var groups = new ArrayList<List<Collection<?>>>();
+        groups.add(dependentGroup);
+
+        state().forEach((c, v) -> {
+            if (v.getInserts().isEmpty() || excluded.contains(c)) {
+                return;
+            }
+
+            if (DomainClassComparator.ORDER.contains(c) || dependent.contains(c)) {
+                dependentGroup.add(v.getInserts());
+            } else {
+                groups.add(List.of(v.getInserts()));
+            }
+        });
+
+        return groups;
+    }
+
     public <T> void merge(@NonNull Object key, @NonNull T value, @NonNull BinaryOperator<T> mergeFunction) {
         var domainContext = getDomainContext(value);
         var merged = domainContext.getState().merge(key, value, mergeFunction);
@@ -71,11 +170,32 @@ public class ParserContext {
         }
     }
 
+    /**
+     * Marks the batch bound to the current thread as parsed. The first time, its domain objects are published for the
+     * next batch to fall back to so they're never modified again, even if the batch is retried.
+     */
+    public void publish() {
+        var current = batch.get();
+
+        if (current != null && current.published == null) {
+            current.published = current.state;
+            current.parsed.complete(null);
+        }
+    }
+
     public void remove(@NonNull Class<?> domainClass) {
         var domainContext = getDomainContext(domainClass);
         domainContext.clear();
     }
 
+    public void unbind() {
+        batch.remove();
+    }
+
+    private static Map<Class<?>, DomainContext<?>> newState() {
+        return new ConcurrentSkipListMap<>(new DomainClassComparator());
+    }
+
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(T object) {
         var domainClass = (Class<T>) object.getClass();
@@ -84,10 +204,36 @@ public class ParserContext {
 
     @SuppressWarnings("unchecked")
     private <T> DomainContext<T> getDomainContext(Class<T> domainClass) {
-        return (DomainContext<T>) state.computeIfAbsent(domainClass, c -> new DomainContext<>());
+        return (DomainContext<T>) state().computeIfAbsent(domainClass, c -> new DomainContext<>());
+    }
+
+    private Map<Class<?>, DomainContext<?>> state() {
+        var current = batch.get();
+        return current != null ? current.state : state;
+    }
+
+    /**
+     * The domain objects of a batch of stream files parsed while the previous batch is still being persisted. Lookups
+     * by key fall back to the previous batch's domain objects until it's committed.
+     */
+    public static final class Batch {
+
+        @Getter
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        @Getter
+        private final CompletableFuture<Void> parsed = new CompletableFuture<>();
+
+        private volatile Batch previous;
+        private volatile Map<Class<?>, DomainContext<?>> published;
+        private volatile Map<Class<?>, DomainContext<?>> state = newState();
+
+        public Batch(Batch previous) {
+            this.previous = previous;
+        }
     }
 
-    private class DomainContext<T> {
+    private static class DomainContext<T> {
 
         @Getter
         private final List<T> inserts = new ArrayList<>();
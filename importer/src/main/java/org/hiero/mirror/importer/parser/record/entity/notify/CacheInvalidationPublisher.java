@@ -0,0 +1,147 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.util.List;
+import lombok.CustomLog;
+import org.hiero.mirror.common.converter.CacheInvalidationCodec;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.Slot;
+import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.token.Token;
+import org.hiero.mirror.common.domain.token.TokenAccount;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.parser.record.entity.BatchPublisher;
+import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.sql.SqlProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Notifies the keys of the entities, contract storage and token relationships modified by a record file so caches of
+ * the latest state can evict them. The notifications are sent in the parser's transaction, so they're only delivered
+ * once the modifications are committed. With parallel flush, the worker transactions commit after the parser's
+ * transaction, so the notifications are instead sent in a new transaction once they committed.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+@Order(1)
+public class CacheInvalidationPublisher implements BatchPublisher {
+
+    static final String CHANNEL = "cache_invalidation";
+
+    // PostgreSQL requires a notification payload to be shorter than 8000 bytes
+    private static final int MAX_PAYLOAD_SIZE = 8000;
+    private static final String SQL = "select pg_notify('" + CHANNEL + "', ?)";
+
+    private final NotifyProperties notifyProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ParserContext parserContext;
+    private final SqlProperties sqlProperties;
+    private final Timer timer;
+    private final TransactionTemplate transactionTemplate;
+
+    CacheInvalidationPublisher(
+            NotifyProperties notifyProperties,
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            ParserContext parserContext,
+            PlatformTransactionManager platformTransactionManager,
+            SqlProperties sqlProperties) {
+        this.notifyProperties = notifyProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.parserContext = parserContext;
+        this.sqlProperties = sqlProperties;
+        this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // The shared publish timer builder is tagged with the topic message entity, so build a separate one
+        this.timer = Timer.builder("hiero.mirror.importer.publish.duration")
+                .description("The amount of time it took to publish the domain entity")
+                .tag("entity", CacheInvalidation.class.getSimpleName())
+                .tag("type", "notify")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onEnd(RecordFile recordFile) {
+        if (!notifyProperties.isCacheInvalidation()) {
+            return;
+        }
+
+        var cacheInvalidation = new CacheInvalidation(recordFile.getConsensusEnd());
+
+        for (var entity : parserContext.get(Entity.class)) {
+            cacheInvalidation.entityIds().add(entity.getId());
+            addAlias(cacheInvalidation, entity.getAlias());
+            addAlias(cacheInvalidation, entity.getEvmAddress());
+        }
+
+        for (var token : parserContext.get(Token.class)) {
+            cacheInvalidation.entityIds().add(token.getTokenId());
+        }
+
+        for (var contractState : parserContext.get(ContractState.class)) {
+            cacheInvalidation.slots().add(new Slot(contractState.getContractId(), contractState.getSlot()));
+        }
+
+        for (var tokenAccount : parserContext.get(TokenAccount.class)) {
+            cacheInvalidation
+                    .tokenAccounts()
+                    .add(new CacheInvalidation.TokenAccount(tokenAccount.getAccountId(), tokenAccount.getTokenId()));
+        }
+
+        if (cacheInvalidation.isEmpty()) {
+            return;
+        }
+
+        var payloads = CacheInvalidationCodec.encode(cacheInvalidation, MAX_PAYLOAD_SIZE);
+
+        if (sqlProperties.getParallelFlush().isEnabled()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Ordered after the parallel flush synchronization that commits the worker transactions
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    transactionTemplate.executeWithoutResult(t -> send(payloads));
+                }
+            });
+        } else {
+            send(payloads);
+        }
+    }
+
+    private void send(List<String> payloads) {
+        var stopwatch = Stopwatch.createStarted();
+        timer.record(() -> jdbcTemplate.execute(SQL, callback(payloads)));
+        log.info("Finished notifying {} cache invalidations in {}", payloads.size(), stopwatch);
+    }
+
+    private void addAlias(CacheInvalidation cacheInvalidation, byte[] alias) {
+        if (alias != null && alias.length > 0) {
+            cacheInvalidation.aliases().add(alias);
+        }
+    }
+
+    private PreparedStatementCallback<int[]> callback(List<String> payloads) {
+        return preparedStatement -> {
+            for (String payload : payloads) {
+                preparedStatement.setString(1, payload);
+                preparedStatement.addBatch();
+            }
+            return preparedStatement.executeBatch();
+        };
+    }
+}
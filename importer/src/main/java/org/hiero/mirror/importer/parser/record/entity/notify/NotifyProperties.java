@@ -2,6 +2,7 @@
 
 package org.hiero.mirror.importer.parser.record.entity.notify;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hiero.mirror.importer.parser.record.entity.BatchPublisherProperties;
 import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
@@ -14,7 +15,17 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 public class NotifyProperties implements BatchPublisherProperties {
 
+    private boolean cacheInvalidation = false;
+
     private boolean enabled = false;
 
+    @NotNull
+    private PayloadFormat format = PayloadFormat.JSON;
+
     private int maxJsonPayloadSize = 8000;
+
+    public enum PayloadFormat {
+        BINARY,
+        JSON
+    }
 }
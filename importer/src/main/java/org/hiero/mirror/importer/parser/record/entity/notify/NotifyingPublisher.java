@@ -10,11 +10,13 @@ import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.util.Collection;
 import lombok.CustomLog;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.importer.parser.record.entity.BatchPublisher;
 import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.notify.NotifyProperties.PayloadFormat;
 import org.hiero.mirror.importer.util.Utility;
 import org.springframework.core.annotation.Order;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -63,9 +65,9 @@ public class NotifyingPublisher implements BatchPublisher {
     private PreparedStatementCallback<int[]> callback(Collection<TopicMessage> topicMessages) {
         return preparedStatement -> {
             for (TopicMessage topicMessage : topicMessages) {
-                String json = toJson(topicMessage);
-                if (json != null) {
-                    preparedStatement.setString(1, json);
+                String payload = toPayload(topicMessage);
+                if (payload != null) {
+                    preparedStatement.setString(1, payload);
                     preparedStatement.addBatch();
                 }
             }
@@ -73,18 +75,20 @@ public class NotifyingPublisher implements BatchPublisher {
         };
     }
 
-    private String toJson(TopicMessage topicMessage) {
+    private String toPayload(TopicMessage topicMessage) {
         try {
-            String json = OBJECT_MAPPER.writeValueAsString(topicMessage);
+            String payload = notifyProperties.getFormat() == PayloadFormat.BINARY
+                    ? TopicMessageCodec.encode(topicMessage)
+                    : OBJECT_MAPPER.writeValueAsString(topicMessage);
 
-            if (json.length() >= notifyProperties.getMaxJsonPayloadSize()) {
-                log.warn("Unable to notify large payload of size {}B: {}", json.length(), topicMessage);
+            if (payload.length() >= notifyProperties.getMaxJsonPayloadSize()) {
+                log.warn("Unable to notify large payload of size {}B: {}", payload.length(), topicMessage);
                 return null;
             }
 
-            return json;
+            return payload;
         } catch (Exception e) {
-            Utility.handleRecoverableError("Error serializing topicMessage to json", topicMessage, e);
+            Utility.handleRecoverableError("Error serializing topicMessage", topicMessage, e);
             return null;
         }
     }
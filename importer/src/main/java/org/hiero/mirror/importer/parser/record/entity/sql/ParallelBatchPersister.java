@@ -0,0 +1,337 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.inject.Named;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.apache.commons.lang3.StringUtils;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
+import org.hiero.mirror.importer.exception.ParserException;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Persists independent groups of domain objects in parallel. The first group is persisted on the parser transaction's
+ * connection while every other group is persisted on its own pooled connection and transaction. The record files are
+ * persisted in a transaction of their own as well. The worker and record file transactions are prepared using
+ * two-phase commit right before the parser transaction commits, then committed or rolled back once it completes.
+ * <p>
+ * The record files are committed last, only once every worker transaction committed, so a record file is never visible
+ * before all of its batch's data. The parser transaction's commit is the decision to commit the batch, so the prepared
+ * transactions are named after its id. Prepared transactions left behind by a crash or a failed commit are resolved
+ * before the next flush by committing them if the parser transaction committed, record files last, and rolling them
+ * back otherwise.
+ * <p>
+ * Requires the PostgreSQL max_prepared_transactions setting to be at least the configured max concurrency.
+ */
+@ConditionOnEntityRecordParser
+@CustomLog
+@Named
+public class ParallelBatchPersister implements Closeable, TransactionSynchronization {
+
+    static final String GID_PREFIX = "mirror_flush_";
+
+    static final String RECORD_FILE_SUFFIX = "_record_file";
+
+    private static final String CURRENT_XACT_ID_SQL = "select pg_current_xact_id()::text";
+    private static final String FIND_PREPARED_SQL =
+            "select gid from pg_prepared_xacts where database = current_database() and gid like '" + GID_PREFIX + "%'";
+    private static final String XACT_STATUS_SQL = "select pg_xact_status(?::xid8)";
+
+    private final BatchPersister batchPersister;
+    private final DataSource dataSource;
+    private final int maxConcurrency;
+    private final AtomicBoolean recovered = new AtomicBoolean(false);
+    private final List<WorkerTransaction> transactions = new CopyOnWriteArrayList<>();
+    private final Timer criticalPathMetric;
+    private ExecutorService executorService; // Created on first use so there's none while parallel flush is disabled
+
+    public ParallelBatchPersister(
+            BatchPersister batchPersister,
+            DataSource dataSource,
+            MeterRegistry meterRegistry,
+            CommonParserProperties parserProperties,
+            SqlProperties sqlProperties) {
+        // PostgreSQL can't prepare a transaction that used a temporary table
+        if (sqlProperties.getParallelFlush().isEnabled()
+                && !parserProperties.getSessionTempTables().isEmpty()) {
+            throw new InvalidConfigurationException("Session temp tables can't be used with parallel flush: "
+                    + parserProperties.getSessionTempTables());
+        }
+
+        this.batchPersister = batchPersister;
+        this.dataSource = dataSource;
+        this.maxConcurrency = sqlProperties.getParallelFlush().getMaxConcurrency();
+        this.criticalPathMetric = Timer.builder("hiero.mirror.importer.batch.critical")
+                .description("The time it took to persist the slowest group of tables in a parallel flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executorService != null) {
+            executorService.close();
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        // Commit the worker transactions and record files before any other after commit callbacks read their data
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    /**
+     * Persists the groups of domain objects in parallel. Must be called within the parser transaction.
+     *
+     * @param consensusEnd the consensus end of the last record file in the batch
+     * @param groups       the groups of domain objects with the group that must use the parser transaction first
+     * @param recordFiles  the record files of the batch, committed once everything else is
+     */
+    public void persist(long consensusEnd, List<List<Collection<?>>> groups, Collection<RecordFile> recordFiles) {
+        if (groups.isEmpty() && recordFiles.isEmpty()) {
+            return;
+        }
+
+        recover();
+
+        if (transactions.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(this);
+        }
+
+        var stopwatch = Stopwatch.createStarted();
+        var futures = new ArrayList<Future<Duration>>(groups.size());
+        var gidPrefix = GID_PREFIX + consensusEnd + "_" + getTransactionId() + "_";
+        int offset = transactions.size();
+
+        for (int i = 1; i < groups.size(); i++) {
+            var gid = gidPrefix + (offset + i);
+            var group = groups.get(i);
+            futures.add(getExecutorService().submit(() -> persistInTransaction(gid, group)));
+        }
+
+        if (!recordFiles.isEmpty()) {
+            var gid = gidPrefix + offset + RECORD_FILE_SUFFIX;
+            futures.add(getExecutorService().submit(() -> persistInTransaction(gid, List.of(recordFiles))));
+        }
+
+        RuntimeException exception = null;
+        var criticalPath = Duration.ZERO;
+
+        try {
+            criticalPath = groups.isEmpty() ? criticalPath : persistGroup(groups.getFirst());
+        } catch (RuntimeException e) {
+            exception = e;
+        }
+
+        // Always wait for every worker so none are still using their connection once the parser transaction completes
+        for (var future : futures) {
+            try {
+                var elapsed = future.get();
+                criticalPath = elapsed.compareTo(criticalPath) > 0 ? elapsed : criticalPath;
+            } catch (ExecutionException e) {
+                exception = exception != null ? exception : new ParserException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exception = exception != null ? exception : new ParserException(e);
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
+
+        criticalPathMetric.record(criticalPath);
+        log.info("Persisted {} groups in parallel in {} with critical path {}", groups.size(), stopwatch, criticalPath);
+    }
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+        for (var transaction : transactions) {
+            try (var statement = transaction.connection().createStatement()) {
+                statement.execute("prepare transaction '" + transaction.gid() + "'");
+                transaction.prepared().set(true);
+            } catch (SQLException e) {
+                throw new ParserException("Error preparing transaction " + transaction.gid(), e);
+            }
+        }
+    }
+
+    @Override
+    public void afterCommit() {
+        boolean committed = true;
+
+        // Sorted so the record files are only committed once every worker transaction committed
+        for (var transaction : recordFilesLast(transactions, WorkerTransaction::gid)) {
+            if (!committed && isRecordFile(transaction.gid())) {
+                continue;
+            }
+
+            try {
+                complete(transaction.connection(), transaction.gid(), true);
+                transaction.prepared().set(false);
+            } catch (SQLException e) {
+                // The remaining prepared transactions are committed by the recovery before the next flush
+                log.error("Error committing prepared transaction {}", transaction.gid(), e);
+                committed = false;
+                recovered.set(false);
+            }
+        }
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+        for (var transaction : transactions) {
+            try (var connection = transaction.connection()) {
+                if (status == STATUS_UNKNOWN && transaction.prepared().get()) {
+                    // Whether the parser transaction committed is only known once recovered
+                    recovered.set(false);
+                } else if (status != STATUS_COMMITTED && transaction.prepared().get()) {
+                    complete(connection, transaction.gid(), false);
+                } else if (!transaction.prepared().get() && !connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+            } catch (SQLException e) {
+                log.error("Error rolling back transaction {}", transaction.gid(), e);
+            }
+        }
+
+        transactions.clear();
+    }
+
+    private static boolean isRecordFile(String gid) {
+        return gid.endsWith(RECORD_FILE_SUFFIX);
+    }
+
+    private static <T> List<T> recordFilesLast(Collection<T> items, Function<T, String> gid) {
+        return items.stream()
+                .sorted(Comparator.comparing((T t) -> isRecordFile(gid.apply(t))))
+                .toList();
+    }
+
+    private synchronized ExecutorService getExecutorService() {
+        if (executorService == null) {
+            executorService = Executors.newFixedThreadPool(maxConcurrency);
+        }
+
+        return executorService;
+    }
+
+    // The id of the parser transaction, whose commit decides whether the prepared transactions commit
+    private String getTransactionId() {
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try (var statement = connection.createStatement();
+                var resultSet = statement.executeQuery(CURRENT_XACT_ID_SQL)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        } catch (SQLException e) {
+            throw new ParserException("Error getting the parser transaction id", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private Duration persistInTransaction(String gid, List<Collection<?>> group) throws SQLException {
+        var connection = dataSource.getConnection();
+        transactions.add(new WorkerTransaction(connection, gid, new AtomicBoolean(false)));
+        connection.setAutoCommit(false);
+
+        // Bind the connection so the batch persister uses it instead of acquiring one itself
+        TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+
+        try {
+            return persistGroup(group);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(dataSource);
+        }
+    }
+
+    private Duration persistGroup(List<Collection<?>> group) {
+        var stopwatch = Stopwatch.createStarted();
+        group.forEach(batchPersister::persist);
+        return stopwatch.elapsed();
+    }
+
+    private void complete(Connection connection, String gid, boolean commit) throws SQLException {
+        // COMMIT PREPARED and ROLLBACK PREPARED can't run inside a transaction block
+        connection.setAutoCommit(true);
+
+        try (var statement = connection.createStatement()) {
+            statement.execute((commit ? "commit prepared '" : "rollback prepared '") + gid + "'");
+        }
+    }
+
+    private void recover() {
+        if (recovered.get()) {
+            return;
+        }
+
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            var gids = new ArrayList<String>();
+
+            try (var statement = connection.createStatement();
+                    var resultSet = statement.executeQuery(FIND_PREPARED_SQL)) {
+                while (resultSet.next()) {
+                    gids.add(resultSet.getString(1));
+                }
+            }
+
+            for (var gid : recordFilesLast(gids, Function.identity())) {
+                var transactionId = StringUtils.substringBetween(StringUtils.removeStart(gid, GID_PREFIX), "_");
+                var status = getTransactionStatus(connection, transactionId);
+
+                if ("in progress".equals(status)) {
+                    log.warn("Skipping recovery of prepared transaction {} of an in progress transaction", gid);
+                    continue;
+                }
+
+                boolean commit = "committed".equals(status);
+                complete(connection, gid, commit);
+                log.warn("Recovered prepared transaction {} by {}", gid, commit ? "commit" : "rollback");
+            }
+
+            recovered.set(true);
+        } catch (SQLException e) {
+            throw new ParserException("Error recovering prepared transactions", e);
+        }
+    }
+
+    private String getTransactionStatus(Connection connection, String transactionId) throws SQLException {
+        try (var statement = connection.prepareStatement(XACT_STATUS_SQL)) {
+            statement.setString(1, transactionId);
+
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString(1) : null;
+            }
+        }
+    }
+
+    private record WorkerTransaction(Connection connection, String gid, AtomicBoolean prepared) {}
+}
@@ -7,6 +7,7 @@ import jakarta.inject.Named;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 import lombok.CustomLog;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ArrayUtils;
@@ -49,6 +50,7 @@ import org.hiero.mirror.common.domain.transaction.Prng;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.StakingRewardTransfer;
 import org.hiero.mirror.common.domain.transaction.Transaction;
+import org.hiero.mirror.common.domain.transaction.TransactionHash;
 import org.hiero.mirror.common.domain.transaction.TransactionSignature;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.domain.EntityIdService;
@@ -60,6 +62,7 @@ import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordPar
 import org.hiero.mirror.importer.parser.record.entity.EntityListener;
 import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker;
 import org.hiero.mirror.importer.repository.NftRepository;
 import org.hiero.mirror.importer.repository.TokenAccountRepository;
 import org.hiero.mirror.importer.util.Utility;
@@ -75,11 +78,21 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private static final List<Class<?>> NFT_FLUSH = List.of(Token.class, TokenAccount.class, Nft.class);
 
+    // Domain classes persisted on the parser transaction's connection in a parallel flush. NFT_FLUSH classes may have
+    // already been written mid-batch and transaction hash has its own workers
+    private static final List<Class<?>> PARALLEL_FLUSH_DEPENDENT =
+            Stream.<Class<?>>concat(NFT_FLUSH.stream(), Stream.of(TransactionHash.class)).toList();
+
+    // The record file marks the batch as committed, so a parallel flush persists it once everything else committed
+    private static final List<Class<?>> PARALLEL_FLUSH_EXCLUDED = List.of(RecordFile.class);
+
+    private final BalanceChangeTracker balanceChangeTracker;
     private final BatchPersister batchPersister;
     private final ParserContext context;
     private final EntityIdService entityIdService;
     private final EntityProperties entityProperties;
     private final NftRepository nftRepository;
+    private final ParallelBatchPersister parallelBatchPersister;
     private final TokenAccountRepository tokenAccountRepository;
     private final SqlProperties sqlProperties;
 
@@ -90,7 +103,7 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     @Override
     public void onEnd(RecordFile recordFile) {
-        flush();
+        flush(recordFile);
     }
 
     @Override
@@ -184,6 +197,10 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
         context.merge(id, entity, this::mergeEntity);
         entityIdService.notify(entity);
+
+        if (entity.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onAccount(id, entity.getBalanceTimestamp());
+        }
     }
 
     @Override
@@ -292,6 +309,11 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         }
 
         context.merge(id, tokenAccount, this::mergeTokenAccount);
+
+        if (tokenAccount.getBalanceTimestamp() != null) {
+            balanceChangeTracker.onTokenAccount(
+                    tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount.getBalanceTimestamp());
+        }
     }
 
     private boolean isTokenAccountAlreadyAssociated(Id id) {
@@ -301,6 +323,8 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             return Objects.requireNonNullElse(existing.getAssociated(), true);
         }
 
+        // the token account of a pipelined previous batch is only in database once it's committed
+        context.awaitPrevious();
         return tokenAccountRepository
                 .findById(id)
                 .map(TokenAccount::getAssociated)
@@ -375,10 +399,18 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
         context.add(transactionSignature);
     }
 
-    private void flush() {
+    private void flush(RecordFile recordFile) {
         try {
             var stopwatch = Stopwatch.createStarted();
-            context.forEach(batchPersister::persist);
+
+            if (sqlProperties.getParallelFlush().isEnabled()) {
+                var groups = context.partition(PARALLEL_FLUSH_DEPENDENT, PARALLEL_FLUSH_EXCLUDED);
+                var recordFiles = context.get(RecordFile.class);
+                parallelBatchPersister.persist(recordFile.getConsensusEnd(), groups, recordFiles);
+            } else {
+                context.forEach(batchPersister::persist);
+            }
+
             log.info("Completed batch inserts in {}", stopwatch);
         } catch (ParserException e) {
             throw e;
@@ -389,6 +421,9 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
 
     private void flushNftState() {
         try {
+            // the nft state in database is only accurate once any pipelined previous batch is committed
+            context.awaitPrevious();
+
             // flush tables required for an accurate nft state in database to ensure correct state-dependent changes
             NFT_FLUSH.forEach(c -> {
                 var data = context.get(c);
@@ -847,11 +882,12 @@ public class SqlEntityListener implements EntityListener, RecordStreamFileListen
             if (nftTransfer.getSerialNumber() == NftTransfer.WILDCARD_SERIAL_NUMBER) {
                 // nft treasury change, there should be only one such nft transfer in the list
                 flushNftState();
-                nftRepository.updateTreasury(
-                        transaction.getConsensusTimestamp(),
-                        nftTransfer.getReceiverAccountId().getId(),
-                        nftTransfer.getSenderAccountId().getId(),
-                        nftTransfer.getTokenId().getId());
+                long consensusTimestamp = transaction.getConsensusTimestamp();
+                long newTreasury = nftTransfer.getReceiverAccountId().getId();
+                long previousTreasury = nftTransfer.getSenderAccountId().getId();
+                nftRepository.updateTreasury(consensusTimestamp, newTreasury, previousTreasury, tokenId);
+                balanceChangeTracker.onTokenAccount(newTreasury, tokenId, consensusTimestamp);
+                balanceChangeTracker.onTokenAccount(previousTreasury, tokenId, consensusTimestamp);
                 return;
             }
 
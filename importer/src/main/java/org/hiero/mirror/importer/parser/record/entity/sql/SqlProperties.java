@@ -2,6 +2,9 @@
 
 package org.hiero.mirror.importer.parser.record.entity.sql;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import org.hiero.mirror.importer.parser.record.entity.ConditionOnEntityRecordParser;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,4 +17,17 @@ import org.springframework.validation.annotation.Validated;
 public class SqlProperties {
 
     private boolean enabled = true;
+
+    @NotNull
+    @Valid
+    private ParallelFlushProperties parallelFlush = new ParallelFlushProperties();
+
+    @Data
+    public static class ParallelFlushProperties {
+
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxConcurrency = 4;
+    }
 }
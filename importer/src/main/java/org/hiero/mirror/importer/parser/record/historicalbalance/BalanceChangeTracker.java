@@ -0,0 +1,118 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.CustomLog;
+
+/**
+ * Tracks the accounts and token accounts whose balance changed since the last historical balance snapshot so the next
+ * snapshot can copy only their balances instead of scanning the entity and token_account tables. Changes are tracked
+ * as they're parsed, before they're committed, so a snapshot only removes the changes up to its own timestamp.
+ * <p>
+ * The tracked changes are only complete while the tracker is valid. It becomes invalid when a change is missed because
+ * incremental snapshots are disabled or when it tracks more than the maximum number of changes.
+ */
+@CustomLog
+@Named
+public class BalanceChangeTracker {
+
+    private final Map<Long, Long> accounts = new ConcurrentHashMap<>();
+    private final HistoricalBalanceProperties properties;
+    private final Map<TokenAccountKey, Long> tokenAccounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean valid = new AtomicBoolean(true);
+
+    public BalanceChangeTracker(HistoricalBalanceProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+
+        Gauge.builder("hiero.mirror.importer.historical.balance.changes", accounts, Map::size)
+                .description("The number of balances changed since the last historical balance snapshot")
+                .tag("type", "account")
+                .register(meterRegistry);
+        Gauge.builder("hiero.mirror.importer.historical.balance.changes", tokenAccounts, Map::size)
+                .description("The number of balances changed since the last historical balance snapshot")
+                .tag("type", "token_account")
+                .register(meterRegistry);
+    }
+
+    public void onAccount(long accountId, long balanceTimestamp) {
+        if (isTracking()) {
+            accounts.merge(accountId, balanceTimestamp, Math::max);
+            checkSize();
+        }
+    }
+
+    public void onTokenAccount(long accountId, long tokenId, long balanceTimestamp) {
+        if (isTracking()) {
+            tokenAccounts.merge(new TokenAccountKey(accountId, tokenId), balanceTimestamp, Math::max);
+            checkSize();
+        }
+    }
+
+    Collection<Long> getAccounts() {
+        return new ArrayList<>(accounts.keySet());
+    }
+
+    Collection<TokenAccountKey> getTokenAccounts() {
+        return new ArrayList<>(tokenAccounts.keySet());
+    }
+
+    boolean isValid() {
+        return valid.get();
+    }
+
+    /**
+     * Removes the changes that are part of a committed snapshot. Changes after the snapshot timestamp are kept since the
+     * snapshot didn't see them.
+     *
+     * @param timestamp the consensus timestamp of the snapshot
+     */
+    void remove(long timestamp) {
+        accounts.values().removeIf(t -> t <= timestamp);
+        tokenAccounts.values().removeIf(t -> t <= timestamp);
+    }
+
+    /**
+     * Starts tracking again after the tracker became invalid. Changes parsed but not yet committed before the restart
+     * aren't tracked, so the caller must not rely on the tracked changes until another full scan has completed.
+     */
+    void restart() {
+        clear();
+        valid.set(true);
+    }
+
+    private void checkSize() {
+        int maxSize = properties.getIncremental().getMaxChanges();
+        if (accounts.size() + tokenAccounts.size() > maxSize && valid.compareAndSet(true, false)) {
+            log.warn("Stopped tracking balance changes after exceeding {} changes", maxSize);
+            clear();
+        }
+    }
+
+    private void clear() {
+        accounts.clear();
+        tokenAccounts.clear();
+    }
+
+    private boolean isTracking() {
+        if (properties.isEnabled() && properties.getIncremental().isEnabled()) {
+            return valid.get();
+        }
+
+        // A change is missed, so the tracked changes are no longer complete
+        if (valid.compareAndSet(true, false)) {
+            clear();
+        }
+
+        return false;
+    }
+
+    record TokenAccountKey(long accountId, long tokenId) {}
+}
@@ -3,6 +3,8 @@
 package org.hiero.mirror.importer.parser.record.historicalbalance;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -26,6 +28,10 @@ public class HistoricalBalanceProperties {
 
     private boolean enabled = true;
 
+    @NotNull
+    @Valid
+    private IncrementalProperties incremental = new IncrementalProperties();
+
     @DurationMin(minutes = 2)
     @DurationUnit(ChronoUnit.MINUTES)
     @NotNull
@@ -56,4 +62,26 @@ public class HistoricalBalanceProperties {
                     "The two configuration properties can't be both true: hiero.mirror.importer.downloader.balance.enabled and hiero.mirror.importer.parser.record.historicalBalance.enabled");
         }
     }
+
+    @Data
+    public static class IncrementalProperties {
+
+        /**
+         * Whether to generate snapshots from the balance changes tracked while parsing instead of scanning the entity
+         * and token_account tables for changed balances.
+         */
+        private boolean enabled = false;
+
+        @Min(1)
+        private int maxChanges = 2_000_000;
+
+        /**
+         * The maximum interval between two snapshots generated by scanning the tables, as a safety net for any balance
+         * change that's not tracked while parsing.
+         */
+        @DurationMin(minutes = 15)
+        @DurationUnit(ChronoUnit.MINUTES)
+        @NotNull
+        private Duration scanInterval = Duration.ofDays(1);
+    }
 }
@@ -9,9 +9,20 @@ import com.google.common.base.Stopwatch;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import javax.sql.DataSource;
 import lombok.CustomLog;
 import org.hiero.mirror.common.domain.StreamType;
 import org.hiero.mirror.common.domain.SystemEntity;
@@ -28,7 +39,10 @@ import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.AccountBalanceRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.TokenBalanceRepository;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -44,9 +58,36 @@ import org.springframework.transaction.support.TransactionTemplate;
 public class HistoricalBalanceService {
 
     private static final String ACCOUNT_BALANCE_TABLE_NAME = "account_balance";
+    private static final String ACCOUNT_CHANGES_SQL =
+            """
+            create temporary table balance_snapshot_account (id bigint not null) on commit drop
+            """;
+    private static final String ACCOUNT_INCREMENTAL_SQL =
+            """
+            insert into account_balance (account_id, balance, consensus_timestamp)
+            select id, balance, ?
+            from entity
+            where id in (select id from balance_snapshot_account) and (balance is not null or id = ?)
+            order by id
+            """;
+    private static final String TOKEN_ACCOUNT_CHANGES_SQL =
+            """
+            create temporary table balance_snapshot_token_account (account_id bigint not null, token_id bigint not null)
+              on commit drop
+            """;
+    private static final String TOKEN_ACCOUNT_INCREMENTAL_SQL =
+            """
+            insert into token_balance (account_id, balance, consensus_timestamp, token_id)
+            select account_id, balance, ?, token_id
+            from token_account
+            where (account_id, token_id) in (select account_id, token_id from balance_snapshot_token_account)
+            order by account_id, token_id
+            """;
 
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
+    private final BalanceChangeTracker balanceChangeTracker;
+    private final DataSource dataSource;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final AtomicBoolean running = new AtomicBoolean(false);
@@ -55,14 +96,21 @@ public class HistoricalBalanceService {
     private final TokenBalanceRepository tokenBalanceRepository;
     private final TransactionTemplate transactionTemplate;
 
+    // Only accessed by the single running snapshot
+    private long lastScanTimestamp;
+    private int scansRequired = 1;
+
     // metrics
     private final Timer generateDurationMetricFailure;
     private final Timer generateDurationMetricSuccess;
+    private final Map<SnapshotMode, Timer> snapshotMetrics = new EnumMap<>(SnapshotMode.class);
 
     @SuppressWarnings("java:S107")
     public HistoricalBalanceService(
             AccountBalanceFileRepository accountBalanceFileRepository,
             AccountBalanceRepository accountBalanceRepository,
+            BalanceChangeTracker balanceChangeTracker,
+            DataSource dataSource,
             MeterRegistry meterRegistry,
             PlatformTransactionManager platformTransactionManager,
             HistoricalBalanceProperties properties,
@@ -72,6 +120,8 @@ public class HistoricalBalanceService {
             TokenBalanceRepository tokenBalanceRepository) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.accountBalanceRepository = accountBalanceRepository;
+        this.balanceChangeTracker = balanceChangeTracker;
+        this.dataSource = dataSource;
         this.properties = properties;
         this.recordFileRepository = recordFileRepository;
         this.systemEntity = systemEntity;
@@ -89,6 +139,15 @@ public class HistoricalBalanceService {
         var timer = Timer.builder(STREAM_PARSE_DURATION_METRIC_NAME).tag("type", StreamType.BALANCE.toString());
         generateDurationMetricFailure = timer.tag("success", "false").register(meterRegistry);
         generateDurationMetricSuccess = timer.tag("success", "true").register(meterRegistry);
+
+        for (var mode : SnapshotMode.values()) {
+            snapshotMetrics.put(
+                    mode,
+                    Timer.builder("hiero.mirror.importer.historical.balance.snapshot")
+                            .description("The time it took to generate a historical balance snapshot")
+                            .tag("mode", mode.toString())
+                            .register(meterRegistry));
+        }
     }
 
     /**
@@ -114,7 +173,7 @@ public class HistoricalBalanceService {
 
             final long treasuryAccountId = systemEntity.treasuryAccount().getId();
             log.info("Generating historical balances after processing record file with consensusEnd {}", consensusEnd);
-            transactionTemplate.executeWithoutResult(t -> {
+            var snapshot = transactionTemplate.execute(t -> {
                 long loadStart = System.currentTimeMillis();
                 long timestamp = recordFileRepository
                         .findLatest()
@@ -123,15 +182,19 @@ public class HistoricalBalanceService {
                         .orElseThrow(() -> new ParserException("Record file table is empty"));
 
                 var maxConsensusTimestamp = getMaxConsensusTimestamp(timestamp);
-                boolean full = maxConsensusTimestamp.isEmpty();
+                var mode = getSnapshotMode(maxConsensusTimestamp, timestamp);
                 int accountBalancesCount;
                 int tokenBalancesCount;
-                if (full) {
+                if (mode == SnapshotMode.FULL) {
                     // get a full snapshot
                     accountBalancesCount = accountBalanceRepository.balanceSnapshot(timestamp, treasuryAccountId);
                     tokenBalancesCount = properties.isTokenBalances()
                             ? tokenBalanceRepository.balanceSnapshot(timestamp, treasuryAccountId)
                             : 0;
+                } else if (mode == SnapshotMode.INCREMENTAL) {
+                    // get a snapshot of only the balances changed since the last snapshot
+                    accountBalancesCount = incrementalAccountSnapshot(timestamp, treasuryAccountId);
+                    tokenBalancesCount = properties.isTokenBalances() ? incrementalTokenSnapshot(timestamp) : 0;
                 } else {
                     // get a snapshot that has no duplicates
                     accountBalancesCount = accountBalanceRepository.balanceSnapshotDeduplicate(
@@ -158,13 +221,17 @@ public class HistoricalBalanceService {
 
                 log.info(
                         "Generated {} historical account balance file {} with {} account balances and {} token balances in {}",
-                        full ? "full" : "deduped",
+                        mode,
                         filename,
                         accountBalancesCount,
                         tokenBalancesCount,
                         stopwatch);
+                return new Snapshot(mode, timestamp);
             });
 
+            onSnapshotCommitted(snapshot);
+            snapshotMetrics.get(snapshot.mode()).record(stopwatch.elapsed());
+
             timer = generateDurationMetricSuccess;
         } catch (Exception e) {
             log.error("Failed to generate historical balances in {}", stopwatch, e);
@@ -178,6 +245,107 @@ public class HistoricalBalanceService {
         }
     }
 
+    private <T> void copy(Connection connection, String sql, Collection<T> rows, Function<T, String> formatter)
+            throws SQLException, IOException {
+        var copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql);
+
+        try (var writer = new BufferedWriter(
+                new OutputStreamWriter(new PGCopyOutputStream(copyIn), StandardCharsets.UTF_8))) {
+            for (var row : rows) {
+                writer.write(formatter.apply(row));
+                writer.newLine();
+            }
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private SnapshotMode getSnapshotMode(Optional<Long> maxConsensusTimestamp, long timestamp) {
+        if (maxConsensusTimestamp.isEmpty()) {
+            return SnapshotMode.FULL;
+        }
+
+        var incremental = properties.getIncremental();
+        boolean scanDue = timestamp - lastScanTimestamp >= incremental.getScanInterval().toNanos();
+        if (incremental.isEnabled() && balanceChangeTracker.isValid() && scansRequired == 0 && !scanDue) {
+            return SnapshotMode.INCREMENTAL;
+        }
+
+        return SnapshotMode.DEDUPED;
+    }
+
+    private int incrementalAccountSnapshot(long timestamp, long treasuryAccountId) {
+        var accounts = balanceChangeTracker.getAccounts();
+        accounts.add(treasuryAccountId);
+        return incrementalSnapshot(
+                ACCOUNT_CHANGES_SQL,
+                "copy balance_snapshot_account (id) from stdin",
+                accounts,
+                String::valueOf,
+                ACCOUNT_INCREMENTAL_SQL,
+                timestamp,
+                treasuryAccountId);
+    }
+
+    private int incrementalTokenSnapshot(long timestamp) {
+        return incrementalSnapshot(
+                TOKEN_ACCOUNT_CHANGES_SQL,
+                "copy balance_snapshot_token_account (account_id, token_id) from stdin",
+                balanceChangeTracker.getTokenAccounts(),
+                key -> key.accountId() + "\t" + key.tokenId(),
+                TOKEN_ACCOUNT_INCREMENTAL_SQL,
+                timestamp);
+    }
+
+    // Copies the changed rows into a temporary table so their balances are inserted with a single join
+    private <T> int incrementalSnapshot(
+            String createSql,
+            String copySql,
+            Collection<T> changes,
+            Function<T, String> formatter,
+            String insertSql,
+            long... parameters) {
+        var connection = DataSourceUtils.getConnection(dataSource);
+
+        try {
+            try (var statement = connection.createStatement()) {
+                statement.execute(createSql);
+            }
+
+            copy(connection, copySql, changes, formatter);
+
+            try (var preparedStatement = connection.prepareStatement(insertSql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    preparedStatement.setLong(i + 1, parameters[i]);
+                }
+
+                return preparedStatement.executeUpdate();
+            }
+        } catch (IOException | SQLException e) {
+            throw new ParserException("Error generating incremental balance snapshot", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    private void onSnapshotCommitted(Snapshot snapshot) {
+        if (snapshot.mode() != SnapshotMode.INCREMENTAL) {
+            lastScanTimestamp = snapshot.timestamp();
+
+            if (!balanceChangeTracker.isValid() && properties.getIncremental().isEnabled()) {
+                // Changes parsed before the restart but committed after this snapshot weren't tracked
+                balanceChangeTracker.restart();
+                scansRequired = 1;
+            } else if (scansRequired > 0) {
+                scansRequired--;
+            }
+        }
+
+        balanceChangeTracker.remove(snapshot.timestamp());
+    }
+
     private Optional<Long> getMaxConsensusTimestamp(long timestamp) {
         var partitions =
                 timePartitionService.getOverlappingTimePartitions(ACCOUNT_BALANCE_TABLE_NAME, timestamp, timestamp);
@@ -206,4 +374,17 @@ public class HistoricalBalanceService {
                                 >= properties.getMinFrequency().toNanos())
                         .isPresent();
     }
+
+    private record Snapshot(SnapshotMode mode, long timestamp) {}
+
+    private enum SnapshotMode {
+        DEDUPED,
+        FULL,
+        INCREMENTAL;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
 }
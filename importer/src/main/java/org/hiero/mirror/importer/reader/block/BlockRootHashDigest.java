@@ -5,7 +5,13 @@ package org.hiero.mirror.importer.reader.block;
 import static org.hiero.mirror.common.domain.DigestAlgorithm.SHA_384;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.protobuf.ByteOutput;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
@@ -24,6 +30,7 @@ class BlockRootHashDigest {
     private static final byte[] EMPTY_HASH = createSha384Digest().digest(new byte[0]);
 
     private final MessageDigest digest = createSha384Digest();
+    private final ByteOutput digestOutput = new DigestByteOutput(digest);
     private boolean finalized;
     private final List<byte[]> inputHashes = new ArrayList<>();
     private final List<byte[]> outputHashes = new ArrayList<>();
@@ -31,11 +38,29 @@ class BlockRootHashDigest {
     private byte[] startOfBlockStateHash;
 
     public void addInputBlockItem(BlockItem blockItem) {
-        inputHashes.add(digest.digest(blockItem.toByteArray()));
+        addInputBlockItem(blockItem.toByteString());
+    }
+
+    /**
+     * Adds an input block item by its serialized bytes. The bytes are hashed in place without being copied.
+     *
+     * @param blockItemBytes the serialized block item
+     */
+    public void addInputBlockItem(ByteString blockItemBytes) {
+        inputHashes.add(hash(blockItemBytes));
     }
 
     public void addOutputBlockItem(BlockItem blockItem) {
-        outputHashes.add(digest.digest(blockItem.toByteArray()));
+        addOutputBlockItem(blockItem.toByteString());
+    }
+
+    /**
+     * Adds an output block item by its serialized bytes. The bytes are hashed in place without being copied.
+     *
+     * @param blockItemBytes the serialized block item
+     */
+    public void addOutputBlockItem(ByteString blockItemBytes) {
+        outputHashes.add(hash(blockItemBytes));
     }
 
     public String digest() {
@@ -98,9 +123,55 @@ class BlockRootHashDigest {
         return leaves.getFirst();
     }
 
+    private byte[] hash(ByteString bytes) {
+        try {
+            UnsafeByteOperations.unsafeWriteTo(bytes, digestOutput);
+            return digest.digest();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private static void validateHash(byte[] hash, String name) {
         if (Objects.requireNonNull(hash, "Null " + name).length != SHA_384.getSize()) {
             throw new IllegalArgumentException(String.format("%s is not %d bytes", name, SHA_384.getSize()));
         }
     }
+
+    /**
+     * Feeds the backing arrays of a ByteString directly into the message digest
+     */
+    private static final class DigestByteOutput extends ByteOutput {
+
+        private final MessageDigest digest;
+
+        private DigestByteOutput(MessageDigest digest) {
+            this.digest = digest;
+        }
+
+        @Override
+        public void write(byte value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void write(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void writeLazy(byte[] value, int offset, int length) {
+            digest.update(value, offset, length);
+        }
+
+        @Override
+        public void write(ByteBuffer value) {
+            digest.update(value);
+        }
+
+        @Override
+        public void writeLazy(ByteBuffer value) {
+            digest.update(value);
+        }
+    }
 }
@@ -2,7 +2,29 @@
 
 package org.hiero.mirror.importer.reader.block;
 
+import com.google.protobuf.ByteString;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
 import java.util.List;
 
-public record BlockStream(List<BlockItem> blockItems, byte[] bytes, String filename, long loadStart, Long nodeId) {}
+/**
+ * A block stream to read.
+ *
+ * @param blockItems     the block items
+ * @param blockItemBytes the original serialized bytes of each block item, or null if they should be reserialized
+ * @param bytes          the raw bytes of the block
+ * @param filename       the block filename
+ * @param loadStart      the time the block started loading
+ * @param nodeId         the node the block was downloaded from
+ */
+public record BlockStream(
+        List<BlockItem> blockItems,
+        List<ByteString> blockItemBytes,
+        byte[] bytes,
+        String filename,
+        long loadStart,
+        Long nodeId) {
+
+    public BlockStream(List<BlockItem> blockItems, byte[] bytes, String filename, long loadStart, Long nodeId) {
+        this(blockItems, null, bytes, filename, loadStart, nodeId);
+    }
+}
@@ -12,6 +12,7 @@ import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.STATE_CHANG
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_OUTPUT;
 import static com.hedera.hapi.block.stream.protoc.BlockItem.ItemCase.TRANSACTION_RESULT;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.output.protoc.TransactionOutput;
@@ -41,7 +42,8 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
 
     @Override
     public BlockFile read(@NotNull BlockStream blockStream) {
-        var context = new ReaderContext(blockStream.blockItems(), blockStream.filename());
+        var context =
+                new ReaderContext(blockStream.blockItems(), blockStream.blockItemBytes(), blockStream.filename());
         byte[] bytes = blockStream.bytes();
         Integer size = bytes != null ? bytes.length : null;
         var blockFileBuilder = context.getBlockFile()
@@ -197,6 +199,7 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
     private static class ReaderContext {
         private BlockFile.BlockFileBuilder blockFile;
         private List<BlockItem> blockItems;
+        private List<ByteString> blockItemBytes;
         private BlockRootHashDigest blockRootHashDigest;
         private String filename;
 
@@ -216,9 +219,11 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
         @Setter
         private Long lastMetaTimestamp; // The last consensus timestamp from metadata
 
-        ReaderContext(@NotNull List<BlockItem> blockItems, @NotNull String filename) {
+        ReaderContext(
+                @NotNull List<BlockItem> blockItems, List<ByteString> blockItemBytes, @NotNull String filename) {
             this.blockFile = BlockFile.builder();
             this.blockItems = blockItems;
+            this.blockItemBytes = blockItemBytes;
             this.blockRootHashDigest = new BlockRootHashDigest();
             this.filename = filename;
         }
@@ -267,11 +272,14 @@ public class BlockStreamReaderImpl implements BlockStreamReader {
                 return null;
             }
 
+            // Hash the original bytes when available to avoid serializing the block item again
+            var bytes = blockItemBytes != null ? blockItemBytes.get(index) : null;
             index++;
             switch (itemCase) {
-                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER -> blockRootHashDigest.addInputBlockItem(blockItem);
+                case EVENT_HEADER, EVENT_TRANSACTION, ROUND_HEADER ->
+                    blockRootHashDigest.addInputBlockItem(bytes != null ? bytes : blockItem.toByteString());
                 case BLOCK_HEADER, STATE_CHANGES, TRANSACTION_OUTPUT, TRANSACTION_RESULT ->
-                    blockRootHashDigest.addOutputBlockItem(blockItem);
+                    blockRootHashDigest.addOutputBlockItem(bytes != null ? bytes : blockItem.toByteString());
                 default -> {
                     // other block items aren't considered input / output
                 }
@@ -28,6 +28,11 @@ public class CompositeRecordFileReader implements RecordFileReader {
 
     @Override
     public RecordFile read(@NonNull StreamFileData streamFileData) {
+        return read(streamFileData, false);
+    }
+
+    @Override
+    public RecordFile read(@NonNull StreamFileData streamFileData, boolean streaming) {
         long count = 0;
         Stopwatch stopwatch = Stopwatch.createStarted();
         String filename = streamFileData.getFilename();
@@ -55,7 +60,7 @@ public class CompositeRecordFileReader implements RecordFileReader {
                             String.format("Unsupported record file version %d in file %s", version, filename));
             }
 
-            RecordFile recordFile = reader.read(streamFileData);
+            RecordFile recordFile = reader.read(streamFileData, streaming);
             count = recordFile.getCount();
             return recordFile;
         } catch (IOException e) {
@@ -5,8 +5,16 @@ package org.hiero.mirror.importer.reader.record;
 import static java.lang.String.format;
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.common.collect.AbstractIterator;
+import com.google.common.primitives.Ints;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.WireFormat;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.RecordStreamFile;
+import com.hedera.services.stream.proto.RecordStreamItem;
 import jakarta.inject.Named;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -14,6 +22,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.security.DigestOutputStream;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -37,11 +46,19 @@ public class ProtoRecordFileReader implements RecordFileReader {
 
     @Override
     public RecordFile read(StreamFileData streamFileData) {
+        return read(streamFileData, false);
+    }
+
+    @Override
+    public RecordFile read(StreamFileData streamFileData, boolean streaming) {
         var filename = streamFileData.getFilename();
         var loadStart = streamFileData.getStreamFilename().getTimestamp();
 
-        try (var inputStream = streamFileData.getInputStream()) {
-            var recordStreamFile = readRecordStreamFile(filename, inputStream);
+        try {
+            var content = streaming
+                    ? scanRecordStreamFile(filename, streamFileData.getDecompressedBytes())
+                    : readRecordStreamFile(filename, streamFileData.getInputStream());
+            var recordStreamFile = content.recordStreamFile();
             var startObjectRunningHash = recordStreamFile.getStartObjectRunningHash();
             var endObjectRunningHash = recordStreamFile.getEndObjectRunningHash();
             var startHashAlgorithm = startObjectRunningHash.getAlgorithm();
@@ -56,9 +73,8 @@ public class ProtoRecordFileReader implements RecordFileReader {
             }
 
             var bytes = streamFileData.getBytes();
-            var items = readItems(filename, recordStreamFile);
-            int count = items.size();
-            long consensusEnd = items.get(count - 1).getConsensusTimestamp();
+            var items = content.items();
+            long consensusEnd = content.consensusEnd();
             var digestAlgorithm = getDigestAlgorithm(filename, startHashAlgorithm, endHashAlgorithm);
             var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
             var majorVersion = hapiProtoVersion.getMajor();
@@ -68,9 +84,9 @@ public class ProtoRecordFileReader implements RecordFileReader {
 
             return RecordFile.builder()
                     .bytes(bytes)
-                    .consensusStart(items.get(0).getConsensusTimestamp())
+                    .consensusStart(content.consensusStart())
                     .consensusEnd(consensusEnd)
-                    .count((long) count)
+                    .count((long) items.size())
                     .digestAlgorithm(digestAlgorithm)
                     .fileHash(getFileHash(streamFileData.getDecompressedBytes()))
                     .hapiVersionMajor(majorVersion)
@@ -157,41 +173,145 @@ public class ProtoRecordFileReader implements RecordFileReader {
         }
     }
 
-    private List<RecordItem> readItems(String filename, RecordStreamFile recordStreamFile) {
-        int count = recordStreamFile.getRecordStreamItemsCount();
-        if (count == 0) {
-            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
+    private Content readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
+        try (var dataInputStream = new DataInputStream(inputStream)) {
+            int version = dataInputStream.readInt();
+            validateVersion(filename, version);
+
+            var recordStreamFile = RecordStreamFile.parseFrom(dataInputStream);
+            int count = recordStreamFile.getRecordStreamItemsCount();
+            validateCount(filename, count);
+
+            var hapiVersion = getHapiVersion(recordStreamFile);
+            var items = new ArrayList<RecordItem>(count);
+            RecordItem previousItem = null;
+            for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
+                var recordItem = toRecordItem(recordStreamItem, hapiVersion, previousItem, items.size());
+                items.add(recordItem);
+                previousItem = recordItem;
+            }
+
+            return new Content(
+                    items.getFirst().getConsensusTimestamp(),
+                    items.getLast().getConsensusTimestamp(),
+                    items,
+                    recordStreamFile);
         }
+    }
 
-        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
-        var hapiVersion =
-                new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
-        var items = new ArrayList<RecordItem>(count);
-        RecordItem previousItem = null;
-        for (var recordStreamItem : recordStreamFile.getRecordStreamItemsList()) {
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(hapiVersion)
-                    .previous(previousItem)
-                    .transactionRecord(recordStreamItem.getRecord())
-                    .transaction(recordStreamItem.getTransaction())
-                    .transactionIndex(items.size())
-                    .build();
-            items.add(recordItem);
-            previousItem = recordItem;
+    /**
+     * Scans the record stream file in a single pass without parsing its record stream items other than the first and
+     * the last, which are needed for the consensus start and end. Every other field is copied as is and parsed on its
+     * own, and the items are decoded from the bytes on demand.
+     */
+    private Content scanRecordStreamFile(String filename, byte[] bytes) throws IOException {
+        if (bytes.length < Integer.BYTES) {
+            throw new InvalidStreamFileException("Error reading record file " + filename);
+        }
+
+        validateVersion(filename, Ints.fromByteArray(bytes));
+
+        var input = newItemsInputStream(bytes);
+        var header = ByteString.newOutput();
+        var headerOutput = CodedOutputStream.newInstance(header);
+        int count = 0;
+        ByteString firstItem = null;
+        ByteString lastItem = null;
+        int tag;
+
+        while ((tag = input.readTag()) != 0) {
+            if (isRecordStreamItem(tag)) {
+                lastItem = input.readBytes();
+                firstItem = count++ == 0 ? lastItem : firstItem;
+            } else {
+                input.skipField(tag, headerOutput);
+            }
         }
 
-        return items;
+        headerOutput.flush();
+        validateCount(filename, count);
+
+        var recordStreamFile = RecordStreamFile.parseFrom(header.toByteString());
+        var hapiVersion = getHapiVersion(recordStreamFile);
+        var items = new StreamingRecordItems(filename, count, () -> decodeItems(filename, bytes, hapiVersion));
+        return new Content(getConsensusTimestamp(firstItem), getConsensusTimestamp(lastItem), items, recordStreamFile);
     }
 
-    private RecordStreamFile readRecordStreamFile(String filename, InputStream inputStream) throws IOException {
-        try (var dataInputStream = new DataInputStream(inputStream)) {
-            int version = dataInputStream.readInt();
-            if (version != VERSION) {
-                throw new InvalidStreamFileException(
-                        format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+    private Iterator<RecordItem> decodeItems(String filename, byte[] bytes, Version hapiVersion) {
+        var input = newItemsInputStream(bytes);
+
+        return new AbstractIterator<>() {
+            private int index;
+            private RecordItem previousItem;
+
+            @Override
+            protected RecordItem computeNext() {
+                try {
+                    int tag;
+                    while ((tag = input.readTag()) != 0) {
+                        if (isRecordStreamItem(tag)) {
+                            var recordStreamItem = input.readMessage(
+                                    RecordStreamItem.parser(), ExtensionRegistryLite.getEmptyRegistry());
+                            previousItem = toRecordItem(recordStreamItem, hapiVersion, previousItem, index++);
+                            return previousItem;
+                        }
+
+                        input.skipField(tag);
+                    }
+
+                    return endOfData();
+                } catch (IOException e) {
+                    throw new InvalidStreamFileException("Error decoding record file " + filename, e);
+                }
             }
+        };
+    }
+
+    private long getConsensusTimestamp(ByteString recordStreamItem) throws IOException {
+        var transactionRecord = RecordStreamItem.parseFrom(recordStreamItem).getRecord();
+        return DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
+    }
+
+    private Version getHapiVersion(RecordStreamFile recordStreamFile) {
+        var hapiProtoVersion = recordStreamFile.getHapiProtoVersion();
+        return new Version(hapiProtoVersion.getMajor(), hapiProtoVersion.getMinor(), hapiProtoVersion.getPatch());
+    }
+
+    private boolean isRecordStreamItem(int tag) {
+        return WireFormat.getTagFieldNumber(tag) == RecordStreamFile.RECORD_STREAM_ITEMS_FIELD_NUMBER
+                && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+    }
 
-            return RecordStreamFile.parseFrom(dataInputStream);
+    private CodedInputStream newItemsInputStream(byte[] bytes) {
+        var input = CodedInputStream.newInstance(bytes, Integer.BYTES, bytes.length - Integer.BYTES);
+        input.enableAliasing(true);
+        return input;
+    }
+
+    private RecordItem toRecordItem(
+            RecordStreamItem recordStreamItem, Version hapiVersion, RecordItem previousItem, int index) {
+        return RecordItem.builder()
+                .hapiVersion(hapiVersion)
+                .previous(previousItem)
+                .transactionRecord(recordStreamItem.getRecord())
+                .transaction(recordStreamItem.getTransaction())
+                .transactionIndex(index)
+                .build();
+    }
+
+    private void validateCount(String filename, int count) {
+        if (count == 0) {
+            throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
     }
+
+    private void validateVersion(String filename, int version) {
+        if (version != VERSION) {
+            throw new InvalidStreamFileException(
+                    format("Expected file %s with version %d, got %d.", filename, VERSION, version));
+        }
+    }
+
+    private record Content(
+            long consensusStart, long consensusEnd, List<RecordItem> items, RecordStreamFile recordStreamFile) {}
 }
@@ -4,9 +4,23 @@ package org.hiero.mirror.importer.reader.record;
 
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.reader.StreamFileReader;
 
 public interface RecordFileReader extends StreamFileReader<RecordFile, RecordItem> {
 
     int MAX_TRANSACTION_LENGTH = 64 * 1024;
+
+    /**
+     * Reads a record file, optionally in streaming mode. In streaming mode, the file is verified in a single pass and
+     * its items are a {@link StreamingRecordItems} decoded from the file bytes as they are iterated. Readers that don't
+     * support streaming fall back to reading all items into memory.
+     *
+     * @param streamFileData {@link StreamFileData} object for the record file
+     * @param streaming      whether to decode the record items lazily
+     * @return {@link RecordFile} object
+     */
+    default RecordFile read(StreamFileData streamFileData, boolean streaming) {
+        return read(streamFileData);
+    }
 }
@@ -4,16 +4,19 @@ package org.hiero.mirror.importer.reader.record;
 
 import static org.hiero.mirror.common.util.DomainUtils.createSha384Digest;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.primitives.Longs;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.inject.Named;
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -21,12 +24,14 @@ import org.apache.commons.codec.binary.Hex;
 import org.hiero.mirror.common.domain.DigestAlgorithm;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
+import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.InvalidStreamFileException;
 import org.hiero.mirror.importer.exception.StreamFileReaderException;
 import org.hiero.mirror.importer.reader.AbstractStreamObject;
 import org.hiero.mirror.importer.reader.HashObject;
 import org.hiero.mirror.importer.reader.ValidatedDataInputStream;
+import org.springframework.data.util.Version;
 
 @Named
 public class RecordFileReaderImplV5 implements RecordFileReader {
@@ -36,6 +41,11 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
 
     @Override
     public RecordFile read(StreamFileData streamFileData) {
+        return read(streamFileData, false);
+    }
+
+    @Override
+    public RecordFile read(StreamFileData streamFileData, boolean streaming) {
         MessageDigest messageDigestFile = createSha384Digest();
         MessageDigest messageDigestMetadata = createSha384Digest();
         String filename = streamFileData.getFilename();
@@ -57,7 +67,7 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
             recordFile.setSize(bytes.length);
 
             readHeader(vdis, recordFile);
-            readBody(vdis, digestInputStream, recordFile);
+            readBody(vdis, digestInputStream, recordFile, streaming ? streamFileData.getDecompressedBytes() : null);
 
             recordFile.setFileHash(Hex.encodeHexString(messageDigestFile.digest()));
             recordFile.setMetadataHash(Hex.encodeHexString(messageDigestMetadata.digest()));
@@ -79,8 +89,15 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         recordFile.setVersion(VERSION);
     }
 
+    /**
+     * Reads the record file body. If the decompressed file bytes are given, the record stream objects are only
+     * validated and hashed and the items are decoded from the bytes on demand instead of being read into memory.
+     */
     private void readBody(
-            ValidatedDataInputStream vdis, DigestInputStream metadataDigestInputStream, RecordFile recordFile)
+            ValidatedDataInputStream vdis,
+            DigestInputStream metadataDigestInputStream,
+            RecordFile recordFile,
+            byte[] streamingBytes)
             throws IOException {
         String filename = recordFile.getName();
 
@@ -93,20 +110,26 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
 
         int count = 0;
         long consensusStart = 0;
+        long consensusEnd = 0;
         List<RecordItem> items = new ArrayList<>();
         RecordItem lastRecordItem = null;
+        RecordStreamObject lastRecordStreamObject = null;
 
         // read record stream objects
         while (!isHashObject(vdis, hashObjectClassId)) {
             RecordStreamObject recordStreamObject = new RecordStreamObject(vdis);
-            var recordItem = RecordItem.builder()
-                    .hapiVersion(recordFile.getHapiVersion())
-                    .previous(lastRecordItem)
-                    .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
-                    .transactionIndex(count)
-                    .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes))
-                    .build();
 
+            if (streamingBytes != null) {
+                if (count == 0) {
+                    consensusStart = getConsensusTimestamp(recordStreamObject);
+                }
+
+                lastRecordStreamObject = recordStreamObject;
+                count++;
+                continue;
+            }
+
+            var recordItem = toRecordItem(recordStreamObject, recordFile.getHapiVersion(), lastRecordItem, count);
             items.add(recordItem);
 
             if (count == 0) {
@@ -114,13 +137,19 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
             }
 
             lastRecordItem = recordItem;
+            consensusEnd = recordItem.getConsensusTimestamp();
             count++;
         }
 
         if (count == 0) {
             throw new InvalidStreamFileException("No record stream objects in record file " + filename);
         }
-        long consensusEnd = lastRecordItem.getConsensusTimestamp();
+
+        if (streamingBytes != null) {
+            var hapiVersion = recordFile.getHapiVersion();
+            consensusEnd = getConsensusTimestamp(lastRecordStreamObject);
+            items = new StreamingRecordItems(filename, count, () -> decodeItems(filename, streamingBytes, hapiVersion));
+        }
 
         // end object running hash, metadata hash is calculated on it
         metadataDigestInputStream.on(true);
@@ -138,6 +167,53 @@ public class RecordFileReaderImplV5 implements RecordFileReader {
         recordFile.setPreviousHash(Hex.encodeHexString(startHashObject.getHash()));
     }
 
+    private Iterator<RecordItem> decodeItems(String filename, byte[] bytes, Version hapiVersion) {
+        var vdis = new ValidatedDataInputStream(new ByteArrayInputStream(bytes), filename);
+
+        try {
+            vdis.skipNBytes(5L * Integer.BYTES); // file version, HAPI version and object stream version
+            long hashObjectClassId = new HashObject(vdis, DIGEST_ALGORITHM).getClassId();
+
+            return new AbstractIterator<>() {
+                private int index;
+                private RecordItem previousItem;
+
+                @Override
+                protected RecordItem computeNext() {
+                    try {
+                        if (isHashObject(vdis, hashObjectClassId)) {
+                            return endOfData();
+                        }
+
+                        previousItem = toRecordItem(new RecordStreamObject(vdis), hapiVersion, previousItem, index++);
+                        return previousItem;
+                    } catch (IOException e) {
+                        throw new InvalidStreamFileException("Error decoding record file " + filename, e);
+                    }
+                }
+            };
+        } catch (IOException e) {
+            throw new InvalidStreamFileException("Error decoding record file " + filename, e);
+        }
+    }
+
+    private long getConsensusTimestamp(RecordStreamObject recordStreamObject) throws IOException {
+        var transactionRecord = TransactionRecord.parseFrom(recordStreamObject.recordBytes);
+        return DomainUtils.timestampInNanosMax(transactionRecord.getConsensusTimestamp());
+    }
+
+    private RecordItem toRecordItem(
+            RecordStreamObject recordStreamObject, Version hapiVersion, RecordItem previousItem, int index)
+            throws IOException {
+        return RecordItem.builder()
+                .hapiVersion(hapiVersion)
+                .previous(previousItem)
+                .transactionRecord(TransactionRecord.parseFrom(recordStreamObject.recordBytes))
+                .transactionIndex(index)
+                .transaction(Transaction.parseFrom(recordStreamObject.transactionBytes))
+                .build();
+    }
+
     private boolean isHashObject(DataInputStream dis, long hashObjectClassId) throws IOException {
         dis.mark(Longs.BYTES);
         long classId = dis.readLong();
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.ListMultimap;
+import com.hedera.services.stream.proto.TransactionSidecarRecord;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import lombok.Setter;
+import org.hiero.mirror.common.domain.transaction.RecordItem;
+
+/**
+ * A list of record items that are decoded from the verified record file bytes as they're iterated instead of being
+ * held in memory. Only the items currently referenced by the caller stay reachable, so the heap used by a record file
+ * is its bytes rather than every decoded item. Each iteration decodes the items from the bytes again, so a retried
+ * parse starts from fresh items and changes to the items of a previous iteration aren't kept. Accessing the items by
+ * index is only efficient in ascending order. Sidecar records are attached to the items as they are decoded.
+ * <p>
+ * Two lists are equal if they're decoded from the same record file, so comparing them doesn't decode the items.
+ */
+public final class StreamingRecordItems extends AbstractList<RecordItem> {
+
+    private final String filename;
+    private final int size;
+    private final Supplier<Iterator<RecordItem>> decoder;
+
+    // The item last accessed by index and the decoder positioned after it
+    private RecordItem current;
+    private Iterator<RecordItem> cursor;
+    private int cursorIndex = -1;
+
+    @NonNull
+    @Setter
+    private ListMultimap<Timestamp, TransactionSidecarRecord> sidecarRecords = ImmutableListMultimap.of();
+
+    StreamingRecordItems(String filename, int size, Supplier<Iterator<RecordItem>> decoder) {
+        this.decoder = decoder;
+        this.filename = filename;
+        this.size = size;
+    }
+
+    @Override
+    public RecordItem get(int index) {
+        Objects.checkIndex(index, size);
+
+        if (cursor == null || index < cursorIndex) {
+            cursor = iterator();
+            cursorIndex = -1;
+        }
+
+        while (cursorIndex < index) {
+            current = cursor.next();
+            cursorIndex++;
+        }
+
+        return current;
+    }
+
+    @Override
+    public Iterator<RecordItem> iterator() {
+        return Iterators.transform(decoder.get(), recordItem -> {
+            var timestamp = recordItem.getTransactionRecord().getConsensusTimestamp();
+            if (sidecarRecords.containsKey(timestamp)) {
+                recordItem.setSidecarRecords(sidecarRecords.get(timestamp));
+            }
+            return recordItem;
+        });
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+
+        return other instanceof StreamingRecordItems items && size == items.size && filename.equals(items.filename);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(filename, size);
+    }
+}
@@ -0,0 +1,191 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reconciliation;
+
+/**
+ * An open addressing hash map of balances keyed by an account and token ID pair that stores its keys and values in
+ * primitive arrays. A balance file can have millions of balances, so this avoids the boxed keys, values and entry
+ * objects of a {@link java.util.HashMap}. A token balance key is packed as two adjacent longs in the keys array while an
+ * HBAR balance key only stores the account ID since its token ID is always zero. A missing balance is treated as a zero
+ * balance.
+ */
+final class BalanceMap {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final int stride;
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    private BalanceMap(int stride) {
+        this.stride = stride;
+        allocate(DEFAULT_CAPACITY);
+    }
+
+    static BalanceMap accounts() {
+        return new BalanceMap(1);
+    }
+
+    static BalanceMap tokenAccounts() {
+        return new BalanceMap(2);
+    }
+
+    /**
+     * Adds the amount to the balance, inserting the balance if it's missing.
+     *
+     * @throws ArithmeticException if the balance overflows
+     */
+    void add(long accountId, long tokenId, long amount) {
+        int slot = slot(accountId, tokenId);
+
+        if (used[slot]) {
+            values[slot] = Math.addExact(values[slot], amount);
+        } else {
+            insert(slot, accountId, tokenId, amount);
+        }
+    }
+
+    long get(long accountId, long tokenId) {
+        int slot = slot(accountId, tokenId);
+        return used[slot] ? values[slot] : 0L;
+    }
+
+    void put(long accountId, long tokenId, long balance) {
+        int slot = slot(accountId, tokenId);
+
+        if (used[slot]) {
+            values[slot] = balance;
+        } else {
+            insert(slot, accountId, tokenId, balance);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(BalanceConsumer consumer) {
+        for (int slot = 0; slot < used.length; slot++) {
+            if (used[slot]) {
+                consumer.accept(accountId(keys, slot), tokenId(keys, slot), values[slot]);
+            }
+        }
+    }
+
+    /**
+     * Compares the balances of this map with the other map, treating missing balances as zero. Every differing balance
+     * is passed to the consumer along with this map's balance and the other map's balance.
+     *
+     * @return whether the balances are equal
+     */
+    boolean difference(BalanceMap other, DifferenceConsumer consumer) {
+        var equal = new boolean[] {true};
+
+        forEach((accountId, tokenId, balance) -> {
+            long otherBalance = other.get(accountId, tokenId);
+            if (balance != otherBalance) {
+                equal[0] = false;
+                consumer.accept(accountId, tokenId, balance, otherBalance);
+            }
+        });
+
+        other.forEach((accountId, tokenId, otherBalance) -> {
+            if (otherBalance != 0L && !contains(accountId, tokenId)) {
+                equal[0] = false;
+                consumer.accept(accountId, tokenId, 0L, otherBalance);
+            }
+        });
+
+        return equal[0];
+    }
+
+    private boolean contains(long accountId, long tokenId) {
+        return used[slot(accountId, tokenId)];
+    }
+
+    private void insert(int slot, long accountId, long tokenId, long balance) {
+        setKey(slot, accountId, tokenId);
+        values[slot] = balance;
+        used[slot] = true;
+
+        if (++size > used.length * LOAD_FACTOR) {
+            resize();
+        }
+    }
+
+    // Returns the slot with the key or the empty slot where it should be inserted
+    private int slot(long accountId, long tokenId) {
+        int slot = hash(accountId, tokenId) & mask;
+
+        while (used[slot] && (accountId(keys, slot) != accountId || tokenId(keys, slot) != tokenId)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private void resize() {
+        var oldKeys = keys;
+        var oldValues = values;
+        var oldUsed = used;
+        allocate(oldUsed.length << 1);
+
+        for (int slot = 0; slot < oldUsed.length; slot++) {
+            if (oldUsed[slot]) {
+                long accountId = accountId(oldKeys, slot);
+                long tokenId = tokenId(oldKeys, slot);
+                int newSlot = slot(accountId, tokenId);
+                setKey(newSlot, accountId, tokenId);
+                values[newSlot] = oldValues[slot];
+                used[newSlot] = true;
+            }
+        }
+    }
+
+    private long accountId(long[] array, int slot) {
+        return array[slot * stride];
+    }
+
+    private long tokenId(long[] array, int slot) {
+        return stride == 2 ? array[slot * 2 + 1] : 0L;
+    }
+
+    private void setKey(int slot, long accountId, long tokenId) {
+        if (stride == 2) {
+            keys[slot * 2] = accountId;
+            keys[slot * 2 + 1] = tokenId;
+        } else if (tokenId == 0L) {
+            keys[slot] = accountId;
+        } else {
+            throw new IllegalArgumentException("Token ID must be zero for an HBAR balance: " + tokenId);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity * stride];
+        values = new long[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    // Mixes the bits since entity IDs are mostly sequential and would otherwise cluster
+    private static int hash(long accountId, long tokenId) {
+        long hash = (accountId * 0x9E3779B97F4A7C15L) ^ (tokenId * 0xC2B2AE3D27D4EB4FL);
+        hash ^= hash >>> 32;
+        return (int) (hash ^ (hash >>> 16));
+    }
+
+    @FunctionalInterface
+    interface BalanceConsumer {
+        void accept(long accountId, long tokenId, long balance);
+    }
+
+    @FunctionalInterface
+    interface DifferenceConsumer {
+        void accept(long accountId, long tokenId, long balance, long otherBalance);
+    }
+}
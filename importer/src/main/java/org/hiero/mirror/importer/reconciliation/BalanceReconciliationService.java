@@ -13,19 +13,16 @@ import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.
 import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 
 import com.google.common.base.Stopwatch;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
 import lombok.Builder;
 import lombok.CustomLog;
 import lombok.Value;
@@ -38,8 +35,11 @@ import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.repository.AccountBalanceFileRepository;
 import org.hiero.mirror.importer.repository.ReconciliationJobRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
 
 @CustomLog
 @Named
@@ -48,6 +48,9 @@ class BalanceReconciliationService {
     static final long FIFTY_BILLION_HBARS = 50_000_000_000L * 100_000_000L;
     static final String METRIC = "hiero.mirror.importer.reconciliation";
 
+    // Only stream the rows in batches instead of loading every row of the result set into memory at once
+    private static final int FETCH_SIZE = 10_000;
+
     // Due to the number of rows returned, it's considerably more performant to not use JPA
     private static final String BALANCE_QUERY =
             "select account_id, balance from account_balance " + "where consensus_timestamp = ?";
@@ -74,6 +77,8 @@ class BalanceReconciliationService {
     private final RecordFileRepository recordFileRepository;
     private final ReconciliationProperties reconciliationProperties;
     private final ReconciliationJobRepository reconciliationJobRepository;
+    private final Timer reconcileMetric;
+    private final TransactionOperations transactionOperations;
 
     BalanceReconciliationService(
             AccountBalanceFileRepository accountBalanceFileRepository,
@@ -81,12 +86,17 @@ class BalanceReconciliationService {
             MeterRegistry meterRegistry,
             RecordFileRepository recordFileRepository,
             ReconciliationProperties reconciliationProperties,
-            ReconciliationJobRepository reconciliationJobRepository) {
+            ReconciliationJobRepository reconciliationJobRepository,
+            TransactionOperations transactionOperations) {
         this.accountBalanceFileRepository = accountBalanceFileRepository;
         this.jdbcOperations = jdbcOperations;
         this.recordFileRepository = recordFileRepository;
         this.reconciliationProperties = reconciliationProperties;
         this.reconciliationJobRepository = reconciliationJobRepository;
+        this.transactionOperations = transactionOperations;
+        this.reconcileMetric = Timer.builder(METRIC + ".duration")
+                .description("The time it took to load and reconcile a balance file")
+                .register(meterRegistry);
         this.status = meterRegistry.gauge(
                 METRIC, new AtomicReference<>(UNKNOWN), s -> s.get().ordinal());
     }
@@ -191,6 +201,7 @@ class BalanceReconciliationService {
         reconcileTokenTransfers(previous, current);
 
         long elapsed = System.currentTimeMillis() - current.getStartTime();
+        reconcileMetric.record(Duration.ofMillis(elapsed));
         String name = current.getAccountBalanceFile().getName();
         log.info(
                 "Reconciled balance file {} with {} balances and {} token balances in {} ms",
@@ -207,17 +218,13 @@ class BalanceReconciliationService {
     private void reconcileCryptoTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
         var transfersBalance = previous.getBalances();
 
-        jdbcOperations.query(
+        query(
                 CRYPTO_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long balance = rs.getLong(2);
-                    transfersBalance.merge(accountId, balance, Math::addExact);
-                },
+                rs -> transfersBalance.add(rs.getLong(1), 0L, rs.getLong(2)),
                 previous.getTimestamp(),
                 current.getTimestamp());
 
-        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, BalanceSnapshot::getBalances, previous, current);
+        reconcileTransfers(FAILURE_CRYPTO_TRANSFERS, transfersBalance, current.getBalances(), previous, current);
     }
 
     private void reconcileTokenTransfers(BalanceSnapshot previous, BalanceSnapshot current) {
@@ -227,33 +234,31 @@ class BalanceReconciliationService {
 
         var tokenBalances = previous.getTokenBalances();
 
-        jdbcOperations.query(
+        query(
                 TOKEN_TRANSFER_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    tokenBalances.merge(tokenAccountId, balance, Math::addExact);
-                },
+                rs -> tokenBalances.add(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
                 previous.getTimestamp(),
                 current.getTimestamp());
 
-        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, BalanceSnapshot::getTokenBalances, previous, current);
+        reconcileTransfers(FAILURE_TOKEN_TRANSFERS, tokenBalances, current.getTokenBalances(), previous, current);
     }
 
-    private <K> void reconcileTransfers(
+    private void reconcileTransfers(
             ReconciliationStatus failureStatus,
-            Function<BalanceSnapshot, Map<K, Long>> mapper,
+            BalanceMap transfersBalance,
+            BalanceMap currentBalances,
             BalanceSnapshot previous,
             BalanceSnapshot current) {
-        var transfersBalance = mapper.apply(previous);
-        var currentBalances = mapper.apply(current);
+        var differences = new StringJoiner(", ", "not equal: value differences={", "}");
+        boolean equal = transfersBalance.difference(currentBalances, (accountId, tokenId, expected, actual) -> {
+            var key = tokenId != 0L ? accountId + "/" + tokenId : String.valueOf(accountId);
+            differences.add(key + "=(" + expected + ", " + actual + ")");
+        });
 
-        if (!equals(transfersBalance, currentBalances)) {
+        if (!equal) {
             long fromTimestamp = previous.getTimestamp();
             long toTimestamp = current.getTimestamp();
-            var difference = Maps.difference(transfersBalance, currentBalances);
+            var difference = differences.toString();
 
             if (reconciliationProperties.getRemediationStrategy() == FAIL) {
                 throw new ReconciliationException(failureStatus, fromTimestamp, toTimestamp, difference);
@@ -268,22 +273,6 @@ class BalanceReconciliationService {
         }
     }
 
-    private <T> boolean equals(Map<T, Long> previous, Map<T, Long> current) {
-        for (var previousEntry : previous.entrySet()) {
-            long currentValue = current.getOrDefault(previousEntry.getKey(), 0L);
-            if (previousEntry.getValue() != currentValue) {
-                return false;
-            }
-        }
-        for (var currentEntry : current.entrySet()) {
-            long previousValue = previous.getOrDefault(currentEntry.getKey(), 0L);
-            if (currentEntry.getValue() != previousValue) {
-                return false;
-            }
-        }
-        return true;
-    }
-
     private Optional<BalanceSnapshot> getNextBalanceSnapshot(
             ReconciliationJob reconciliationJob, Optional<BalanceSnapshot> previous) {
 
@@ -306,17 +295,16 @@ class BalanceReconciliationService {
                 });
     }
 
-    private Map<Long, Long> getAccountBalances(AccountBalanceFile accountBalanceFile) {
-        Map<Long, Long> balances = new HashMap<>();
+    private BalanceMap getAccountBalances(AccountBalanceFile accountBalanceFile) {
+        var balances = BalanceMap.accounts();
         AtomicLong total = new AtomicLong(0L);
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
-        jdbcOperations.query(
+        query(
                 BALANCE_QUERY,
                 rs -> {
-                    long accountId = rs.getLong(1);
                     long balance = rs.getLong(2);
-                    balances.put(accountId, balance);
+                    balances.put(rs.getLong(1), 0L, balance);
                     total.addAndGet(balance);
                 },
                 consensusTimestamp);
@@ -329,32 +317,33 @@ class BalanceReconciliationService {
         return balances;
     }
 
-    private Map<TokenAccountId, Long> getTokenBalances(AccountBalanceFile accountBalanceFile) {
+    private BalanceMap getTokenBalances(AccountBalanceFile accountBalanceFile) {
+        var balances = BalanceMap.tokenAccounts();
+
         if (!reconciliationProperties.isToken()) {
-            return Collections.emptyMap();
+            return balances;
         }
 
-        Map<TokenAccountId, Long> balances = new HashMap<>();
         long consensusTimestamp = accountBalanceFile.getConsensusTimestamp();
 
-        jdbcOperations.query(
+        query(
                 TOKEN_BALANCE_QUERY,
-                rs -> {
-                    long accountId = rs.getLong(1);
-                    long tokenId = rs.getLong(2);
-                    long balance = rs.getLong(3);
-                    var tokenAccountId = new TokenAccountId(accountId, tokenId);
-                    balances.put(tokenAccountId, balance);
-                },
+                rs -> balances.put(rs.getLong(1), rs.getLong(2), rs.getLong(3)),
                 consensusTimestamp);
 
         return balances;
     }
 
-    @Value
-    static class TokenAccountId {
-        private final long accountId;
-        private final long tokenId;
+    // The driver only honors the fetch size within a transaction
+    private void query(String sql, RowCallbackHandler handler, Object... arguments) {
+        transactionOperations.executeWithoutResult(t -> jdbcOperations.query(
+                connection -> {
+                    var statement = connection.prepareStatement(sql);
+                    statement.setFetchSize(FETCH_SIZE);
+                    return statement;
+                },
+                new ArgumentPreparedStatementSetter(arguments),
+                handler));
     }
 
     @Builder(toBuilder = true)
@@ -362,11 +351,11 @@ class BalanceReconciliationService {
     private static class BalanceSnapshot {
 
         private final AccountBalanceFile accountBalanceFile;
-        private final Map<Long, Long> balances;
+        private final BalanceMap balances;
         private final Optional<RecordFile> recordFile;
         private final ReconciliationJob reconciliationJob;
         private final long startTime;
-        private final Map<TokenAccountId, Long> tokenBalances;
+        private final BalanceMap tokenBalances;
 
         private long getTimestamp() {
             return accountBalanceFile.getConsensusTimestamp() + accountBalanceFile.getTimeOffset();
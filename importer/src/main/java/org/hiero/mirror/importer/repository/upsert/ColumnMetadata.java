@@ -12,8 +12,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.UpsertColumn;
 
 @Value
-class ColumnMetadata implements Comparable<ColumnMetadata> {
+public class ColumnMetadata implements Comparable<ColumnMetadata> {
 
+    private final String dataType;
     private final Object defaultValue;
 
     @ToString.Exclude
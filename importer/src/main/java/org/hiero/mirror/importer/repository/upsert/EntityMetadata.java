@@ -12,7 +12,7 @@ import org.hiero.mirror.common.domain.Upsertable;
  * Contains the metadata associated with an @Upsertable entity. Used to generate dynamic upsert SQL.
  */
 @Value
-class EntityMetadata {
+public class EntityMetadata {
 
     private final String tableName;
     private final Upsertable upsertable;
@@ -3,6 +3,8 @@
 package org.hiero.mirror.importer.retention;
 
 import com.google.common.base.Stopwatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.inject.Named;
 import java.time.Instant;
 import java.util.Collection;
@@ -17,9 +19,14 @@ import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.config.Owner;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.RetentionRepository;
 import org.hiero.mirror.importer.util.Utility;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -28,9 +35,20 @@ import org.springframework.transaction.support.TransactionOperations;
 @RequiredArgsConstructor
 public class RetentionJob {
 
+    private static final String DETACH_PARTITION_CONCURRENTLY_SQL = "alter table %s detach partition %s concurrently";
+    private static final String DETACH_PARTITION_SQL = "alter table %s detach partition %s";
+    private static final String DROP_TABLE_SQL = "drop table %s";
+    private static final String PARTITION_SIZE_SQL = "select pg_total_relation_size(to_regclass(?))";
+
+    private final MeterRegistry meterRegistry;
+
+    @Owner
+    private final JdbcTemplate jdbcTemplate;
+
     private final RecordFileRepository recordFileRepository;
     private final RetentionProperties retentionProperties;
     private final Collection<RetentionRepository> retentionRepositories;
+    private final TimePartitionService timePartitionService;
     private final TransactionOperations transactionOperations;
 
     @Scheduled(fixedDelayString = "#{@retentionProperties.getFrequency().toMillis()}", initialDelay = 120_000)
@@ -53,6 +71,10 @@ public class RetentionJob {
                 "Using retention period {} to prune entries on or before {}", retentionPeriod, toInstant(maxTimestamp));
 
         try {
+            if (retentionProperties.isDropPartitions()) {
+                dropPartitions(maxTimestamp);
+            }
+
             while (iterator.hasNext()) {
                 prune(iterator);
             }
@@ -63,6 +85,88 @@ public class RetentionJob {
         }
     }
 
+    /**
+     * Drops the time partitions that only contain data on or before the max timestamp since dropping a partition is far
+     * cheaper than deleting its rows and immediately reclaims its space. The rows of the partition containing the max
+     * timestamp and of tables that aren't time partitioned are still deleted in batches afterward. The cached time
+     * partitions of a table are evicted after dropping any of its partitions.
+     */
+    private void dropPartitions(long maxTimestamp) {
+        var stopwatch = Stopwatch.createStarted();
+        int count = 0;
+        long size = 0L;
+
+        for (var repository : retentionRepositories) {
+            String table = getTableName(repository);
+
+            if (!retentionProperties.shouldPrune(table)) {
+                continue;
+            }
+
+            int dropped = 0;
+
+            for (var partition : timePartitionService.getTimePartitions(table)) {
+                if (partition.getEnd() > maxTimestamp) {
+                    break;
+                }
+
+                var bytes = dropPartition(partition);
+                if (bytes != null) {
+                    dropped++;
+                    size += bytes;
+                }
+            }
+
+            if (dropped > 0) {
+                timePartitionService.evict(table);
+                count += dropped;
+            }
+        }
+
+        log.info("Dropped {} partitions with {} bytes in {}", count, size, stopwatch);
+    }
+
+    private Long dropPartition(TimePartition partition) {
+        var name = partition.getName();
+        var table = partition.getParent();
+        // The cached partitions can include the ones dropped since they were cached
+        var bytes = jdbcTemplate.queryForObject(PARTITION_SIZE_SQL, Long.class, name);
+
+        if (bytes == null) {
+            return null;
+        }
+
+        detachPartition(table, name);
+        jdbcTemplate.execute(DROP_TABLE_SQL.formatted(name));
+        counter("hiero.mirror.importer.retention.bytes", table, "The number of bytes reclaimed by dropping partitions")
+                .increment(bytes);
+        counter("hiero.mirror.importer.retention.partitions", table, "The number of partitions dropped")
+                .increment();
+        log.info("Dropped partition {} with {} bytes", name, bytes);
+        return bytes;
+    }
+
+    /**
+     * Detaches the partition concurrently so queries and inserts into the other partitions aren't blocked while it's
+     * detached. Detaching concurrently isn't possible if the table has a default partition, so it falls back to a
+     * regular detach.
+     */
+    private void detachPartition(String table, String name) {
+        try {
+            jdbcTemplate.execute(DETACH_PARTITION_CONCURRENTLY_SQL.formatted(table, name));
+        } catch (DataAccessException e) {
+            log.warn("Unable to detach partition {} concurrently, detaching it regularly: {}", name, e.getMessage());
+            jdbcTemplate.execute(DETACH_PARTITION_SQL.formatted(table, name));
+        }
+    }
+
+    private Counter counter(String name, String table, String description) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+
     private void prune(RecordFileIterator iterator) {
         var counters = iterator.getCounters();
         long countBefore = counters.values().stream().reduce(0L, Long::sum);
@@ -76,6 +180,8 @@ public class RetentionJob {
             if (retentionProperties.shouldPrune(table)) {
                 long count = repository.prune(endTimestamp);
                 counters.merge(table, count, Long::sum);
+                counter("hiero.mirror.importer.retention.rows", table, "The number of rows deleted")
+                        .increment(count);
             }
         }));
 
@@ -80,6 +80,35 @@ class TimePartitionServiceTest extends ImporterIntegrationTest {
                 .containsExactlyElementsOf(expected);
     }
 
+    @Test
+    void evict() {
+        // given
+        var partition = TimePartition.builder()
+                .name("event_03")
+                .parent("event")
+                .timestampRange(Range.closedOpen(4000000000L, 5000000000L))
+                .build();
+        assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
+        assertThat(timePartitionService.getOverlappingTimePartitions("event", 4000000000L, 4000000000L))
+                .isEmpty();
+        ownerJdbcTemplate.execute(
+                "create table event_03 partition of event for values from ('4000000000') to ('5000000000')");
+
+        try {
+            // when
+            timePartitionService.evict("event");
+
+            // then
+            var expected = Stream.concat(EVENT_TIME_PARTITIONS.stream(), Stream.of(partition)).toList();
+            assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(expected);
+            assertThat(timePartitionService.getOverlappingTimePartitions("event", 4000000000L, 4000000000L))
+                    .containsExactly(partition);
+        } finally {
+            ownerJdbcTemplate.execute("drop table event_03");
+            timePartitionService.evict("event");
+        }
+    }
+
     @Test
     void getTimePartitions() {
         assertThat(timePartitionService.getTimePartitions("event")).containsExactlyElementsOf(EVENT_TIME_PARTITIONS);
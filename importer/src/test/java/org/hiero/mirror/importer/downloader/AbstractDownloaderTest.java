@@ -3,14 +3,17 @@
 package org.hiero.mirror.importer.downloader;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hiero.mirror.importer.TestUtils.S3_PROXY_PORT;
 import static org.hiero.mirror.importer.domain.StreamFilename.FileType.DATA;
 import static org.hiero.mirror.importer.domain.StreamFilename.FileType.SIGNATURE;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -36,7 +39,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -45,6 +50,7 @@ import lombok.CustomLog;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
+import org.awaitility.Durations;
 import org.gaul.s3proxy.S3Proxy;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.common.domain.StreamFile;
@@ -60,8 +66,10 @@ import org.hiero.mirror.importer.addressbook.ConsensusNode;
 import org.hiero.mirror.importer.addressbook.ConsensusNodeService;
 import org.hiero.mirror.importer.config.DateRangeCalculator;
 import org.hiero.mirror.importer.domain.ConsensusNodeStub;
+import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.domain.StreamFilename;
 import org.hiero.mirror.importer.downloader.CommonDownloaderProperties.PathType;
+import org.hiero.mirror.importer.downloader.provider.StreamFileProvider;
 import org.hiero.mirror.importer.reader.signature.CompositeSignatureFileReader;
 import org.hiero.mirror.importer.reader.signature.ProtoSignatureFileReader;
 import org.hiero.mirror.importer.reader.signature.SignatureFileReader;
@@ -75,12 +83,15 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.ResourceUtils;
+import reactor.core.publisher.Mono;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -89,6 +100,8 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 @ExtendWith(MockitoExtension.class)
 public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
 
+    private static final String PREFETCH_INFLIGHT = "hiero.mirror.importer.stream.prefetch.inflight";
+    private static final String PREFETCH_QUEUE = "hiero.mirror.importer.stream.prefetch.queue";
     private static final Pattern STREAM_FILENAME_INSTANT_PATTERN =
             Pattern.compile("^\\d{4}-\\d{2}-\\d{2}T\\d{2}_\\d{2}_\\d{2}(\\.\\d{1,9})?Z");
 
@@ -292,6 +305,62 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @ParameterizedTest(name = "Download and verify files with prefetch: {0}")
+    @ValueSource(ints = {1, 2, 100})
+    void prefetch(int prefetch) {
+        commonDownloaderProperties.setPrefetch(prefetch);
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        var fetched = new CopyOnWriteArrayList<Instant>();
+        var queueDepth = new AtomicReference<Double>();
+        var streamFileProvider = spyStreamFileProvider(fetched);
+
+        // Delay the first data file so the prefetched data files after it are fetched first
+        doAnswer(invocation -> {
+                    var streamFileData = fetch(invocation, fetched);
+                    StreamFilename streamFilename = invocation.getArgument(1);
+                    if (!streamFilename.getInstant().equals(file1Instant) || streamFilename.getFileType() != DATA) {
+                        return streamFileData;
+                    }
+
+                    return streamFileData
+                            .delaySubscription(Duration.ofMillis(500L))
+                            .doOnSuccess(d -> queueDepth.set(gauge(PREFETCH_QUEUE)));
+                })
+                .when(streamFileProvider)
+                .get(any(ConsensusNode.class), any(StreamFilename.class));
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess();
+        assertThat(streamFileCaptor.getAllValues()).extracting(StreamFile::getName).containsExactly(file1, file2);
+        assertThat(fetched)
+                .containsExactlyElementsOf(
+                        prefetch > 1 ? List.of(file2Instant, file1Instant) : List.of(file1Instant, file2Instant));
+        assertThat(queueDepth).hasValue((double) Math.min(prefetch, 2));
+        assertThat(gauge(PREFETCH_QUEUE)).isZero();
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.TWO_SECONDS)
+                .untilAsserted(() -> assertThat(gauge(PREFETCH_INFLIGHT)).isZero());
+    }
+
+    @Test
+    void prefetchEndDate() {
+        commonDownloaderProperties.setPrefetch(100);
+        importerProperties.setEndDate(file1Instant.minusNanos(1));
+        importerProperties.setStartBlockNumber(null);
+        fileCopier.copy();
+        var fetched = new CopyOnWriteArrayList<Instant>();
+        spyStreamFileProvider(fetched);
+
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyForSuccess(List.of(), false);
+        assertThat(fetched).containsExactly(file1Instant);
+    }
+
     @Test
     @DisplayName("Non-unanimous consensus reached")
     void partialConsensus() throws IOException {
@@ -735,6 +804,35 @@ public abstract class AbstractDownloaderTest<T extends StreamFile<?>> {
         }
     }
 
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+
+    /**
+     * Replaces the downloader's stream file provider with a spy that records the instants of the data files in the
+     * order they're fetched.
+     */
+    private StreamFileProvider spyStreamFileProvider(Collection<Instant> fetched) {
+        var streamFileProvider =
+                spy((StreamFileProvider) ReflectionTestUtils.getField(downloader, "streamFileProvider"));
+        doAnswer(invocation -> fetch(invocation, fetched))
+                .when(streamFileProvider)
+                .get(any(ConsensusNode.class), any(StreamFilename.class));
+        ReflectionTestUtils.setField(downloader, "streamFileProvider", streamFileProvider);
+        return streamFileProvider;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<StreamFileData> fetch(InvocationOnMock invocation, Collection<Instant> fetched) throws Throwable {
+        var streamFileData = (Mono<StreamFileData>) invocation.callRealMethod();
+        StreamFilename streamFilename = invocation.getArgument(1);
+        if (streamFilename.getFileType() != DATA) {
+            return streamFileData;
+        }
+
+        return streamFileData.doOnSuccess(d -> fetched.add(streamFilename.getInstant()));
+    }
+
     private Instant chooseFileInstant(String choice) {
         return switch (choice) {
             case "file1" -> file1Instant;
@@ -12,6 +12,7 @@ import com.google.common.base.Stopwatch;
 import com.google.common.util.concurrent.Uninterruptibles;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import lombok.CustomLog;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.importer.parser.balance.AccountBalanceFileParser;
@@ -161,6 +162,28 @@ class BatchStreamFileNotifierTest {
         verify(recordFileParser).parse(recordFile);
     }
 
+    @Test
+    void pipelinedErrorRecovers() {
+        recordParserProperties.setPipelined(true);
+        notifier.close();
+        notifier = new BatchStreamFileNotifier(accountBalanceFileParser, recordFileParser);
+        var recordFile1 = domainBuilder.recordFile().get();
+        var recordFile2 = domainBuilder.recordFile().get();
+        var recordFile3 = domainBuilder.recordFile().get();
+        when(recordFileParser.submit(List.of(recordFile1)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("Some error")));
+        when(recordFileParser.submit(List.of(recordFile2))).thenThrow(new RuntimeException("Some error"));
+        when(recordFileParser.submit(List.of(recordFile1, recordFile2, recordFile3)))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        notifier.verified(recordFile1);
+        notifier.verified(recordFile2);
+        notifier.verified(recordFile3);
+
+        Uninterruptibles.sleepUninterruptibly(Duration.ofMillis(200L));
+        verify(recordFileParser).submit(List.of(recordFile1, recordFile2, recordFile3));
+    }
+
     @Test
     void queueCapacityReached() {
         recordParserProperties.getBatch().setQueueCapacity(1);
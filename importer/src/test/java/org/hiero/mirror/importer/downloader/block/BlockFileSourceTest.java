@@ -23,6 +23,7 @@ import static org.mockito.Mockito.when;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.net.URI;
@@ -285,6 +286,67 @@ class BlockFileSourceTest {
         assertThat(errorLogs).containsExactlyInAnyOrderElementsOf(expected);
     }
 
+    @Test
+    void prefetch() {
+        // given
+        properties.setPrefetch(4);
+        fileCopier.filterFiles(blockFile(0).getName()).to("0").copy();
+        fileCopier.filterFiles(blockFile(1).getName()).to("2").copy();
+        when(recordFileRepository.findLatest())
+                .thenReturn(Optional.of(RecordFile.builder()
+                        .index(blockFile(0).getIndex() - 1)
+                        .hash(blockFile(0).getPreviousHash())
+                        .consensusStart(blockFile(0).getConsensusStart())
+                        .build()));
+        var streamFileProvider = spy(new S3StreamFileProvider(
+                commonProperties,
+                commonDownloaderProperties,
+                S3AsyncClient.builder()
+                        .credentialsProvider(AnonymousCredentialsProvider.create())
+                        .endpointOverride(URI.create("http://localhost:" + S3_PROXY_PORT))
+                        .forcePathStyle(true)
+                        .region(Region.of(commonDownloaderProperties.getRegion()))
+                        .build()));
+
+        try (var source = new BlockFileSource(
+                new BlockStreamReaderImpl(),
+                blockStreamVerifier,
+                commonDownloaderProperties,
+                consensusNodeService,
+                meterRegistry,
+                properties,
+                streamFileProvider)) {
+            // when
+            source.get();
+            source.get();
+
+            // then
+            verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(0) && b.getNodeId() == 0L));
+            verify(blockStreamVerifier).verify(argThat(b -> b.getIndex() == blockNumber(1) && b.getNodeId() == 2L));
+            assertThat(meterRegistry.find("hiero.mirror.importer.block.prefetch").counters().stream()
+                            .mapToDouble(Counter::count)
+                            .sum())
+                    .isEqualTo(2.0);
+
+            // The block after the last one isn't available so nothing is fetched ahead of it until blocks are verified
+            String filename = BlockFile.getBlockStreamFilename(blockNumber(1) + 1);
+            assertThatThrownBy(source::get)
+                    .isInstanceOf(BlockStreamException.class)
+                    .hasMessage("Failed to download block file " + filename);
+            Mockito.clearInvocations(streamFileProvider);
+
+            assertThatThrownBy(source::get)
+                    .isInstanceOf(BlockStreamException.class)
+                    .hasMessage("Failed to download block file " + filename);
+            String nextFilename = BlockFile.getBlockStreamFilename(blockNumber(1) + 2);
+            verify(streamFileProvider, times(nodes.size()))
+                    .get(any(ConsensusNode.class), argThat(f -> f.getFilename().equals(filename)));
+            verify(streamFileProvider, never())
+                    .get(any(ConsensusNode.class), argThat(f -> f.getFilename().equals(nextFilename)));
+            verify(blockStreamVerifier, times(2)).verify(any(BlockFile.class));
+        }
+    }
+
     @Test
     void startBlockNumber(CapturedOutput output) {
         // given
@@ -6,7 +6,6 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import jakarta.annotation.Resource;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import org.apache.commons.lang3.StringUtils;
@@ -26,7 +25,7 @@ abstract class AbstractTransformerTest extends ImporterIntegrationTest {
     private static final Version HAPI_VERSION = new Version(0, 57, 0);
     private static final RecursiveComparisonConfiguration RECORD_ITEMS_COMPARISON_CONFIG =
             RecursiveComparisonConfiguration.builder()
-                    .withIgnoredFields("parent", "previous", "transactionBody", "signatureMap")
+                    .withIgnoredFields("parent", "transactionBody", "signatureMap")
                     .withEqualsForType(Object::equals, TransactionRecord.class)
                     .build();
 
@@ -78,13 +77,17 @@ abstract class AbstractTransformerTest extends ImporterIntegrationTest {
     }
 
     protected void assertRecordItems(List<RecordItem> actual, List<RecordItem> expected) {
-        var expectedPreviousItems = new ArrayList<>(expected.subList(0, expected.size() - 1));
-        expectedPreviousItems.addFirst(null);
         assertThat(actual)
                 .usingRecursiveFieldByFieldElementComparator(RECORD_ITEMS_COMPARISON_CONFIG)
-                .containsExactlyElementsOf(expected)
-                .map(RecordItem::getPrevious)
-                .containsExactlyElementsOf(expectedPreviousItems);
+                .containsExactlyElementsOf(expected);
+
+        // A parent is always one of the items before its child
+        for (int i = 0; i < actual.size(); i++) {
+            var parent = actual.get(i).getParent();
+            if (parent != null) {
+                assertThat(actual.subList(0, i)).contains(parent);
+            }
+        }
     }
 
     protected void finalize(RecordItemBuilder.Builder<?> builder) {
@@ -6,6 +6,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
 import java.util.List;
 import org.hiero.mirror.importer.ImporterProperties;
@@ -48,8 +49,8 @@ class CompositeStreamFileProviderTest {
         properties = new CommonDownloaderProperties(new ImporterProperties());
         properties.getSources().add(new StreamSourceProperties());
         properties.getSources().add(new StreamSourceProperties());
-        compositeStreamFileProvider =
-                new CompositeStreamFileProvider(properties, List.of(streamFileProvider1, streamFileProvider2));
+        compositeStreamFileProvider = new CompositeStreamFileProvider(
+                properties, new SimpleMeterRegistry(), List.of(streamFileProvider1, streamFileProvider2));
     }
 
     @Test
@@ -108,7 +109,8 @@ class CompositeStreamFileProviderTest {
 
     @Test
     void getSingleSource() {
-        compositeStreamFileProvider = new CompositeStreamFileProvider(properties, List.of(streamFileProvider1));
+        compositeStreamFileProvider =
+                new CompositeStreamFileProvider(properties, new SimpleMeterRegistry(), List.of(streamFileProvider1));
         var error = new RuntimeException("error");
         when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.error(error));
         StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(NODE, FILENAME))
@@ -144,6 +146,51 @@ class CompositeStreamFileProviderTest {
                 .verify(WAIT);
     }
 
+    @Test
+    void getNodes() {
+        var node2 = ConsensusNodeStub.builder().nodeId(2L).build();
+        var error = new TransientProviderException(
+                NoSuchKeyException.builder().message("No key").build());
+        when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.error(error));
+        when(streamFileProvider1.get(node2, FILENAME)).thenReturn(Mono.just(DATA));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(List.of(NODE, node2), n -> FILENAME))
+                .thenAwait(WAIT)
+                .expectNext(new NodeStreamFileData(node2, DATA))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void getNodesHedged() {
+        properties.getHedge().setEnabled(true);
+        var node2 = ConsensusNodeStub.builder().nodeId(2L).build();
+        when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.never());
+        when(streamFileProvider1.get(node2, FILENAME)).thenReturn(Mono.just(DATA));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(List.of(NODE, node2), n -> FILENAME))
+                .expectSubscription()
+                .expectNoEvent(properties.getHedge().getMinDelay().minusMillis(1L))
+                .thenAwait(Duration.ofMillis(1L))
+                .expectNext(new NodeStreamFileData(node2, DATA))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
+    @Test
+    void getNodesHedgedFailure() {
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setMinDelay(WAIT);
+        var node2 = ConsensusNodeStub.builder().nodeId(2L).build();
+        var error = new TransientProviderException(
+                NoSuchKeyException.builder().message("No key").build());
+        when(streamFileProvider1.get(NODE, FILENAME)).thenReturn(Mono.error(error));
+        when(streamFileProvider1.get(node2, FILENAME)).thenReturn(Mono.just(DATA));
+        StepVerifier.withVirtualTime(() -> compositeStreamFileProvider.get(List.of(NODE, node2), n -> FILENAME))
+                .expectSubscription()
+                .expectNext(new NodeStreamFileData(node2, DATA))
+                .expectComplete()
+                .verify(WAIT);
+    }
+
     @Test
     void list() {
         when(streamFileProvider1.list(NODE, FILENAME)).thenReturn(Flux.just(DATA));
@@ -27,6 +27,7 @@ import org.hiero.mirror.common.domain.transaction.RecordItem;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.importer.TestRecordFiles;
 import org.hiero.mirror.importer.downloader.AbstractDownloaderTest;
+import org.hiero.mirror.importer.reader.record.StreamingRecordItems;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -106,6 +107,26 @@ class ProtoRecordFileDownloaderTest extends AbstractRecordFileDownloaderTest {
         assertThat(importerProperties.getDataPath()).isEmptyDirectory();
     }
 
+    @Test
+    void sidecarStreaming() {
+        ((RecordDownloaderProperties) downloaderProperties).setStreaming(true);
+        fileCopier.copy();
+        expectLastStreamFile(Instant.EPOCH);
+        downloader.download();
+
+        verifyStreamFiles(List.of(file1, file2), recordFile -> {
+            assertThat(recordFile.getItems()).isInstanceOf(StreamingRecordItems.class);
+            var sidecarRecords = recordFile.getItems().stream()
+                    .flatMap(r -> r.getSidecarRecords().stream())
+                    .toList();
+            if (Objects.equals(recordFile.getName(), RECORD_FILE_WITH_SIDECAR)) {
+                assertThat(sidecarRecords).isNotEmpty();
+            } else {
+                assertThat(sidecarRecords).isEmpty();
+            }
+        });
+    }
+
     @Test
     void sidecarWriteFiles() {
         downloaderProperties.setWriteFiles(true);
@@ -21,17 +21,22 @@ import java.util.HashSet;
 import java.util.List;
 import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.contract.ContractLog;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.common.domain.transaction.AssessedCustomFee;
 import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.EthereumTransaction;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.ContractLogRepository;
 import org.hiero.mirror.importer.repository.CryptoTransferRepository;
+import org.hiero.mirror.importer.repository.EthereumTransactionRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageRepository;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
 import org.junit.jupiter.api.Test;
 import org.postgresql.PGConnection;
 import org.postgresql.copy.CopyManager;
@@ -40,7 +45,11 @@ import org.postgresql.copy.CopyManager;
 class BatchInserterTest extends ImporterIntegrationTest {
 
     private final BatchPersister batchInserter;
+    private final ContractLogRepository contractLogRepository;
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
+    private final EthereumTransactionRepository ethereumTransactionRepository;
     private final TopicMessageRepository topicMessageRepository;
     private final TokenTransferRepository tokenTransferRepository;
 
@@ -63,6 +72,51 @@ class BatchInserterTest extends ImporterIntegrationTest {
         assertThat(tokenTransferRepository.findAll()).containsExactlyInAnyOrderElementsOf(tokenTransfers);
     }
 
+    @Test
+    void persistBinary() {
+        var assessedCustomFees = List.of(
+                domainBuilder.assessedCustomFee().get(), domainBuilder.assessedCustomFee().get());
+        var contractLogs = List.of(
+                domainBuilder.contractLog().get(), domainBuilder.contractLog().get());
+        var ethereumTransactions = List.of(
+                domainBuilder.ethereumTransaction(true).get(),
+                domainBuilder.ethereumTransaction(false).get());
+
+        binaryBatchInserter(AssessedCustomFee.class).persist(assessedCustomFees);
+        binaryBatchInserter(ContractLog.class).persist(contractLogs);
+        binaryBatchInserter(EthereumTransaction.class).persist(ethereumTransactions);
+
+        assertThat(contractLogRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractLogs);
+        assertThat(ethereumTransactionRepository.findAll()).containsExactlyInAnyOrderElementsOf(ethereumTransactions);
+        assertThat(jdbcOperations.query("select * from assessed_custom_fee", rowMapper(AssessedCustomFee.class)))
+                .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
+    }
+
+    @Test
+    void persistBinaryEmptyEntityId() {
+        // given
+        var csvContractLog = domainBuilder
+                .contractLog()
+                .customize(c -> c.rootContractId(EntityId.EMPTY))
+                .get();
+        var binaryContractLog = domainBuilder
+                .contractLog()
+                .customize(c -> c.rootContractId(EntityId.EMPTY))
+                .get();
+
+        // when
+        batchInserter.persist(List.of(csvContractLog));
+        binaryBatchInserter(ContractLog.class).persist(List.of(binaryContractLog));
+
+        // then
+        var sql = "select root_contract_id from contract_log where consensus_timestamp = ?";
+        var csvRootContractId = jdbcOperations.queryForObject(sql, Long.class, csvContractLog.getConsensusTimestamp());
+        var binaryRootContractId =
+                jdbcOperations.queryForObject(sql, Long.class, binaryContractLog.getConsensusTimestamp());
+        assertThat(csvRootContractId).isNull();
+        assertThat(binaryRootContractId).isEqualTo(csvRootContractId);
+    }
+
     @Test
     void throwsParserException() throws SQLException, IOException {
         // given
@@ -147,6 +201,17 @@ class BatchInserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrderElementsOf(assessedCustomFees);
     }
 
+    private BatchInserter binaryBatchInserter(Class<?> entityClass) {
+        var entityMetadata = entityMetadataRegistry.lookupColumns(entityClass);
+        return new BatchInserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                entityClass.getSimpleName(),
+                entityMetadata);
+    }
+
     private TopicMessage topicMessage(int messageSize) {
         return domainBuilder
                 .topicMessage()
@@ -3,20 +3,25 @@
 package org.hiero.mirror.importer.parser.batch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.hiero.mirror.common.domain.entity.EntityType.ACCOUNT;
 
 import com.google.common.collect.Range;
 import com.google.protobuf.ByteString;
 import com.hederahashgraph.api.proto.java.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.commons.codec.binary.Hex;
 import org.assertj.core.groups.Tuple;
 import org.hiero.mirror.common.domain.History;
+import org.hiero.mirror.common.domain.contract.ContractState;
 import org.hiero.mirror.common.domain.entity.CryptoAllowance;
 import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -25,6 +30,7 @@ import org.hiero.mirror.common.domain.entity.TokenAllowance;
 import org.hiero.mirror.common.domain.node.Node;
 import org.hiero.mirror.common.domain.schedule.Schedule;
 import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.domain.token.CustomFee;
 import org.hiero.mirror.common.domain.token.DissociateTokenTransfer;
 import org.hiero.mirror.common.domain.token.Nft;
 import org.hiero.mirror.common.domain.token.NftTransfer;
@@ -37,8 +43,12 @@ import org.hiero.mirror.common.domain.token.TokenPauseStatusEnum;
 import org.hiero.mirror.common.domain.token.TokenSupplyTypeEnum;
 import org.hiero.mirror.common.domain.token.TokenTransfer;
 import org.hiero.mirror.common.domain.token.TokenTypeEnum;
+import org.hiero.mirror.common.domain.topic.TopicMessageLookup;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.repository.ContractStateRepository;
+import org.hiero.mirror.importer.repository.CryptoAllowanceHistoryRepository;
 import org.hiero.mirror.importer.repository.CryptoAllowanceRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.NftAllowanceRepository;
@@ -52,6 +62,9 @@ import org.hiero.mirror.importer.repository.TokenRepository;
 import org.hiero.mirror.importer.repository.TokenTransferRepository;
 import org.hiero.mirror.importer.repository.TopicMessageLookupRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.repository.upsert.ColumnMetadata;
+import org.hiero.mirror.importer.repository.upsert.EntityMetadataRegistry;
+import org.hiero.mirror.importer.repository.upsert.UpsertQueryGeneratorFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.transaction.support.TransactionOperations;
 
@@ -63,7 +76,11 @@ class BatchUpserterTest extends ImporterIntegrationTest {
             .build();
 
     private final BatchPersister batchPersister;
+    private final ContractStateRepository contractStateRepository;
+    private final CryptoAllowanceHistoryRepository cryptoAllowanceHistoryRepository;
     private final CryptoAllowanceRepository cryptoAllowanceRepository;
+    private final DataSource dataSource;
+    private final EntityMetadataRegistry entityMetadataRegistry;
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
     private final NftAllowanceRepository nftAllowanceRepository;
@@ -77,6 +94,7 @@ class BatchUpserterTest extends ImporterIntegrationTest {
     private final TopicMessageLookupRepository topicMessageLookupRepository;
     private final TransactionRepository transactionRepository;
     private final TransactionOperations transactionOperations;
+    private final UpsertQueryGeneratorFactory upsertQueryGeneratorFactory;
 
     @Test
     void cryptoAllowance() {
@@ -175,6 +193,54 @@ class BatchUpserterTest extends ImporterIntegrationTest {
                 .containsExactlyInAnyOrder(3L, 4L);
     }
 
+    @Test
+    void sessionTempTables() {
+        // given
+        var properties = new CommonParserProperties();
+        properties.setSessionTempTables(Set.of("contract_state", "entity", "token_account"));
+        var contractStateUpserter = sessionTempTableUpserter(ContractState.class, properties);
+        var entityUpserter = sessionTempTableUpserter(Entity.class, properties);
+        var tokenAccountUpserter = sessionTempTableUpserter(TokenAccount.class, properties);
+
+        var contractStates = List.of(domainBuilder.contractState().get(), domainBuilder.contractState().get());
+        var entities = List.of(
+                getEntity(1, 1L, 1L, "memo-1"), getEntity(2, 1L, 1L, "memo-2"), getEntity(3, 1L, 1L, "memo-3"));
+        var updatedEntities = List.of(getEntity(3, null, 5L, "updated-memo-3"), getEntity(4, null, 5L, "memo-4"));
+        var tokens = List.of(getToken("0.0.2000", "0.0.1001", 1L), getToken("0.0.3000", "0.0.1001", 2L));
+        var tokenAccounts = List.of(
+                getTokenAccount("0.0.2000", "0.0.1001", 1L, true, Range.atLeast(1L)),
+                getTokenAccount("0.0.3000", "0.0.1001", 2L, true, Range.atLeast(2L)));
+        persist(batchPersister, tokens);
+
+        // when
+        // Batches persisted earlier in the same transaction must not be upserted again by later batches
+        var indexes = transactionOperations.execute(t -> {
+            contractStateUpserter.persist(contractStates.subList(0, 1));
+            contractStateUpserter.persist(contractStates.subList(1, 2));
+            entityUpserter.persist(entities);
+            entityUpserter.persist(updatedEntities);
+            tokenAccountUpserter.persist(tokenAccounts.subList(0, 1));
+            return jdbcOperations.queryForList(
+                    "select indexdef from pg_indexes where schemaname like 'pg_temp%' and tablename = ?",
+                    String.class,
+                    "contract_state_temp");
+        });
+        // The session temp table is emptied on commit
+        transactionOperations.executeWithoutResult(t -> tokenAccountUpserter.persist(tokenAccounts.subList(1, 2)));
+
+        // then
+        // The session temp table has the same indexes as the shared temp table
+        assertThat(indexes).singleElement(STRING).contains("(contract_id, slot)");
+        assertThat(contractStateRepository.findAll()).containsExactlyInAnyOrderElementsOf(contractStates);
+        assertThat(entityRepository.findAll())
+                .extracting(Entity::getMemo)
+                .containsExactlyInAnyOrder("memo-1", "memo-2", "updated-memo-3", "memo-4");
+        assertThat(findHistory(Entity.class)).extracting(Entity::getId).containsExactly(3L);
+        assertThat(tokenAccountRepository.findAll())
+                .extracting(TokenAccount::getCreatedTimestamp, History::getTimestampLower)
+                .containsExactlyInAnyOrder(Tuple.tuple(1L, 1L), Tuple.tuple(2L, 2L));
+    }
+
     @Test
     void tokenInsertOnly() {
         var tokens = new ArrayList<Token>();
@@ -426,6 +492,51 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(topicMessageLookupRepository.findAll()).containsExactlyInAnyOrder(merged, topicMessageLookup3);
     }
 
+    @Test
+    void persistBinary() {
+        // given
+        var topicMessageLookup1 = domainBuilder.topicMessageLookup().persist();
+        var topicMessageLookup2 = domainBuilder
+                .topicMessageLookup()
+                .customize(
+                        t -> t.partition(topicMessageLookup1.getPartition()).topicId(topicMessageLookup1.getTopicId()))
+                .get();
+        var cryptoAllowance = domainBuilder.cryptoAllowance().get();
+        var updatedCryptoAllowance = domainBuilder
+                .cryptoAllowance()
+                .customize(c -> c.owner(cryptoAllowance.getOwner())
+                        .payerAccountId(cryptoAllowance.getPayerAccountId())
+                        .spender(cryptoAllowance.getSpender())
+                        .timestampRange(Range.atLeast(cryptoAllowance.getTimestampLower() + 1)))
+                .get();
+
+        // when
+        persist(binaryUpserter(TopicMessageLookup.class), List.of(topicMessageLookup2));
+        persist(binaryUpserter(CryptoAllowance.class), List.of(cryptoAllowance), List.of(updatedCryptoAllowance));
+
+        // then
+        var merged = topicMessageLookup2.toBuilder()
+                .sequenceNumberRange(
+                        topicMessageLookup1.getSequenceNumberRange().span(topicMessageLookup2.getSequenceNumberRange()))
+                .timestampRange(topicMessageLookup1.getTimestampRange().span(topicMessageLookup2.getTimestampRange()))
+                .build();
+        assertThat(topicMessageLookupRepository.findAll()).containsExactly(merged);
+        assertThat(cryptoAllowanceRepository.findAll()).containsExactly(updatedCryptoAllowance);
+        assertThat(cryptoAllowanceHistoryRepository.findAll())
+                .extracting(History::getTimestampRange)
+                .containsExactly(Range.closedOpen(
+                        cryptoAllowance.getTimestampLower(), updatedCryptoAllowance.getTimestampLower()));
+    }
+
+    @Test
+    void persistBinaryUnsupported() {
+        var columns = entityMetadataRegistry.lookupColumns(CustomFee.class).getColumns();
+        assertThat(BinaryCopyWriter.findUnsupported(columns))
+                .get()
+                .extracting(ColumnMetadata::getDataType)
+                .isEqualTo("jsonb");
+    }
+
     @Test
     void scheduleInsertOnly() {
         var schedules = new ArrayList<Schedule>();
@@ -690,6 +801,23 @@ class BatchUpserterTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.findAll()).containsExactly(transaction);
     }
 
+    private BatchUpserter binaryUpserter(Class<?> entityClass) {
+        var generator = upsertQueryGeneratorFactory.get(entityClass);
+        var entityMetadata = entityMetadataRegistry.lookupColumns(entityClass);
+        return new BatchUpserter(
+                entityClass,
+                dataSource,
+                new SimpleMeterRegistry(),
+                new CommonParserProperties(),
+                generator,
+                entityMetadata);
+    }
+
+    private BatchUpserter sessionTempTableUpserter(Class<?> entityClass, CommonParserProperties properties) {
+        var generator = upsertQueryGeneratorFactory.get(entityClass);
+        return new BatchUpserter(entityClass, dataSource, new SimpleMeterRegistry(), properties, generator);
+    }
+
     private void persist(BatchPersister batchPersister, Collection<?>... items) {
         transactionOperations.executeWithoutResult(t -> {
             for (Collection<?> batch : items) {
@@ -4,6 +4,9 @@ package org.hiero.mirror.importer.parser.record;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.entity.EntityId;
@@ -12,37 +15,60 @@ import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.TransactionType;
 import org.hiero.mirror.importer.EnabledIfV1;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.domain.StreamFileData;
 import org.hiero.mirror.importer.exception.ParserException;
 import org.hiero.mirror.importer.parser.domain.RecordFileBuilder;
 import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.hiero.mirror.importer.parser.record.entity.EntityProperties;
+import org.hiero.mirror.importer.reader.record.RecordFileReader;
 import org.hiero.mirror.importer.repository.CryptoTransferRepository;
 import org.hiero.mirror.importer.repository.EntityRepository;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.hiero.mirror.importer.repository.TokenTransferRepository;
+import org.hiero.mirror.importer.repository.TopicMessageRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
+import org.hiero.mirror.importer.test.performance.PerformanceProperties.SubType;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.test.StepVerifier;
 
 @RequiredArgsConstructor
 class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
 
     private final CryptoTransferRepository cryptoTransferRepository;
+    private final EntityProperties entityProperties;
     private final EntityRepository entityRepository;
     private final ReactiveRedisOperations<String, StreamMessage> reactiveRedisOperations;
     private final RecordFileBuilder recordFileBuilder;
     private final RecordItemBuilder recordItemBuilder;
     private final RecordFileParser recordFileParser;
+    private final RecordFileReader recordFileReader;
     private final RecordFileRepository recordFileRepository;
+    private final TokenTransferRepository tokenTransferRepository;
+    private final TopicMessageRepository topicMessageRepository;
     private final TransactionRepository transactionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("classpath:data/recordstreams/v2/record0.0.3/2019-08-30T18_10_00.419072Z.rcd")
+    private final Resource recordedFile;
 
     @BeforeEach
     void setup() {
         recordFileParser.clear();
     }
 
+    @AfterEach
+    void teardown() {
+        entityProperties.getParallel().setEnabled(false);
+    }
+
     @Test
     void parse() {
         // given
@@ -107,6 +133,32 @@ class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isEqualTo(3 * transactions);
     }
 
+    @Test
+    void parallel() {
+        // given
+        var recordFile = recordFileBuilder
+                .recordFile()
+                .recordItems(i -> i.count(50).entities(20).type(TransactionType.CRYPTOTRANSFER))
+                .recordItems(i -> i.count(20).template(recordItemBuilder::consensusSubmitMessage))
+                .recordItem(recordItemBuilder::cryptoCreate)
+                .recordItems(i -> i.count(50).entities(20).subType(SubType.TOKEN_TRANSFER))
+                .build();
+
+        // when, then
+        assertParallel(recordFile);
+    }
+
+    @Test
+    void parallelRecordedFile() throws IOException {
+        // given
+        var recordFile = recordFileReader.read(StreamFileData.from(recordedFile.getFile()));
+        recordFile.setIndex(0L);
+        recordFile.setNodeId(0L);
+
+        // when, then
+        assertParallel(recordFile);
+    }
+
     @Test
     void topicMessage() {
         int count = 3;
@@ -156,6 +208,36 @@ class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
         assertThat(retryRecorder.getRetries(ParserException.class)).isEqualTo(2);
     }
 
+    // Parses the record file sequentially and in parallel and compares the persisted rows
+    private void assertParallel(RecordFile recordFile) {
+        var items = new ArrayList<>(recordFile.getItems());
+
+        var sequential = parseAndRollback(recordFile);
+        recordFile.setItems(items);
+        entityProperties.getParallel().setEnabled(true);
+        var parallel = parseAndRollback(recordFile);
+
+        assertThat(sequential.transactions()).hasSize(items.size());
+        assertThat(parallel)
+                .usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .isEqualTo(sequential);
+    }
+
+    private Persisted parseAndRollback(RecordFile recordFile) {
+        recordFileParser.clear();
+        return transactionTemplate.execute(status -> {
+            recordFileParser.parse(recordFile);
+            status.setRollbackOnly();
+            return new Persisted(
+                    Lists.newArrayList(cryptoTransferRepository.findAll()),
+                    Lists.newArrayList(entityRepository.findAll()),
+                    Lists.newArrayList(tokenTransferRepository.findAll()),
+                    Lists.newArrayList(topicMessageRepository.findAll()),
+                    Lists.newArrayList(transactionRepository.findAll()));
+        });
+    }
+
     private void assertRecordFile(RecordFile... recordFiles) {
         assertThat(recordFileRepository.findAll())
                 .hasSize(recordFiles.length)
@@ -167,4 +249,11 @@ class RecordFileParserIntegrationTest extends ImporterIntegrationTest {
                     assertThat(rf.getLoadEnd()).isGreaterThanOrEqualTo(rf.getLoadStart());
                 });
     }
+
+    private record Persisted(
+            List<?> cryptoTransfers,
+            List<?> entities,
+            List<?> tokenTransfers,
+            List<?> topicMessages,
+            List<?> transactions) {}
 }
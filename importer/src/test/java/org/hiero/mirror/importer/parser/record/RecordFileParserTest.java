@@ -11,8 +11,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mock.Strictness.LENIENT;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -32,9 +34,12 @@ import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.hederahashgraph.api.proto.java.TransactionRecord;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.hiero.mirror.common.domain.DomainBuilder;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.hiero.mirror.common.domain.transaction.RecordItem;
@@ -53,6 +58,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.springframework.boot.test.system.CapturedOutput;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, RecordFileParser> {
 
@@ -74,6 +80,9 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
     @Mock(strictness = LENIENT)
     private DateRangeCalculator dateRangeCalculator;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private long count = 0;
 
     private RecordItem recordItem;
@@ -100,7 +109,10 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
 
     @Override
     protected RecordFileParser getParser() {
-        RecordParserProperties parserProperties = new RecordParserProperties();
+        return getParser(new RecordParserProperties());
+    }
+
+    private RecordFileParser getParser(RecordParserProperties parserProperties) {
         when(dateRangeCalculator.getFilter(parserProperties.getStreamType())).thenReturn(DateRangeFilter.all());
         return new RecordFileParser(
                 applicationEventPublisher,
@@ -110,7 +122,8 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
                 recordItemListener,
                 recordStreamFileListener,
                 dateRangeCalculator,
-                new ParserContext());
+                new ParserContext(),
+                transactionManager);
     }
 
     @Override
@@ -135,10 +148,25 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
         RecordFile recordFile = getStreamFile();
         when(dateRangeCalculator.getFilter(parserProperties.getStreamType())).thenReturn(DateRangeFilter.empty());
         parser.parse(recordFile);
-        verifyNoInteractions(recordItemListener);
+        verify(recordItemListener, never()).onItem(any());
         verify(recordStreamFileListener).onEnd(recordFile);
     }
 
+    @Test
+    void itemFailureDiscards() {
+        // given
+        var recordFile = getStreamFile();
+        var e = new ParserException("boom");
+        mockDbFailure(e);
+
+        // when
+        assertThatThrownBy(() -> parser.parse(recordFile)).isEqualTo(e);
+
+        // then
+        verify(recordItemListener).discard();
+        verify(recordItemListener, never()).complete();
+    }
+
     @ParameterizedTest(name = "endDate with offset {0}ns")
     @CsvSource({"-1", "0", "1"})
     void endDate(long offset) {
@@ -374,10 +402,100 @@ class RecordFileParserTest extends AbstractStreamFileParserTest<RecordFile, Reco
 
         // then
         verify(recordItemListener).onItem(recordItem1);
+        verify(recordItemListener).complete();
         verifyNoMoreInteractions(recordItemListener);
         verifyNoInteractions(recordStreamFileListener);
     }
 
+    @Test
+    void submit() {
+        // given
+        var streamFile1 = getStreamFile();
+        var recordItem1 = recordItem;
+        var streamFile2 = getStreamFile();
+        var recordItem2 = recordItem;
+        streamFile2.setPreviousHash(streamFile1.getHash());
+
+        // when
+        parser.submit(List.of(streamFile1));
+        parser.submit(List.of(streamFile2));
+        parser.close();
+
+        // then
+        var parseOrder = inOrder(recordItemListener);
+        parseOrder.verify(recordItemListener).onItem(recordItem1);
+        parseOrder.verify(recordItemListener).onItem(recordItem2);
+        var flushOrder = inOrder(recordStreamFileListener);
+        flushOrder.verify(recordStreamFileListener).onEnd(streamFile1);
+        flushOrder.verify(recordStreamFileListener).onEnd(streamFile2);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(streamFile1.getBytes()).isNull();
+        assertThat(streamFile2.getBytes()).isNull();
+    }
+
+    @Test
+    void submitFailure() {
+        // given
+        var properties = new RecordParserProperties();
+        properties.getRetry().setMaxAttempts(1);
+        var pipelinedParser = getParser(properties);
+        var streamFile = getStreamFile();
+        var e = new ParserException("boom");
+        mockDbFailure(e);
+
+        // when
+        var recordFiles = List.of(streamFile);
+        assertThatThrownBy(() -> pipelinedParser.submit(recordFiles))
+                .isInstanceOf(ParserException.class)
+                .hasCause(e);
+        pipelinedParser.close();
+
+        // then
+        verifyNoInteractions(recordStreamFileListener);
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void submitFailureRecovers() throws Exception {
+        // given
+        var properties = new RecordParserProperties();
+        properties.getRetry().setMaxAttempts(1);
+        var pipelinedParser = getParser(properties);
+        var streamFile1 = getStreamFile();
+        var recordItem1 = recordItem;
+        var streamFile2 = getStreamFile();
+        var recordItem2 = recordItem;
+        streamFile2.setPreviousHash(streamFile1.getHash());
+        var flushing = new CountDownLatch(1);
+        var e = new ParserException("boom");
+        doAnswer(i -> {
+                    flushing.await();
+                    throw e;
+                })
+                .doNothing()
+                .when(recordStreamFileListener)
+                .onEnd(streamFile1);
+
+        // when
+        var committed = pipelinedParser.submit(List.of(streamFile1));
+        flushing.countDown();
+        assertThat(committed).failsWithin(Duration.ofSeconds(5L));
+
+        var recordFiles = List.of(streamFile1, streamFile2);
+        assertThatThrownBy(() -> pipelinedParser.submit(recordFiles))
+                .isInstanceOf(ParserException.class)
+                .hasCause(e);
+        pipelinedParser.submit(recordFiles).get(5L, TimeUnit.SECONDS);
+        pipelinedParser.close();
+
+        // then
+        verify(recordItemListener, times(2)).onItem(recordItem1);
+        verify(recordItemListener).onItem(recordItem2);
+        verify(recordStreamFileListener).onEnd(streamFile2);
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
     @Test
     void parseListSkipPartial() {
         // given
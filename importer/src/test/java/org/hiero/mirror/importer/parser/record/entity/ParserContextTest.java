@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import org.hiero.mirror.common.domain.DomainBuilder;
+import org.hiero.mirror.common.domain.contract.ContractLog;
 import org.hiero.mirror.common.domain.entity.Entity;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
 import org.junit.jupiter.api.Test;
 
 class ParserContextTest {
@@ -64,6 +66,35 @@ class ParserContextTest {
         assertThat(parserContext.get(Entity.class)).containsExactly(domain);
     }
 
+    @Test
+    void partition() {
+        assertThatThrownBy(() -> parserContext.partition(null, List.of())).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> parserContext.partition(List.of(), null)).isInstanceOf(NullPointerException.class);
+        assertThat(parserContext.partition(List.of(), List.of())).containsExactly(List.of());
+
+        var contractLog = domainBuilder.contractLog().get();
+        var entity = domainBuilder.entity().get();
+        var recordFile = domainBuilder.recordFile().get();
+        var token = domainBuilder.token().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        var transaction = domainBuilder.transaction().get();
+        parserContext.add(transaction);
+        parserContext.add(tokenAccount);
+        parserContext.add(recordFile);
+        parserContext.add(entity);
+        parserContext.add(token);
+        parserContext.add(contractLog);
+        parserContext.remove(ContractLog.class);
+
+        assertThat(parserContext.partition(List.of(RecordFile.class), List.of()))
+                .containsExactly(
+                        List.of(List.of(recordFile), List.of(token), List.of(tokenAccount), List.of(transaction)),
+                        List.of(List.of(entity)));
+        assertThat(parserContext.partition(List.of(), List.of(RecordFile.class)))
+                .containsExactly(
+                        List.of(List.of(token), List.of(tokenAccount), List.of(transaction)), List.of(List.of(entity)));
+    }
+
     @Test
     void remove() {
         parserContext.remove(Entity.class);
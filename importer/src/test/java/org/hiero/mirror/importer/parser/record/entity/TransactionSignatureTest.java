@@ -111,6 +111,7 @@ class TransactionSignatureTest {
                 entityIdService,
                 entityListener,
                 entityProperties,
+                new ParserContext(),
                 transactionHandlerFactory,
                 syntheticContractLogService,
                 syntheticContractResultService);
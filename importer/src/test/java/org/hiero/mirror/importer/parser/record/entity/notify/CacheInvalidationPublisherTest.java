@@ -0,0 +1,132 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.converter.CacheInvalidationCodec;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.TokenAccount;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.parser.record.entity.sql.SqlProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.jdbc.PgConnection;
+import org.springframework.transaction.support.TransactionOperations;
+
+@RequiredArgsConstructor
+class CacheInvalidationPublisherTest extends ImporterIntegrationTest {
+
+    private final CacheInvalidationPublisher cacheInvalidationPublisher;
+    private final DataSource dataSource;
+    private final NotifyProperties notifyProperties;
+    private final SqlProperties sqlProperties;
+    private final TransactionOperations transactionOperations;
+
+    @BeforeEach
+    void setup() {
+        notifyProperties.setCacheInvalidation(true);
+    }
+
+    @AfterEach
+    void cleanup() {
+        notifyProperties.setCacheInvalidation(false);
+        sqlProperties.getParallelFlush().setEnabled(false);
+    }
+
+    @Test
+    void onEnd() throws Exception {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        var entity = domainBuilder.entity().get();
+        var token = domainBuilder.token().get();
+        var contractState = domainBuilder.contractState().get();
+        var tokenAccount = domainBuilder.tokenAccount().get();
+        parserContext.add(entity);
+        parserContext.add(token);
+        parserContext.add(contractState);
+        parserContext.add(tokenAccount);
+
+        // when
+        var cacheInvalidations = listen(() -> cacheInvalidationPublisher.onEnd(recordFile));
+
+        // then
+        assertThat(cacheInvalidations).singleElement().satisfies(c -> {
+            assertThat(c.consensusEnd()).isEqualTo(recordFile.getConsensusEnd());
+            assertThat(c.entityIds()).containsExactly(entity.getId(), token.getTokenId());
+            assertThat(c.aliases()).containsExactly(entity.getAlias(), entity.getEvmAddress());
+            assertThat(c.slots()).singleElement().satisfies(s -> {
+                assertThat(s.contractId()).isEqualTo(contractState.getContractId());
+                assertThat(s.slot()).isEqualTo(contractState.getSlot());
+            });
+            assertThat(c.tokenAccounts())
+                    .containsExactly(new TokenAccount(tokenAccount.getAccountId(), tokenAccount.getTokenId()));
+        });
+    }
+
+    @Test
+    void onEndParallelFlush() throws Exception {
+        // given
+        sqlProperties.getParallelFlush().setEnabled(true);
+        var recordFile = domainBuilder.recordFile().get();
+        parserContext.add(domainBuilder.entity().get());
+
+        // when
+        var rolledBack = listen(() -> transactionOperations.executeWithoutResult(t -> {
+            cacheInvalidationPublisher.onEnd(recordFile);
+            t.setRollbackOnly();
+        }));
+        var committed = listen(() ->
+                transactionOperations.executeWithoutResult(t -> cacheInvalidationPublisher.onEnd(recordFile)));
+
+        // then
+        assertThat(rolledBack).isEmpty();
+        assertThat(committed)
+                .singleElement()
+                .extracting(CacheInvalidation::consensusEnd)
+                .isEqualTo(recordFile.getConsensusEnd());
+    }
+
+    @Test
+    void onEndDisabled() throws Exception {
+        // given
+        notifyProperties.setCacheInvalidation(false);
+        parserContext.add(domainBuilder.entity().get());
+
+        // when
+        var cacheInvalidations = listen(() -> cacheInvalidationPublisher.onEnd(domainBuilder.recordFile().get()));
+
+        // then
+        assertThat(cacheInvalidations).isEmpty();
+    }
+
+    @Test
+    void onEndEmpty() throws Exception {
+        var cacheInvalidations = listen(() -> cacheInvalidationPublisher.onEnd(domainBuilder.recordFile().get()));
+        assertThat(cacheInvalidations).isEmpty();
+    }
+
+    private List<CacheInvalidation> listen(Runnable runnable) throws Exception {
+        try (var connection = dataSource.getConnection()) {
+            var pgConnection = connection.unwrap(PgConnection.class);
+            pgConnection.execSQLUpdate("listen " + CacheInvalidationPublisher.CHANNEL);
+            runnable.run();
+
+            var cacheInvalidations = new ArrayList<CacheInvalidation>();
+            var notifications = pgConnection.getNotifications(500);
+            if (notifications != null) {
+                for (var notification : notifications) {
+                    cacheInvalidations.add(CacheInvalidationCodec.decode(notification.getParameter()));
+                }
+            }
+
+            pgConnection.execSQLUpdate("unlisten " + CacheInvalidationPublisher.CHANNEL);
+            return cacheInvalidations;
+        }
+    }
+}
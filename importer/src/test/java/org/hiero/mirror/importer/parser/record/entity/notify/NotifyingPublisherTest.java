@@ -9,10 +9,13 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.ArrayList;
 import javax.sql.DataSource;
+import org.hiero.mirror.common.converter.TopicMessageCodec;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.domain.topic.TopicMessage;
 import org.hiero.mirror.importer.parser.record.entity.BatchPublisherTest;
 import org.hiero.mirror.importer.parser.record.entity.ParserContext;
+import org.hiero.mirror.importer.parser.record.entity.notify.NotifyProperties.PayloadFormat;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.postgresql.jdbc.PgConnection;
 import reactor.core.publisher.Flux;
@@ -22,6 +25,7 @@ import reactor.test.StepVerifier;
 class NotifyingPublisherTest extends BatchPublisherTest {
 
     private final DataSource dataSource;
+    private final NotifyProperties notifyProperties;
 
     public NotifyingPublisherTest(
             NotifyingPublisher entityListener,
@@ -30,6 +34,30 @@ class NotifyingPublisherTest extends BatchPublisherTest {
             DataSource dataSource) {
         super(entityListener, parserContext, properties);
         this.dataSource = dataSource;
+        this.notifyProperties = properties;
+    }
+
+    @AfterEach
+    void cleanup() {
+        notifyProperties.setFormat(PayloadFormat.JSON);
+    }
+
+    @Test
+    void onTopicMessageBinary() {
+        // given
+        notifyProperties.setFormat(PayloadFormat.BINARY);
+        var topicMessage = domainBuilder.topicMessage().get();
+        var topicMessages = subscribe(topicMessage.getTopicId());
+        parserContext.add(topicMessage);
+
+        // then
+        StepVerifier.create(topicMessages)
+                .thenAwait(Duration.ofMillis(250L))
+                .then(() -> batchPublisher.onEnd(null))
+                .thenAwait(Duration.ofMillis(250L))
+                .expectNext(topicMessage)
+                .thenCancel()
+                .verify(Duration.ofMillis(2000));
     }
 
     @Test
@@ -81,7 +109,10 @@ class NotifyingPublisherTest extends BatchPublisherTest {
 
             if (notifications != null) {
                 for (var pgNotification : notifications) {
-                    var topicMessage = OBJECT_MAPPER.readValue(pgNotification.getParameter(), TopicMessage.class);
+                    var payload = pgNotification.getParameter();
+                    var topicMessage = TopicMessageCodec.isEncoded(payload)
+                            ? TopicMessageCodec.decode(payload)
+                            : OBJECT_MAPPER.readValue(payload, TopicMessage.class);
                     if (topicId.equals(topicMessage.getTopicId())) {
                         topicMessages.add(topicMessage);
                     }
@@ -0,0 +1,192 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.entity.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hiero.mirror.importer.parser.record.entity.sql.ParallelBatchPersister.GID_PREFIX;
+import static org.hiero.mirror.importer.parser.record.entity.sql.ParallelBatchPersister.RECORD_FILE_SUFFIX;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.hiero.mirror.common.domain.contract.ContractLog;
+import org.hiero.mirror.common.domain.transaction.CryptoTransfer;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.exception.InvalidConfigurationException;
+import org.hiero.mirror.importer.parser.CommonParserProperties;
+import org.hiero.mirror.importer.parser.batch.BatchPersister;
+import org.hiero.mirror.importer.repository.ContractLogRepository;
+import org.hiero.mirror.importer.repository.CryptoTransferRepository;
+import org.hiero.mirror.importer.repository.RecordFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@RequiredArgsConstructor
+class ParallelBatchPersisterTest extends ImporterIntegrationTest {
+
+    private final BatchPersister batchPersister;
+    private final ContractLogRepository contractLogRepository;
+    private final CryptoTransferRepository cryptoTransferRepository;
+    private final DataSource dataSource;
+    private final RecordFileRepository recordFileRepository;
+    private final TransactionOperations transactionOperations;
+
+    private ParallelBatchPersister parallelBatchPersister;
+    private SqlProperties sqlProperties;
+
+    @BeforeEach
+    void setup() {
+        sqlProperties = new SqlProperties();
+        sqlProperties.getParallelFlush().setEnabled(true);
+        parallelBatchPersister = new ParallelBatchPersister(
+                batchPersister, dataSource, meterRegistry, new CommonParserProperties(), sqlProperties);
+    }
+
+    @AfterEach
+    void cleanup() {
+        parallelBatchPersister.close();
+    }
+
+    @Test
+    void persist() {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var contractLog = domainBuilder.contractLog().get();
+
+        // when
+        transactionOperations.executeWithoutResult(t -> parallelBatchPersister.persist(
+                recordFile.getConsensusEnd(), groups(cryptoTransfer, contractLog), List.of(recordFile)));
+
+        // then
+        assertThat(recordFileRepository.findAll())
+                .extracting(RecordFile::getConsensusEnd)
+                .containsExactly(recordFile.getConsensusEnd());
+        assertThat(cryptoTransferRepository.findAll())
+                .extracting(CryptoTransfer::getConsensusTimestamp)
+                .containsExactly(cryptoTransfer.getConsensusTimestamp());
+        assertThat(contractLogRepository.findAll())
+                .extracting(ContractLog::getConsensusTimestamp)
+                .containsExactly(contractLog.getConsensusTimestamp());
+        assertThat(findPrepared()).isEmpty();
+    }
+
+    @Test
+    void rollback() {
+        // given
+        var recordFile = domainBuilder.recordFile().get();
+        var groups = groups(domainBuilder.cryptoTransfer().get(), domainBuilder.contractLog().get());
+
+        // when
+        transactionOperations.executeWithoutResult(t -> {
+            parallelBatchPersister.persist(recordFile.getConsensusEnd(), groups, List.of(recordFile));
+            t.setRollbackOnly();
+        });
+
+        // then
+        assertThat(recordFileRepository.count()).isZero();
+        assertThat(cryptoTransferRepository.count()).isZero();
+        assertThat(contractLogRepository.count()).isZero();
+        assertThat(findPrepared()).isEmpty();
+    }
+
+    @Test
+    void recover() throws SQLException {
+        // given
+        var committedRecordFile = domainBuilder.recordFile().get();
+        var committed = domainBuilder.cryptoTransfer().get();
+        var committedGid = gid(committedRecordFile, true);
+        prepare(committedGid + "0" + RECORD_FILE_SUFFIX, committedRecordFile);
+        prepare(committedGid + "1", committed);
+
+        var rolledBackRecordFile = domainBuilder.recordFile().get();
+        var rolledBack = domainBuilder.contractLog().get();
+        var rolledBackGid = gid(rolledBackRecordFile, false);
+        prepare(rolledBackGid + "0" + RECORD_FILE_SUFFIX, rolledBackRecordFile);
+        prepare(rolledBackGid + "1", rolledBack);
+        assertThat(findPrepared()).hasSize(4);
+
+        var recordFile = domainBuilder.recordFile().get();
+        var cryptoTransfer = domainBuilder.cryptoTransfer().get();
+        var contractLog = domainBuilder.contractLog().get();
+
+        // when
+        transactionOperations.executeWithoutResult(t -> parallelBatchPersister.persist(
+                recordFile.getConsensusEnd(), groups(cryptoTransfer, contractLog), List.of(recordFile)));
+
+        // then
+        assertThat(findPrepared()).isEmpty();
+        assertThat(recordFileRepository.findAll())
+                .extracting(RecordFile::getConsensusEnd)
+                .containsExactlyInAnyOrder(committedRecordFile.getConsensusEnd(), recordFile.getConsensusEnd());
+        assertThat(cryptoTransferRepository.findAll())
+                .extracting(CryptoTransfer::getConsensusTimestamp)
+                .containsExactlyInAnyOrder(committed.getConsensusTimestamp(), cryptoTransfer.getConsensusTimestamp());
+        assertThat(contractLogRepository.findAll())
+                .extracting(ContractLog::getConsensusTimestamp)
+                .containsExactly(contractLog.getConsensusTimestamp());
+    }
+
+    @Test
+    void sessionTempTables() {
+        var parserProperties = new CommonParserProperties();
+        parserProperties.getSessionTempTables().add("entity");
+        assertThatThrownBy(() -> new ParallelBatchPersister(
+                        batchPersister, dataSource, meterRegistry, parserProperties, sqlProperties))
+                .isInstanceOf(InvalidConfigurationException.class);
+    }
+
+    private List<String> findPrepared() {
+        return jdbcOperations.queryForList("select gid from pg_prepared_xacts", String.class);
+    }
+
+    // The prefix of the prepared transactions of a parser transaction that either committed or rolled back
+    private String gid(RecordFile recordFile, boolean commit) {
+        var transactionId = transactionOperations.execute(t -> {
+            var id = jdbcOperations.queryForObject("select pg_current_xact_id()::text", String.class);
+            if (!commit) {
+                t.setRollbackOnly();
+            }
+            return id;
+        });
+        return GID_PREFIX + recordFile.getConsensusEnd() + "_" + transactionId + "_";
+    }
+
+    private List<List<Collection<?>>> groups(Object... items) {
+        var groups = new ArrayList<List<Collection<?>>>();
+        groups.add(List.of());
+
+        for (var item : items) {
+            groups.add(List.of(List.of(item)));
+        }
+
+        return groups;
+    }
+
+    // Leaves a prepared transaction behind as if the importer crashed before completing it
+    private void prepare(String gid, Object item) throws SQLException {
+        try (var connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+
+            try {
+                batchPersister.persist(List.of(item));
+            } finally {
+                TransactionSynchronizationManager.unbindResource(dataSource);
+            }
+
+            try (var statement = connection.createStatement()) {
+                statement.execute("prepare transaction '" + gid + "'");
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.parser.record.historicalbalance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hiero.mirror.importer.downloader.balance.BalanceDownloaderProperties;
+import org.hiero.mirror.importer.parser.record.historicalbalance.BalanceChangeTracker.TokenAccountKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BalanceChangeTrackerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private HistoricalBalanceProperties properties;
+    private BalanceChangeTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new HistoricalBalanceProperties(mock(BalanceDownloaderProperties.class));
+        properties.getIncremental().setEnabled(true);
+        tracker = new BalanceChangeTracker(properties, meterRegistry);
+    }
+
+    @Test
+    void remove() {
+        tracker.onAccount(1L, 10L);
+        tracker.onAccount(1L, 20L);
+        tracker.onAccount(2L, 10L);
+        tracker.onTokenAccount(1L, 3L, 10L);
+        tracker.onTokenAccount(2L, 3L, 20L);
+
+        assertThat(tracker.getAccounts()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(tracker.getTokenAccounts())
+                .containsExactlyInAnyOrder(new TokenAccountKey(1L, 3L), new TokenAccountKey(2L, 3L));
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.historical.balance.changes")
+                        .tag("type", "account")
+                        .gauge()
+                        .value())
+                .isEqualTo(2.0);
+
+        tracker.remove(15L);
+
+        assertThat(tracker.getAccounts()).containsExactly(1L);
+        assertThat(tracker.getTokenAccounts()).containsExactly(new TokenAccountKey(2L, 3L));
+        assertThat(tracker.isValid()).isTrue();
+    }
+
+    @Test
+    void disabled() {
+        properties.getIncremental().setEnabled(false);
+
+        tracker.onAccount(1L, 10L);
+
+        assertThat(tracker.getAccounts()).isEmpty();
+        assertThat(tracker.isValid()).isFalse();
+
+        properties.getIncremental().setEnabled(true);
+        tracker.onAccount(1L, 10L);
+
+        assertThat(tracker.getAccounts()).isEmpty();
+        assertThat(tracker.isValid()).isFalse();
+
+        tracker.restart();
+        tracker.onAccount(1L, 10L);
+
+        assertThat(tracker.getAccounts()).containsExactly(1L);
+        assertThat(tracker.isValid()).isTrue();
+    }
+
+    @Test
+    void maxChanges() {
+        properties.getIncremental().setMaxChanges(2);
+
+        tracker.onAccount(1L, 10L);
+        tracker.onTokenAccount(1L, 3L, 10L);
+
+        assertThat(tracker.isValid()).isTrue();
+
+        tracker.onAccount(2L, 10L);
+
+        assertThat(tracker.isValid()).isFalse();
+        assertThat(tracker.getAccounts()).isEmpty();
+        assertThat(tracker.getTokenAccounts()).isEmpty();
+    }
+}
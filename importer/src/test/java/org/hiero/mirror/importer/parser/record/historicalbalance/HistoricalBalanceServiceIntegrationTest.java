@@ -10,6 +10,7 @@ import static org.hiero.mirror.common.domain.entity.EntityType.FILE;
 import static org.hiero.mirror.common.domain.entity.EntityType.UNKNOWN;
 
 import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
@@ -59,8 +60,10 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
     private final AccountBalanceFileRepository accountBalanceFileRepository;
     private final AccountBalanceRepository accountBalanceRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final BalanceChangeTracker balanceChangeTracker;
     private final EntityRepository entityRepository;
     private final FlywayProperties flywayProperties;
+    private final MeterRegistry meterRegistry;
     private final HistoricalBalanceProperties properties;
     private final RecordFileRepository recordFileRepository;
     private final TimePartitionService timePartitionService;
@@ -144,6 +147,7 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
 
     @AfterEach
     void resetProperties() {
+        properties.getIncremental().setEnabled(false);
         properties.setTokenBalances(true);
     }
 
@@ -232,6 +236,48 @@ class HistoricalBalanceServiceIntegrationTest extends ImporterIntegrationTest {
         verifyGeneratedBalances(balanceTimestamp, entities, tokenAccounts);
     }
 
+    @Test
+    void generateIncremental() {
+        // given
+        setup();
+        properties.getIncremental().setEnabled(true);
+        var incrementalMetric = meterRegistry
+                .get("hiero.mirror.importer.historical.balance.snapshot")
+                .tag("mode", "incremental")
+                .timer();
+        long incrementalCount = incrementalMetric.count();
+        var accountBalanceFile = domainBuilder.accountBalanceFile().persist();
+        long balanceTimestamp = accountBalanceFile.getConsensusTimestamp()
+                + properties.getMinFrequency().toNanos();
+        verifyGeneratedBalances(balanceTimestamp, entities, tokenAccounts);
+
+        // when, then
+        // the first snapshots after incremental is enabled scan the tables, later ones only copy the tracked changes
+        for (int i = 0; i < 2; i++) {
+            verifyNoNewAccountBalanceFile(Lists.newArrayList(accountBalanceFileRepository.findAll()));
+            balanceTimestamp += properties.getMinFrequency().toNanos();
+            account.setBalance(account.getBalance() + 5);
+            account.setBalanceTimestamp(balanceTimestamp - 1);
+            entityRepository.save(account);
+            balanceChangeTracker.onAccount(account.getId(), account.getBalanceTimestamp());
+            tokenAccount.setBalance(tokenAccount.getBalance() + 5);
+            tokenAccount.setBalanceTimestamp(balanceTimestamp - 1);
+            tokenAccountRepository.save(tokenAccount);
+            balanceChangeTracker.onTokenAccount(
+                    tokenAccount.getAccountId(), tokenAccount.getTokenId(), tokenAccount.getBalanceTimestamp());
+
+            verifyGeneratedBalances(balanceTimestamp, List.of(treasuryAccount, account), List.of(tokenAccount));
+        }
+
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .untilAsserted(() -> {
+                    assertThat(incrementalMetric.count()).isGreaterThan(incrementalCount);
+                    assertThat(balanceChangeTracker.getAccounts()).isEmpty();
+                    assertThat(balanceChangeTracker.getTokenAccounts()).isEmpty();
+                });
+    }
+
     @Test
     void generateWhenNoAccountBalanceFiles() {
         // given
@@ -12,6 +12,7 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import javax.sql.DataSource;
 import org.awaitility.Durations;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
@@ -54,10 +55,13 @@ class HistoricalBalanceServiceTest {
                 return Optional.empty();
             });
             var historicalBalanceProperties = new HistoricalBalanceProperties(balanceDownloaderProperties);
+            var meterRegistry = new SimpleMeterRegistry();
             var service = new HistoricalBalanceService(
                     accountBalanceFileRepository,
                     accountBalanceRepository,
-                    new SimpleMeterRegistry(),
+                    new BalanceChangeTracker(historicalBalanceProperties, meterRegistry),
+                    mock(DataSource.class),
+                    meterRegistry,
                     platformTransactionManager,
                     historicalBalanceProperties,
                     recordFileRepository,
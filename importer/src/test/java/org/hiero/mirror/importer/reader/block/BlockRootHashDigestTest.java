@@ -5,6 +5,8 @@ package org.hiero.mirror.importer.reader.block;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.primitives.Bytes;
+import com.google.protobuf.UnsafeByteOperations;
 import com.hedera.hapi.block.stream.output.protoc.BlockHeader;
 import com.hedera.hapi.block.stream.output.protoc.StateChanges;
 import com.hedera.hapi.block.stream.protoc.BlockItem;
@@ -41,6 +43,34 @@ class BlockRootHashDigestTest {
         assertThatThrownBy(subject::digest).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void digestSerializedBlockItems() {
+        // given
+        var inputBlockItem = BlockItem.newBuilder()
+                .setBlockHeader(BlockHeader.newBuilder().setNumber(10L).build())
+                .build();
+        var outputBlockItem = BlockItem.newBuilder()
+                .setStateChanges(StateChanges.newBuilder().build())
+                .build();
+        var expected = new BlockRootHashDigest();
+        expected.setPreviousHash(EMPTY_HASH);
+        expected.setStartOfBlockStateHash(EMPTY_HASH);
+        expected.addInputBlockItem(inputBlockItem);
+        expected.addOutputBlockItem(outputBlockItem);
+
+        // Slices of a larger buffer like the ones taken from the raw block file
+        byte[] inputBytes = inputBlockItem.toByteArray();
+        byte[] buffer = Bytes.concat(new byte[] {1, 2, 3}, inputBytes, new byte[] {4, 5});
+        var subject = new BlockRootHashDigest();
+        subject.setPreviousHash(EMPTY_HASH);
+        subject.setStartOfBlockStateHash(EMPTY_HASH);
+        subject.addInputBlockItem(UnsafeByteOperations.unsafeWrap(buffer, 3, inputBytes.length));
+        subject.addOutputBlockItem(outputBlockItem.toByteString());
+
+        // when, then
+        assertThat(subject.digest()).isEqualTo(expected.digest());
+    }
+
     @Test
     void digestWithEmptyInputOutputTrees() {
         // given
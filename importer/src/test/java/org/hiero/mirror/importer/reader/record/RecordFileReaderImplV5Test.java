@@ -44,20 +44,14 @@ class RecordFileReaderImplV5Test extends AbstractRecordFileReaderTest {
                     RecordFile actual = recordFileReader.read(streamFileData);
 
                     // then
-                    RecordItem previousItem = null;
                     RecordItem lastParentItem = null;
                     for (var item : actual.getItems()) {
-                        // assert previous link points to previous item
-                        assertThat(item.getPrevious()).isEqualTo(previousItem);
-
                         // confirm if child that parent is populated
                         if (item.isChild()) {
                             assertThat(item.getParent()).isEqualTo(lastParentItem);
                         } else {
                             lastParentItem = item;
                         }
-
-                        previousItem = item;
                     }
                 });
     }
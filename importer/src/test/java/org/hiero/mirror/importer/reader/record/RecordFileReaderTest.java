@@ -98,6 +98,32 @@ abstract class RecordFileReaderTest {
                 });
     }
 
+    @TestFactory
+    Stream<DynamicTest> readValidFileStreaming() {
+        String template = "read valid version %d file %s in streaming mode";
+
+        return DynamicTest.stream(
+                getFilteredFiles(false),
+                recordFile -> String.format(template, recordFile.getVersion(), recordFile.getName()),
+                recordFile -> {
+                    // given
+                    Path testFile = getTestFile(recordFile);
+                    RecordFile expected = recordFileReader.read(StreamFileData.from(testFile.toFile()));
+
+                    // when
+                    RecordFile actual = recordFileReader.read(StreamFileData.from(testFile.toFile()), true);
+
+                    // then
+                    assertThat(actual)
+                            .usingRecursiveComparison()
+                            .ignoringFields("items", "logsBloomAggregator")
+                            .isEqualTo(expected);
+                    assertThat(actual.getItems())
+                            .hasSize(expected.getItems().size())
+                            .containsExactlyElementsOf(expected.getItems());
+                });
+    }
+
     @SneakyThrows
     @TestFactory
     Stream<DynamicTest> verifyRecordItemLinksInValidFile() {
@@ -115,11 +141,13 @@ abstract class RecordFileReaderTest {
                     RecordFile actual = recordFileReader.read(streamFileData);
 
                     // then
-                    RecordItem previousItem = null;
                     for (var item : actual.getItems()) {
-                        // assert previous link points to previous item
-                        assertThat(item.getPrevious()).isEqualTo(previousItem);
-                        previousItem = item;
+                        // assert parent link points to the item with the parent consensus timestamp
+                        var transactionRecord = item.getTransactionRecord();
+                        if (item.getParent() != null) {
+                            assertThat(item.getParent().getTransactionRecord().getConsensusTimestamp())
+                                    .isEqualTo(transactionRecord.getParentConsensusTimestamp());
+                        }
                     }
                 });
     }
@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reader.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.hiero.mirror.importer.parser.domain.RecordItemBuilder;
+import org.junit.jupiter.api.Test;
+
+class StreamingRecordItemsTest {
+
+    private static final String FILENAME = "2022-06-21T09_15_44.212575003Z.rcd.gz";
+    private static final int SIZE = 3;
+
+    private final AtomicInteger decodeCount = new AtomicInteger();
+    private final RecordItemBuilder recordItemBuilder = new RecordItemBuilder();
+
+    @Test
+    void iterate() {
+        // given
+        var items = streamingRecordItems(FILENAME);
+
+        // when
+        var first = new ArrayList<>(items);
+        var second = new ArrayList<>(items);
+
+        // then the items are decoded again instead of being retained
+        assertThat(first).hasSize(SIZE);
+        assertThat(second).hasSize(SIZE).doesNotContainAnyElementsOf(first);
+        assertThat(decodeCount).hasValue(2);
+    }
+
+    @Test
+    void get() {
+        // given
+        var items = streamingRecordItems(FILENAME);
+
+        // when
+        var first = items.get(0);
+        var second = items.get(1);
+
+        // then
+        assertThat(items.get(1)).isSameAs(second);
+        assertThat(items.get(SIZE - 1)).isNotNull();
+        assertThat(decodeCount).hasValue(1);
+        assertThat(items.get(0)).isNotSameAs(first);
+        assertThat(decodeCount).hasValue(2);
+        assertThatThrownBy(() -> items.get(SIZE)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void equalsAndHashCode() {
+        // given
+        var items = streamingRecordItems(FILENAME);
+        var same = streamingRecordItems(FILENAME);
+        var other = streamingRecordItems("2022-06-21T09_15_46.247764003Z.rcd.gz");
+
+        // when, then
+        assertThat(items).isEqualTo(same).hasSameHashCodeAs(same).isNotEqualTo(other);
+        assertThat(decodeCount).hasValue(0);
+    }
+
+    private StreamingRecordItems streamingRecordItems(String filename) {
+        return new StreamingRecordItems(filename, SIZE, () -> {
+            decodeCount.incrementAndGet();
+            return Stream.generate(() -> recordItemBuilder.cryptoTransfer().build())
+                    .limit(SIZE)
+                    .iterator();
+        });
+    }
+}
@@ -0,0 +1,105 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.importer.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class BalanceMapTest {
+
+    @Test
+    void accounts() {
+        var balances = BalanceMap.accounts();
+        balances.put(2L, 0L, 100L);
+        balances.add(2L, 0L, -10L);
+        balances.add(3L, 0L, 5L);
+
+        assertThat(balances.size()).isEqualTo(2);
+        assertThat(balances.get(2L, 0L)).isEqualTo(90L);
+        assertThat(balances.get(3L, 0L)).isEqualTo(5L);
+        assertThat(balances.get(4L, 0L)).isZero();
+        assertThatThrownBy(() -> balances.put(2L, 1L, 1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tokenAccounts() {
+        var balances = BalanceMap.tokenAccounts();
+        balances.put(2L, 100L, 1L);
+        balances.put(2L, 101L, 2L);
+        balances.add(3L, 100L, 3L);
+
+        assertThat(balances.size()).isEqualTo(3);
+        assertThat(balances.get(2L, 100L)).isEqualTo(1L);
+        assertThat(balances.get(2L, 101L)).isEqualTo(2L);
+        assertThat(balances.get(3L, 100L)).isEqualTo(3L);
+        assertThat(balances.get(3L, 101L)).isZero();
+    }
+
+    @Test
+    void overflow() {
+        var balances = BalanceMap.accounts();
+        balances.put(2L, 0L, Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> balances.add(2L, 0L, 1L)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void resize() {
+        var balances = BalanceMap.tokenAccounts();
+        var expected = new HashMap<List<Long>, Long>();
+
+        for (long i = 1; i <= 10_000; i++) {
+            balances.put(i, i % 7, i * 3);
+            expected.put(List.of(i, i % 7), i * 3);
+        }
+
+        var actual = new HashMap<List<Long>, Long>();
+        balances.forEach((accountId, tokenId, balance) -> actual.put(List.of(accountId, tokenId), balance));
+
+        assertThat(balances.size()).isEqualTo(10_000);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void difference() {
+        var previous = BalanceMap.accounts();
+        previous.put(2L, 0L, 100L);
+        previous.put(3L, 0L, 0L);
+        previous.put(4L, 0L, 5L);
+        var current = BalanceMap.accounts();
+        current.put(2L, 0L, 100L);
+        current.put(4L, 0L, 6L);
+        current.put(5L, 0L, 0L);
+        current.put(6L, 0L, 7L);
+
+        var differences = new ArrayList<List<Long>>();
+        boolean equal = previous.difference(
+                current, (accountId, tokenId, balance, otherBalance) -> differences.add(
+                        List.of(accountId, balance, otherBalance)));
+
+        assertThat(equal).isFalse();
+        assertThat(differences).containsExactlyInAnyOrder(List.of(4L, 5L, 6L), List.of(6L, 0L, 7L));
+    }
+
+    @Test
+    void noDifference() {
+        var previous = BalanceMap.tokenAccounts();
+        previous.put(2L, 100L, 1L);
+        previous.put(3L, 100L, 0L);
+        var current = BalanceMap.tokenAccounts();
+        current.put(2L, 100L, 1L);
+
+        var differences = new ArrayList<Map<Long, Long>>();
+        boolean equal = previous.difference(
+                current, (accountId, tokenId, balance, otherBalance) -> differences.add(Map.of(balance, otherBalance)));
+
+        assertThat(equal).isTrue();
+        assertThat(differences).isEmpty();
+    }
+}
@@ -10,7 +10,6 @@ import static org.hiero.mirror.common.domain.job.ReconciliationStatus.SUCCESS;
 import static org.hiero.mirror.common.domain.job.ReconciliationStatus.UNKNOWN;
 import static org.hiero.mirror.importer.reconciliation.BalanceReconciliationService.FIFTY_BILLION_HBARS;
 import static org.hiero.mirror.importer.reconciliation.BalanceReconciliationService.METRIC;
-import static org.hiero.mirror.importer.reconciliation.BalanceReconciliationService.TokenAccountId;
 import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.ACCUMULATE;
 import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.FAIL;
 import static org.hiero.mirror.importer.reconciliation.ReconciliationProperties.RemediationStrategy.RESET;
@@ -449,8 +448,8 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
         long timestamp = accountBalanceFile.getConsensusTimestamp();
 
         balances.forEach((id, balance) -> {
-            var accountId = EntityId.of(id.getAccountId());
-            var tokenId = EntityId.of(id.getTokenId());
+            var accountId = EntityId.of(id.accountId());
+            var tokenId = EntityId.of(id.tokenId());
             domainBuilder
                     .tokenBalance()
                     .customize(a -> a.balance(balance).id(new TokenBalance.Id(timestamp, accountId, tokenId)))
@@ -480,4 +479,6 @@ class BalanceReconciliationServiceTest extends ImporterIntegrationTest {
                 .customize(c -> c.amount(amount).id(new TokenTransfer.Id(timestamp, tokenId, accountId)))
                 .persist();
     }
+
+    private record TokenAccountId(long accountId, long tokenId) {}
 }
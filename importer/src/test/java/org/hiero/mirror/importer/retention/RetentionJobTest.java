@@ -4,12 +4,16 @@ package org.hiero.mirror.importer.retention;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.importer.EnabledIfV2;
 import org.hiero.mirror.importer.ImporterIntegrationTest;
+import org.hiero.mirror.importer.db.TimePartition;
+import org.hiero.mirror.importer.db.TimePartitionService;
 import org.hiero.mirror.importer.repository.RecordFileRepository;
 import org.hiero.mirror.importer.repository.TransactionRepository;
 import org.junit.jupiter.api.AfterEach;
@@ -19,14 +23,19 @@ import org.junit.jupiter.api.Test;
 @RequiredArgsConstructor
 class RetentionJobTest extends ImporterIntegrationTest {
 
+    private final MeterRegistry meterRegistry;
     private final RecordFileRepository recordFileRepository;
     private final RetentionJob retentionJob;
     private final RetentionProperties retentionProperties;
+    private final TimePartitionService timePartitionService;
     private final TransactionRepository transactionRepository;
 
+    private TimePartition droppedPartition;
+
     @BeforeEach
     void setup() {
         retentionProperties.setBatchPeriod(Duration.ofSeconds(1L));
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setExclude(Collections.emptySet());
         retentionProperties.setInclude(Collections.emptySet());
         retentionProperties.setPeriod(Duration.ofDays(-1L));
@@ -35,7 +44,20 @@ class RetentionJobTest extends ImporterIntegrationTest {
 
     @AfterEach
     void cleanup() {
+        retentionProperties.setDropPartitions(false);
         retentionProperties.setEnabled(false);
+
+        if (droppedPartition != null) {
+            var range = droppedPartition.getTimestampRange();
+            ownerJdbcTemplate.execute("create table %s partition of %s for values from ('%d') to ('%d')"
+                    .formatted(
+                            droppedPartition.getName(),
+                            droppedPartition.getParent(),
+                            range.lowerEndpoint(),
+                            range.upperEndpoint()));
+            timePartitionService.evict(droppedPartition.getParent());
+            droppedPartition = null;
+        }
     }
 
     @Test
@@ -168,6 +190,61 @@ class RetentionJobTest extends ImporterIntegrationTest {
         assertThat(transactionRepository.count()).isZero();
     }
 
+    @EnabledIfV2
+    @Test
+    void dropPartitions() {
+        // given
+        retentionProperties.setDropPartitions(true);
+        retentionProperties.setInclude(Set.of("transaction"));
+        retentionProperties.setPeriod(Duration.ZERO);
+        var partitions = timePartitionService.getTimePartitions("transaction");
+        var first = partitions.get(0);
+        long boundary = partitions.get(1).getTimestampRange().lowerEndpoint();
+        domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(first.getTimestampRange().lowerEndpoint()))
+                .persist();
+        var recordFile = domainBuilder
+                .recordFile()
+                .customize(r -> r.consensusStart(boundary).consensusEnd(boundary + 1))
+                .persist();
+        domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(boundary + 1))
+                .persist();
+        var transaction = domainBuilder
+                .transaction()
+                .customize(t -> t.consensusTimestamp(boundary + 2))
+                .persist();
+
+        // when
+        retentionJob.prune();
+        droppedPartition = first;
+
+        // then
+        assertThat(recordFileRepository.findAll()).containsExactly(recordFile);
+        assertThat(transactionRepository.findAll()).containsExactly(transaction);
+        assertThat(jdbcOperations.queryForList(
+                        "select name from mirror_node_time_partitions where parent = 'transaction'", String.class))
+                .doesNotContain(first.getName())
+                .contains(partitions.get(1).getName());
+        assertThat(timePartitionService.getTimePartitions("transaction"))
+                .doesNotContain(first)
+                .contains(partitions.get(1));
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.retention.bytes")
+                        .tag("table", "transaction")
+                        .counter()
+                        .count())
+                .isPositive();
+        assertThat(meterRegistry
+                        .get("hiero.mirror.importer.retention.rows")
+                        .tag("table", "transaction")
+                        .counter()
+                        .count())
+                .isPositive();
+    }
+
     private RecordFile recordFile() {
         var recordFile = domainBuilder.recordFile().persist();
         domainBuilder
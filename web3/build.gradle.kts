@@ -31,15 +31,16 @@ dependencies {
     implementation("javax.inject:javax.inject")
     implementation("net.java.dev.jna:jna")
     implementation("org.bouncycastle:bcprov-jdk18on")
+    implementation("org.postgresql:postgresql")
     implementation("org.springframework:spring-context-support")
     implementation("org.springframework.boot:spring-boot-actuator-autoconfigure")
     implementation("org.springframework.boot:spring-boot-configuration-processor")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.cloud:spring-cloud-starter-bootstrap")
     implementation("org.springframework.cloud:spring-cloud-starter-kubernetes-fabric8-config")
-    runtimeOnly("org.postgresql:postgresql")
     testImplementation(project(path = ":common", configuration = "testClasses"))
     testImplementation("io.vertx:vertx-core")
+    testImplementation("org.awaitility:awaitility")
     testImplementation("org.flywaydb:flyway-database-postgresql")
     testImplementation("org.mockito:mockito-inline")
     testImplementation("org.springframework.boot:spring-boot-testcontainers")
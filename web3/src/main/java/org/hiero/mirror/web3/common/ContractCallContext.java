@@ -8,18 +8,22 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.hiero.mirror.common.domain.contract.ContractAction;
 import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.GasRequirement;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.Opcode;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
 import org.hiero.mirror.web3.evm.store.CachingStateFrame;
 import org.hiero.mirror.web3.evm.store.StackedStateFrames;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
+import org.hiero.mirror.web3.state.StoragePrefetch;
 import org.hiero.mirror.web3.viewmodel.BlockType;
 
 @Getter
@@ -28,11 +32,14 @@ public class ContractCallContext {
     public static final String CONTEXT_NAME = "ContractCallContext";
     private static final ScopedValue<ContractCallContext> SCOPED_VALUE = ScopedValue.newInstance();
 
+    // Concurrent since it's shared with the contexts forked to execute concurrently
     @Getter(AccessLevel.NONE)
-    private final Map<String, Map<Object, Object>> readCache = new HashMap<>();
+    private final Map<String, Map<Object, Object>> readCache;
 
     @Getter
-    private final long startTime = System.currentTimeMillis();
+    private final long startTime;
+
+    private final StoragePrefetch storagePrefetch;
 
     @Getter(AccessLevel.NONE)
     private final Map<String, Map<Object, Object>> writeCache = new HashMap<>();
@@ -48,6 +55,12 @@ public class ContractCallContext {
     @Setter
     private int contractActionIndexOfCurrentFrame = -1;
 
+    /**
+     * Set while estimating gas to record the gas requirement of the execution.
+     */
+    @Setter
+    private GasRequirement gasRequirement;
+
     @Setter
     private OpcodeTracerOptions opcodeTracerOptions;
 
@@ -76,7 +89,21 @@ public class ContractCallContext {
     @Setter
     private Optional<Long> timestamp = Optional.empty();
 
-    private ContractCallContext() {}
+    private ContractCallContext() {
+        readCache = new ConcurrentHashMap<>();
+        startTime = System.currentTimeMillis();
+        storagePrefetch = new StoragePrefetch();
+    }
+
+    private ContractCallContext(ContractCallContext parent) {
+        readCache = parent.readCache;
+        startTime = parent.startTime;
+        storagePrefetch = parent.storagePrefetch;
+        callServiceParameters = parent.callServiceParameters;
+        opcodeTracerOptions = parent.opcodeTracerOptions;
+        recordFile = parent.recordFile;
+        timestamp = parent.timestamp;
+    }
 
     public static ContractCallContext get() {
         return SCOPED_VALUE.get();
@@ -90,6 +117,16 @@ public class ContractCallContext {
         return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(), () -> function.apply(SCOPED_VALUE.get()));
     }
 
+    /**
+     * Runs the supplier within a new context that shares this context's read cache, storage prefetch and call details
+     * but has its own write cache. This allows modularized executions against the same state to run concurrently on
+     * other threads while only reading each value from the database once. The stacked state frames aren't shared since
+     * they're not thread safe.
+     */
+    public <T> T fork(Supplier<T> supplier) {
+        return ScopedValue.getWhere(SCOPED_VALUE, new ContractCallContext(this), supplier);
+    }
+
     public void reset() {
         stack = stackBase;
         writeCache.clear();
@@ -160,7 +197,7 @@ public class ContractCallContext {
     }
 
     public Map<Object, Object> getReadCacheState(final String stateKey) {
-        return readCache.computeIfAbsent(stateKey, k -> new HashMap<>());
+        return readCache.computeIfAbsent(stateKey, k -> new ConcurrentHashMap<>());
     }
 
     public Map<Object, Object> getWriteCacheState(final String stateKey) {
@@ -48,6 +48,7 @@ import org.hiero.mirror.web3.evm.contracts.operations.HederaBlockHashOperation;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.contract.EntityAddressSequencer;
 import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.evm.EVM;
 import org.hyperledger.besu.evm.EvmSpecVersion;
@@ -78,6 +79,7 @@ public class EvmConfiguration {
     public static final String CACHE_MANAGER_CONTRACT = "contract";
     public static final String CACHE_MANAGER_CONTRACT_STATE = "contractState";
     public static final String CACHE_MANAGER_ENTITY = "entity";
+    public static final String CACHE_MANAGER_HISTORICAL_STATE = "historicalState";
     public static final String CACHE_MANAGER_RECORD_FILE_LATEST = "recordFileLatest";
     public static final String CACHE_MANAGER_RECORD_FILE_EARLIEST = "recordFileEarliest";
     public static final String CACHE_MANAGER_RECORD_FILE_INDEX = "recordFileIndex";
@@ -145,6 +147,15 @@ public class EvmConfiguration {
         return caffeineCacheManager;
     }
 
+    @Bean(CACHE_MANAGER_HISTORICAL_STATE)
+    CacheManager cacheManagerHistoricalState() {
+        final var caffeine = Caffeine.from(cacheProperties.getHistoricalState()).weigher(HistoricalStateCache::weigh);
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        caffeineCacheManager.setCaffeine(caffeine);
+        return caffeineCacheManager;
+    }
+
     @Bean(CACHE_MANAGER_TOKEN)
     CacheManager cacheManagerToken() {
         final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
@@ -0,0 +1,124 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.contracts.execution.traceability;
+
+import static org.hyperledger.besu.evm.frame.MessageFrame.State.CODE_SUSPENDED;
+import static org.hyperledger.besu.evm.frame.MessageFrame.State.COMPLETED_FAILED;
+import static org.hyperledger.besu.evm.frame.MessageFrame.State.COMPLETED_SUCCESS;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.OptionalLong;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+
+/**
+ * Computes the minimum gas limit an execution needs to behave the same from the gas checkpoints of a traced execution.
+ * Each frame's requirement is the most gas it had consumed at any point plus the gas its next step needed, where a
+ * child call or create needs the parent to keep 64/63 of the child's requirement since only all but one 64th of the
+ * remaining gas is forwarded, and an SSTORE needs more than the 2300 gas call stipend to remain. Refunds are only
+ * applied after execution, so they don't lower the requirement.
+ */
+public class GasRequirement {
+
+    private static final long SSTORE_MINIMUM_REMAINING = 2301L;
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private long topInitialGas = -1L;
+    private long topRequirement = -1L;
+
+    /**
+     * Estimates the gas limit the execution needs from the gas limit it was traced with. The intrinsic gas charged
+     * before the top level frame starts doesn't depend on the gas limit.
+     *
+     * @param gasLimit the gas limit of the traced execution
+     * @return the estimated gas limit or empty if the execution wasn't traced completely
+     */
+    public OptionalLong estimate(long gasLimit) {
+        if (topRequirement < 0L || !frames.isEmpty()) {
+            return OptionalLong.empty();
+        }
+
+        long intrinsicGas = gasLimit - topInitialGas;
+        return OptionalLong.of(Math.min(gasLimit, intrinsicGas + topRequirement));
+    }
+
+    void onContextEnter(MessageFrame frame) {
+        long initialGas = frame.getRemainingGas();
+        var parent = frames.peek();
+
+        if (parent == null) {
+            topInitialGas = initialGas;
+        } else {
+            // The parent was already charged the call's cost and the gas forwarded to the child
+            parent.usedBeforeChild = parent.initialGas - parent.remainingAtCall - initialGas;
+        }
+
+        frames.push(new Frame(initialGas));
+    }
+
+    void onPreExecution(MessageFrame frame) {
+        var current = frames.peek();
+        var operation = frame.getCurrentOperation();
+
+        if (current != null && operation != null && "SSTORE".equals(operation.getName())) {
+            current.require(current.initialGas - frame.getRemainingGas() + SSTORE_MINIMUM_REMAINING);
+        }
+    }
+
+    void onPostExecution(MessageFrame frame) {
+        var current = frames.peek();
+
+        if (current == null) {
+            return;
+        }
+
+        // The gas forwarded to the child isn't consumed yet, so wait for the child to exit
+        if (frame.getState() == CODE_SUSPENDED) {
+            current.remainingAtCall = frame.getRemainingGas();
+        } else {
+            current.require(current.initialGas - frame.getRemainingGas());
+        }
+    }
+
+    void onContextExit(MessageFrame frame) {
+        var current = frames.poll();
+
+        if (current == null) {
+            return;
+        }
+
+        // A halted frame has no gas remaining, but only running out of gas depends on the gas it had
+        var haltReason = frame.getExceptionalHaltReason();
+        if (haltReason.isPresent()) {
+            if (haltReason.get() == ExceptionalHaltReason.INSUFFICIENT_GAS) {
+                current.require(current.initialGas);
+            }
+        } else if (frame.getState() == COMPLETED_SUCCESS || frame.getState() == COMPLETED_FAILED) {
+            current.require(current.initialGas - frame.getRemainingGas());
+        }
+
+        var parent = frames.peek();
+        if (parent == null) {
+            topRequirement = current.requirement;
+        } else {
+            parent.require(parent.usedBeforeChild + Math.ceilDiv(current.requirement * 64L, 63L));
+        }
+    }
+
+    private static final class Frame {
+
+        private final long initialGas;
+        private long remainingAtCall;
+        private long requirement;
+        private long usedBeforeChild;
+
+        private Frame(long initialGas) {
+            this.initialGas = initialGas;
+        }
+
+        private void require(long gas) {
+            requirement = Math.max(requirement, gas);
+        }
+    }
+}
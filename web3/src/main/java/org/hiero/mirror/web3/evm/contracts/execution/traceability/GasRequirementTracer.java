@@ -0,0 +1,53 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.contracts.execution.traceability;
+
+import jakarta.inject.Named;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
+
+/**
+ * Records the gas checkpoints of an execution into the {@link GasRequirement} of the current context so the gas
+ * estimate can be computed from a single execution.
+ */
+@Named
+public class GasRequirementTracer implements OperationTracer {
+
+    @Override
+    public void traceContextEnter(final MessageFrame frame) {
+        var gasRequirement = getGasRequirement();
+        if (gasRequirement != null) {
+            gasRequirement.onContextEnter(frame);
+        }
+    }
+
+    @Override
+    public void tracePreExecution(final MessageFrame frame) {
+        var gasRequirement = getGasRequirement();
+        if (gasRequirement != null) {
+            gasRequirement.onPreExecution(frame);
+        }
+    }
+
+    @Override
+    public void tracePostExecution(final MessageFrame frame, final Operation.OperationResult operationResult) {
+        var gasRequirement = getGasRequirement();
+        if (gasRequirement != null) {
+            gasRequirement.onPostExecution(frame);
+        }
+    }
+
+    @Override
+    public void traceContextExit(final MessageFrame frame) {
+        var gasRequirement = getGasRequirement();
+        if (gasRequirement != null) {
+            gasRequirement.onContextExit(frame);
+        }
+    }
+
+    private GasRequirement getGasRequirement() {
+        return ContractCallContext.get().getGasRequirement();
+    }
+}
@@ -79,6 +79,16 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @Positive
     private double estimateGasIterationThresholdPercent = 0.10d;
 
+    // whether to estimate gas from the gas requirement traced during the first execution before searching
+    @Getter
+    private boolean estimateGasFromTrace = false;
+
+    // levels of the estimate gas' search algorithm to execute concurrently
+    @Getter
+    @Max(6)
+    @Min(1)
+    private int estimateGasSearchDepth = 1;
+
     private boolean directTokenCall = true;
 
     private boolean dynamicEvmVersion = true;
@@ -199,6 +209,15 @@ public class MirrorNodeEvmProperties implements EvmProperties {
     @DecimalMax("1.0")
     private double modularizedTrafficPercent = 0.0;
 
+    // whether to read the storage slots predicted from previous calls in one query on the first access to a contract
+    @Getter
+    private boolean storagePrefetch = false;
+
+    // the maximum number of storage slots to prefetch from a contract
+    @Getter
+    @Min(1)
+    private int storagePrefetchMaxSlots = 256;
+
     public boolean shouldAutoRenewAccounts() {
         return autoRenewTargetTypes.contains(EntityType.ACCOUNT);
     }
@@ -5,8 +5,10 @@ package org.hiero.mirror.web3.repository;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
 import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
 
+import java.util.List;
 import java.util.Optional;
 import org.hiero.mirror.common.domain.contract.ContractState;
+import org.hiero.mirror.web3.repository.projections.ContractSlotValue;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -17,6 +19,11 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
     @Cacheable(cacheNames = CACHE_NAME, cacheManager = CACHE_MANAGER_CONTRACT_STATE)
     Optional<byte[]> findStorage(final Long contractId, final byte[] key);
 
+    @Query(
+            value = "select slot, value from contract_state where contract_id = ?1 and slot = any(?2)",
+            nativeQuery = true)
+    List<ContractSlotValue> findAllStorage(long contractId, byte[][] slots);
+
     /**
      * This method retrieves the most recent contract state storage value up to given block timestamp.
      *
@@ -45,4 +52,28 @@ public interface ContractStateRepository extends CrudRepository<ContractState, L
             """,
             nativeQuery = true)
     Optional<byte[]> findStorageByBlockTimestamp(long id, byte[] slot, long blockTimestamp);
+
+    /**
+     * This method retrieves the most recent contract state storage values of multiple slots up to given block timestamp
+     * in a single query. The slots are trimmed of leading zeros like in {@link #findStorageByBlockTimestamp}.
+     *
+     * @param id             The ID of the contract.
+     * @param slots          The slots in the contract's storage.
+     * @param blockTimestamp The block timestamp up to which to retrieve the storage values.
+     * @return The storage values of the slots that were found
+     */
+    @Query(
+            value =
+                    """
+            select distinct on (slot)
+                slot,
+                coalesce(value_written, value_read) as value
+            from contract_state_change
+            where contract_id = ?1
+            and slot = any(?2)
+            and consensus_timestamp <= ?3
+            order by slot, consensus_timestamp desc
+            """,
+            nativeQuery = true)
+    List<ContractSlotValue> findAllStorageByBlockTimestamp(long id, byte[][] slots, long blockTimestamp);
 }
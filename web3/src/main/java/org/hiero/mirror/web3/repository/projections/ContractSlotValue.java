@@ -0,0 +1,10 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.repository.projections;
+
+public interface ContractSlotValue {
+
+    byte[] getSlot();
+
+    byte[] getValue();
+}
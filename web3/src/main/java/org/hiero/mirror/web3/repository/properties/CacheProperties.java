@@ -2,8 +2,12 @@
 
 package org.hiero.mirror.web3.repository.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -29,9 +33,39 @@ public class CacheProperties {
     @NotBlank
     private String entity = ENTITY_CACHE_CONFIG;
 
+    /**
+     * State at a historical timestamp never changes, so it's kept until evicted by the estimated bytes it occupies
+     */
+    @NotBlank
+    private String historicalState = "expireAfterAccess=1h,maximumWeight=268435456,recordStats";
+
+    @NotNull
+    @Valid
+    private InvalidationProperties invalidation = new InvalidationProperties();
+
+    /**
+     * The storage slots last read from each contract by calls to each function, used to predict the slots to prefetch
+     */
+    @NotBlank
+    private String storagePrefetch = "expireAfterAccess=1h,maximumSize=10000";
+
     @NotBlank
     private String token = ENTITY_CACHE_CONFIG;
 
     @NotBlank
     private String tokenType = "expireAfterAccess=24h,maximumSize=100000,recordStats";
+
+    @Data
+    public static class InvalidationProperties {
+
+        /**
+         * Whether to evict the keys modified by each record file from the entity, contract state and token caches as
+         * the importer notifies them. The cache expiry still applies if notifications are delayed or missed.
+         */
+        private boolean enabled = false;
+
+        @DurationMin(millis = 100L)
+        @NotNull
+        private Duration interval = Duration.ofSeconds(1L);
+    }
 }
@@ -0,0 +1,212 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Named;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import lombok.CustomLog;
+import org.hiero.mirror.common.converter.CacheInvalidationCodec;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Listens for the keys of the state modified by each record file that the importer notifies and evicts them from the
+ * caches of the latest state, so they don't serve stale values until they expire. Notifications sent while not
+ * listening are lost, so the caches are cleared whenever listening starts. The lag is the time since the consensus end
+ * of the last notified record file.
+ */
+@CustomLog
+@Named
+public class CacheInvalidationListener {
+
+    static final String CHANNEL = "cache_invalidation";
+    static final String METRIC = "hiero.mirror.web3.cache.invalidation";
+
+    private final Cache alias;
+    private final Cache contractState;
+    private final DataSource dataSource;
+    private final Cache entity;
+    private final Cache evmAddress;
+    private final Counter evictions;
+    private final AtomicLong lastConsensusEnd = new AtomicLong();
+    private final CacheProperties properties;
+    private final Cache token;
+    private final Cache tokenAccount;
+    private final Cache tokenAccountCount;
+    private volatile boolean listening;
+    private volatile boolean running;
+    private Thread thread;
+
+    public CacheInvalidationListener(
+            @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager contractStateCacheManager,
+            DataSource dataSource,
+            @Qualifier(CACHE_MANAGER_ENTITY) CacheManager entityCacheManager,
+            MeterRegistry meterRegistry,
+            CacheProperties properties,
+            @Qualifier(CACHE_MANAGER_TOKEN) CacheManager tokenCacheManager) {
+        this.alias = entityCacheManager.getCache(CACHE_NAME_ALIAS);
+        this.contractState = contractStateCacheManager.getCache(CACHE_NAME);
+        this.dataSource = dataSource;
+        this.entity = entityCacheManager.getCache(CACHE_NAME);
+        this.evmAddress = entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS);
+        this.properties = properties;
+        this.token = tokenCacheManager.getCache(CACHE_NAME_TOKEN);
+        this.tokenAccount = tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT);
+        this.tokenAccountCount = tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT);
+        this.evictions = Counter.builder(METRIC + ".evictions")
+                .description("The number of keys evicted from the caches by the importer's notifications")
+                .register(meterRegistry);
+        Gauge.builder(METRIC + ".lag", this, CacheInvalidationListener::getLag)
+                .description("The time since the consensus end of the last record file notified by the importer")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (properties.getInvalidation().isEnabled()) {
+            running = true;
+            thread = Thread.ofVirtual().name("cache-invalidation").start(this::listen);
+        }
+    }
+
+    // Waits for the listener to release its connection, which takes up to an interval
+    @PreDestroy
+    void stop() {
+        running = false;
+
+        if (thread != null) {
+            try {
+                thread.join(properties.getInvalidation().getInterval().multipliedBy(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    boolean isListening() {
+        return listening;
+    }
+
+    void onNotification(String payload) {
+        try {
+            var cacheInvalidation = CacheInvalidationCodec.decode(payload);
+            int count = 0;
+
+            for (long entityId : cacheInvalidation.entityIds()) {
+                entity.evict(entityId);
+                token.evict(entityId);
+                tokenAccountCount.evict(entityId);
+                count += 3;
+            }
+
+            for (var key : cacheInvalidation.aliases()) {
+                int hashCode = Arrays.hashCode(key);
+                alias.evict(hashCode);
+                evmAddress.evict(hashCode);
+                count += 2;
+            }
+
+            for (var slot : cacheInvalidation.slots()) {
+                contractState.evict(new SimpleKey(slot.contractId(), slot.slot()));
+                count++;
+            }
+
+            for (var key : cacheInvalidation.tokenAccounts()) {
+                var id = new AbstractTokenAccount.Id();
+                id.setAccountId(key.accountId());
+                id.setTokenId(key.tokenId());
+                tokenAccount.evict(id);
+                tokenAccountCount.evict(key.accountId());
+                count += 2;
+            }
+
+            evictions.increment(count);
+            lastConsensusEnd.accumulateAndGet(cacheInvalidation.consensusEnd(), Math::max);
+        } catch (Exception e) {
+            // A cache invalidation that can't be applied expires with the cache instead
+            log.warn("Unable to apply cache invalidation {}", payload, e);
+        }
+    }
+
+    private void listen() {
+        long interval = properties.getInvalidation().getInterval().toMillis();
+
+        while (running) {
+            try (var connection = dataSource.getConnection();
+                    var statement = connection.createStatement()) {
+                statement.execute("listen " + CHANNEL);
+                var pgConnection = connection.unwrap(PGConnection.class);
+                clear();
+                listening = true;
+                log.info("Listening for cache invalidations");
+
+                while (running) {
+                    var notifications = pgConnection.getNotifications((int) interval);
+                    if (notifications != null) {
+                        for (var notification : notifications) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+
+                // The connection goes back to the pool, where nothing would consume its notifications
+                listening = false;
+                statement.execute("unlisten " + CHANNEL);
+            } catch (Exception e) {
+                listening = false;
+                log.warn("Error listening for cache invalidations, retrying in {}ms", interval, e);
+                sleep(interval);
+            }
+        }
+
+        log.info("Stopped listening for cache invalidations");
+    }
+
+    private void clear() {
+        alias.clear();
+        contractState.clear();
+        entity.clear();
+        evmAddress.clear();
+        token.clear();
+        tokenAccount.clear();
+        tokenAccountCount.clear();
+    }
+
+    private double getLag() {
+        long consensusEnd = lastConsensusEnd.get();
+        return consensusEnd > 0 ? (DomainUtils.now() - consensusEnd) / 1_000_000_000.0 : 0.0;
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
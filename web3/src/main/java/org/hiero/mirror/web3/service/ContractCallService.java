@@ -15,6 +15,7 @@ import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import jakarta.inject.Named;
+import java.util.function.Function;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.web3.common.ContractCallContext;
@@ -24,6 +25,7 @@ import org.hiero.mirror.web3.evm.store.Store;
 import org.hiero.mirror.web3.exception.BlockNumberNotFoundException;
 import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.hiero.mirror.web3.viewmodel.BlockType;
 
@@ -45,6 +47,7 @@ public abstract class ContractCallService {
     private final RecordFileService recordFileService;
     private final ThrottleProperties throttleProperties;
     private final Bucket gasLimitBucket;
+    private final StoragePrefetcher storagePrefetcher;
     private final TransactionExecutionService transactionExecutionService;
 
     @SuppressWarnings("java:S107")
@@ -56,7 +59,8 @@ public abstract class ContractCallService {
             RecordFileService recordFileService,
             Store store,
             MirrorNodeEvmProperties mirrorNodeEvmProperties,
-            TransactionExecutionService transactionExecutionService) {
+            TransactionExecutionService transactionExecutionService,
+            StoragePrefetcher storagePrefetcher) {
         this.invocationCounter = Counter.builder(EVM_INVOCATION_METRIC)
                 .description("The number of EVM invocations")
                 .withRegistry(meterRegistry);
@@ -73,12 +77,27 @@ public abstract class ContractCallService {
         this.gasLimitBucket = gasLimitBucket;
         this.mirrorNodeEvmProperties = mirrorNodeEvmProperties;
         this.transactionExecutionService = transactionExecutionService;
+        this.storagePrefetcher = storagePrefetcher;
     }
 
     @VisibleForTesting
     public HederaEvmTransactionProcessingResult callContract(CallServiceParameters params)
             throws MirrorEvmTransactionException {
-        return ContractCallContext.run(context -> callContract(params, context));
+        return run(context -> callContract(params, context));
+    }
+
+    /**
+     * Runs the function within a new contract call context, learning the storage read by all of its executions once
+     * it completes.
+     */
+    protected final <T> T run(Function<ContractCallContext, T> function) {
+        return ContractCallContext.run(context -> {
+            try {
+                return function.apply(context);
+            } finally {
+                storagePrefetcher.complete(context);
+            }
+        });
     }
 
     /**
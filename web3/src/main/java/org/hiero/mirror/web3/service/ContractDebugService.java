@@ -11,7 +11,6 @@ import jakarta.inject.Named;
 import jakarta.validation.Valid;
 import java.util.Optional;
 import lombok.CustomLog;
-import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
 import org.hiero.mirror.web3.evm.contracts.execution.OpcodesProcessingResult;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
@@ -21,6 +20,7 @@ import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.repository.ContractActionRepository;
 import org.hiero.mirror.web3.service.model.CallServiceParameters;
 import org.hiero.mirror.web3.service.model.ContractDebugParameters;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -40,7 +40,8 @@ public class ContractDebugService extends ContractCallService {
             ThrottleProperties throttleProperties,
             MeterRegistry meterRegistry,
             MirrorNodeEvmProperties mirrorNodeEvmProperties,
-            TransactionExecutionService transactionExecutionService) {
+            TransactionExecutionService transactionExecutionService,
+            StoragePrefetcher storagePrefetcher) {
         super(
                 mirrorEvmTxProcessor,
                 gasLimitBucket,
@@ -49,13 +50,14 @@ public class ContractDebugService extends ContractCallService {
                 recordFileService,
                 store,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                storagePrefetcher);
         this.contractActionRepository = contractActionRepository;
     }
 
     public OpcodesProcessingResult processOpcodeCall(
             final @Valid ContractDebugParameters params, final OpcodeTracerOptions opcodeTracerOptions) {
-        return ContractCallContext.run(ctx -> {
+        return run(ctx -> {
             ctx.setTimestamp(Optional.of(params.getConsensusTimestamp() - 1));
             ctx.setOpcodeTracerOptions(opcodeTracerOptions);
             ctx.setContractActions(contractActionRepository.findFailedSystemActionsByConsensusTimestamp(
@@ -3,26 +3,39 @@
 package org.hiero.mirror.web3.service;
 
 import com.google.common.base.Stopwatch;
+import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.inject.Named;
 import java.util.Objects;
 import lombok.CustomLog;
 import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.contracts.execution.MirrorEvmTxProcessor;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.GasRequirement;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.evm.store.Store;
+import org.hiero.mirror.web3.exception.MirrorEvmTransactionException;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.service.utils.BinaryGasEstimator;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 
 @CustomLog
 @Named
 public class ContractExecutionService extends ContractCallService {
 
+    static final String GAS_ESTIMATE_METRIC = "hiero.mirror.web3.evm.gas.estimate";
+    static final String GAS_ESTIMATE_TRACE_METRIC = "hiero.mirror.web3.evm.gas.estimate.trace";
+
     private final BinaryGasEstimator binaryGasEstimator;
+    private final MeterProvider<Timer> gasEstimateTimer;
+    private final MeterProvider<Counter> gasEstimateTraceCounter;
 
     @SuppressWarnings("java:S107")
     public ContractExecutionService(
@@ -34,7 +47,8 @@ public class ContractExecutionService extends ContractCallService {
             ThrottleProperties throttleProperties,
             Bucket gasLimitBucket,
             MirrorNodeEvmProperties mirrorNodeEvmProperties,
-            TransactionExecutionService transactionExecutionService) {
+            TransactionExecutionService transactionExecutionService,
+            StoragePrefetcher storagePrefetcher) {
         super(
                 mirrorEvmTxProcessor,
                 gasLimitBucket,
@@ -43,12 +57,19 @@ public class ContractExecutionService extends ContractCallService {
                 recordFileService,
                 store,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                storagePrefetcher);
         this.binaryGasEstimator = binaryGasEstimator;
+        this.gasEstimateTimer = Timer.builder(GAS_ESTIMATE_METRIC)
+                .description("The time it took to estimate the gas of a call")
+                .withRegistry(meterRegistry);
+        this.gasEstimateTraceCounter = Counter.builder(GAS_ESTIMATE_TRACE_METRIC)
+                .description("The number of traced gas estimates that were confirmed or fell back to a search")
+                .withRegistry(meterRegistry);
     }
 
     public String processCall(final ContractExecutionParameters params) {
-        return ContractCallContext.run(ctx -> {
+        return run(ctx -> {
             var stopwatch = Stopwatch.createStarted();
             var stringResult = "";
 
@@ -57,7 +78,8 @@ public class ContractExecutionService extends ContractCallService {
 
                 Bytes result;
                 if (params.isEstimate()) {
-                    result = estimateGas(params, ctx);
+                    var tags = Tags.of("modularized", String.valueOf(params.isModularized()));
+                    result = gasEstimateTimer.withTags(tags).record(() -> estimateGas(params, ctx));
                 } else {
                     final var ethCallTxnResult = callContract(params, ctx);
                     result = Objects.requireNonNullElse(ethCallTxnResult.getOutput(), Bytes.EMPTY);
@@ -82,10 +104,19 @@ public class ContractExecutionService extends ContractCallService {
      * <p>
      * 2. Finally, if the first step is successful, a binary search is initiated. The lower bound of the search is the
      * gas used in the first step, while the upper bound is the inputted gas parameter.
+     * <p>
+     * If enabled for modularized calls, the gas requirement of the first step is traced and a single call with it
+     * confirms it's enough gas, falling back to the binary search otherwise.
      */
     private Bytes estimateGas(final ContractExecutionParameters params, final ContractCallContext context) {
+        if (params.isModularized() && mirrorNodeEvmProperties.isEstimateGasFromTrace()) {
+            context.setGasRequirement(new GasRequirement());
+        }
+
         final var processingResult = callContract(params, context);
         final var gasUsedByInitialCall = processingResult.getGasUsed();
+        final var gasRequirement = context.getGasRequirement();
+        context.setGasRequirement(null);
 
         // sanity check ensuring gasUsed is always lower than the inputted one
         if (gasUsedByInitialCall >= params.getGas()) {
@@ -93,6 +124,17 @@ public class ContractExecutionService extends ContractCallService {
         }
 
         final var status = ResponseCodeEnum.SUCCESS.toString();
+
+        if (gasRequirement != null) {
+            var estimate = gasRequirement.estimate(params.getGas());
+            if (estimate.isPresent()) {
+                long tracedGas = Math.max(estimate.getAsLong(), gasUsedByInitialCall);
+                if (confirmEstimate(params, context, tracedGas, status)) {
+                    return Bytes.ofUnsignedLong(tracedGas);
+                }
+            }
+        }
+
         final var estimatedGas = binaryGasEstimator.search(
                 (totalGas, iterations) -> updateMetrics(params, totalGas, iterations, status),
                 gas -> doProcessCall(params, gas, true),
@@ -102,4 +144,30 @@ public class ContractExecutionService extends ContractCallService {
 
         return Bytes.ofUnsignedLong(estimatedGas);
     }
+
+    private boolean confirmEstimate(
+            final ContractExecutionParameters params,
+            final ContractCallContext context,
+            final long estimatedGas,
+            final String status) {
+        context.reset();
+        HederaEvmTransactionProcessingResult result;
+
+        try {
+            result = doProcessCall(params, estimatedGas, true);
+        } catch (MirrorEvmTransactionException e) {
+            result = null;
+        }
+
+        boolean confirmed = result != null && result.isSuccessful() && result.getGasUsed() >= 0;
+        gasEstimateTraceCounter
+                .withTags(Tags.of("result", confirmed ? "confirmed" : "fallback"))
+                .increment();
+
+        if (confirmed) {
+            updateMetrics(params, result.getGasUsed(), 1, status);
+        }
+
+        return confirmed;
+    }
 }
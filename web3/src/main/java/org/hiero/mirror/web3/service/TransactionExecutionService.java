@@ -33,6 +33,7 @@ import org.apache.tuweni.bytes.Bytes;
 import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.GasRequirementTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.MirrorOperationTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracer;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
@@ -56,6 +57,7 @@ public class TransactionExecutionService {
     private final AccountReadableKVState accountReadableKVState;
     private final AliasesReadableKVState aliasesReadableKVState;
     private final CommonProperties commonProperties;
+    private final GasRequirementTracer gasRequirementTracer;
     private final MirrorNodeEvmProperties mirrorNodeEvmProperties;
     private final OpcodeTracer opcodeTracer;
     private final MirrorOperationTracer mirrorOperationTracer;
@@ -236,8 +238,14 @@ public class TransactionExecutionService {
     }
 
     private OperationTracer[] getOperationTracers() {
-        return ContractCallContext.get().getOpcodeTracerOptions() != null
-                ? new OperationTracer[] {opcodeTracer}
-                : new OperationTracer[] {mirrorOperationTracer};
+        var context = ContractCallContext.get();
+
+        if (context.getOpcodeTracerOptions() != null) {
+            return new OperationTracer[] {opcodeTracer};
+        } else if (context.getGasRequirement() != null) {
+            return new OperationTracer[] {mirrorOperationTracer, gasRequirementTracer};
+        }
+
+        return new OperationTracer[] {mirrorOperationTracer};
     }
 }
@@ -2,20 +2,67 @@
 
 package org.hiero.mirror.web3.service.utils;
 
+import static org.hiero.mirror.web3.config.ThrottleConfiguration.GAS_LIMIT_BUCKET;
+
+import com.google.common.util.concurrent.Futures;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.LongFunction;
 import java.util.function.ObjIntConsumer;
 import lombok.CustomLog;
-import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.throttle.ThrottleProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 @CustomLog
-@RequiredArgsConstructor
 @Named
 public class BinaryGasEstimator {
+
+    static final String PROBES_METRIC = "hiero.mirror.web3.evm.gas.estimate.probes";
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Bucket gasLimitBucket;
+    private final Counter probesLaunched;
+    private final Counter probesWasted;
     private final MirrorNodeEvmProperties properties;
+    private final ThrottleProperties throttleProperties;
+
+    public BinaryGasEstimator(
+            @Qualifier(GAS_LIMIT_BUCKET) Bucket gasLimitBucket,
+            MeterRegistry meterRegistry,
+            MirrorNodeEvmProperties properties,
+            ThrottleProperties throttleProperties) {
+        this.gasLimitBucket = gasLimitBucket;
+        this.properties = properties;
+        this.throttleProperties = throttleProperties;
+        this.probesLaunched = Counter.builder(PROBES_METRIC)
+                .description("The number of executions launched by the gas estimate search")
+                .tag("type", "launched")
+                .register(meterRegistry);
+        this.probesWasted = Counter.builder(PROBES_METRIC)
+                .description("The number of executions launched by the gas estimate search")
+                .tag("type", "wasted")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void close() {
+        executor.close();
+    }
 
     public long search(
             final ObjIntConsumer<Long> metricUpdater,
@@ -23,10 +70,6 @@ public class BinaryGasEstimator {
             long lo,
             long hi,
             final boolean isModularized) {
-        long prevGasLimit = lo;
-        int iterationsMade = 0;
-        long totalGasUsed = 0;
-
         // Now that we also support gas estimates for precompile calls, the default threshold is too low, since
         // it does not take into account the minimum threshold of 5% higher estimate than the actual gas used.
         // The default value is working with some calls but that is not the case for precompile calls which have higher
@@ -34,37 +77,125 @@ public class BinaryGasEstimator {
         // Configurable tolerance of 10% over 5% is used, since the algorithm fails when using 5%, producing too narrow
         // threshold. Adjust via estimateGasIterationThresholdPercent value.
         final long estimateIterationThreshold = (long) (lo * properties.getEstimateGasIterationThresholdPercent());
+        final var search = new Search(lo, hi, estimateIterationThreshold, properties.getMaxGasEstimateRetriesCount());
 
+        // The stacked state frames used by the non-modularized calls can't be shared across threads
+        if (isModularized && properties.getEstimateGasSearchDepth() > 1) {
+            searchConcurrently(search, call);
+        } else {
+            searchSequentially(search, call, isModularized);
+        }
+
+        metricUpdater.accept(search.totalGasUsed, search.iterations);
+        return search.hi;
+    }
+
+    private void searchSequentially(
+            Search search, LongFunction<HederaEvmTransactionProcessingResult> call, boolean isModularized) {
         ContractCallContext contractCallContext = ContractCallContext.get();
-        while (lo + 1 < hi && iterationsMade < properties.getMaxGasEstimateRetriesCount()) {
-            contractCallContext.reset();
 
-            long mid = (hi + lo) / 2;
+        while (search.hasNext()) {
+            contractCallContext.reset();
+            long mid = search.mid();
 
             // If modularizedServices is true - we call the safeCall function that handles if an exception is thrown
-            HederaEvmTransactionProcessingResult transactionResult =
-                    isModularized ? safeCall(mid, call) : call.apply(mid);
+            search.next(isModularized ? safeCall(mid, call) : call.apply(mid));
+        }
 
-            iterationsMade++;
+        probesLaunched.increment(search.iterations);
+    }
 
-            boolean err = transactionResult == null
-                    || !transactionResult.isSuccessful()
-                    || transactionResult.getGasUsed() < 0;
-            long gasUsed = err ? prevGasLimit : transactionResult.getGasUsed();
-            totalGasUsed += gasUsed;
-            if (err || gasUsed == 0) {
-                lo = mid;
-            } else {
-                hi = mid;
-                if (Math.abs(prevGasLimit - mid) < estimateIterationThreshold) {
-                    lo = hi;
+    /**
+     * Speculatively executes the gas limits of the next levels of the binary search concurrently, then replays the
+     * sequential search using their results. Each execution runs in its own forked context so the executions share the
+     * state already read but not each other's writes. Since an execution's result only depends on its gas limit, the
+     * estimate is the same as the sequential search while taking up to depth fewer rounds of executions.
+     * <p>
+     * The speculative executions are charged against the gas limit bucket when launched and only launched while it has
+     * enough gas left. The charge of the ones the sequential search would have executed is refunded once they're used,
+     * so only the wasted executions cost more gas than the sequential search.
+     */
+    private void searchConcurrently(Search search, LongFunction<HederaEvmTransactionProcessingResult> call) {
+        var contractCallContext = ContractCallContext.get();
+        int depth = properties.getEstimateGasSearchDepth();
+        Map<Long, HederaEvmTransactionProcessingResult> results = new HashMap<>();
+        Set<Long> charged = new HashSet<>();
+        int launched = 0;
+
+        while (search.hasNext()) {
+            var mids = new LinkedHashSet<Long>();
+            collectMids(search, depth, mids);
+            mids.removeAll(results.keySet());
+            charge(search.mid(), mids, charged);
+
+            var futures = new ArrayList<Future<HederaEvmTransactionProcessingResult>>();
+            for (long mid : mids) {
+                futures.add(executor.submit(() -> contractCallContext.fork(() -> safeCall(mid, call))));
+            }
+
+            try {
+                int index = 0;
+                for (long mid : mids) {
+                    results.put(mid, Futures.getUnchecked(futures.get(index++)));
                 }
+            } finally {
+                // Stops the other executions if one of them failed
+                futures.forEach(f -> f.cancel(true));
             }
-            prevGasLimit = mid;
+
+            launched += mids.size();
+
+            while (search.hasNext() && results.containsKey(search.mid())) {
+                long mid = search.mid();
+                if (charged.remove(mid)) {
+                    refund(mid);
+                }
+                search.next(results.get(mid));
+            }
+        }
+
+        probesLaunched.increment(launched);
+        probesWasted.increment(launched - search.iterations);
+    }
+
+    // Charges the speculative gas limits, skipping the ones the gas limit bucket doesn't have enough gas left for
+    private void charge(long next, Set<Long> mids, Set<Long> charged) {
+        for (var iterator = mids.iterator(); iterator.hasNext(); ) {
+            long mid = iterator.next();
+            long tokens = toTokens(mid);
+
+            if (mid == next) {
+                continue;
+            }
+
+            if (tokens <= 0 || gasLimitBucket.tryConsume(tokens)) {
+                charged.add(mid);
+            } else {
+                iterator.remove();
+            }
+        }
+    }
+
+    private void refund(long gasLimit) {
+        long tokens = toTokens(gasLimit);
+        if (tokens > 0) {
+            gasLimitBucket.addTokens(tokens);
+        }
+    }
+
+    private long toTokens(long gasLimit) {
+        return Math.floorDiv(gasLimit, throttleProperties.getGasUnit());
+    }
+
+    // Collects the gas limits the sequential search could execute within the given number of iterations
+    private void collectMids(Search search, int depth, Set<Long> mids) {
+        if (depth == 0 || !search.hasNext()) {
+            return;
         }
 
-        metricUpdater.accept(totalGasUsed, iterationsMade);
-        return hi;
+        mids.add(search.mid());
+        collectMids(search.branch(false), depth - 1, mids);
+        collectMids(search.branch(true), depth - 1, mids);
     }
 
     // This method is needed because within the modularized services if the contract call fails an exception is thrown
@@ -79,4 +210,65 @@ public class BinaryGasEstimator {
             return null;
         }
     }
+
+    private static final class Search {
+
+        private final long estimateIterationThreshold;
+        private final int maxIterations;
+        private long hi;
+        private int iterations;
+        private long lo;
+        private long prevGasLimit;
+        private long totalGasUsed;
+
+        private Search(long lo, long hi, long estimateIterationThreshold, int maxIterations) {
+            this.estimateIterationThreshold = estimateIterationThreshold;
+            this.maxIterations = maxIterations;
+            this.hi = hi;
+            this.lo = lo;
+            this.prevGasLimit = lo;
+        }
+
+        private boolean hasNext() {
+            return lo + 1 < hi && iterations < maxIterations;
+        }
+
+        private long mid() {
+            return (hi + lo) / 2;
+        }
+
+        private void next(HederaEvmTransactionProcessingResult transactionResult) {
+            boolean err = transactionResult == null
+                    || !transactionResult.isSuccessful()
+                    || transactionResult.getGasUsed() < 0;
+            long gasUsed = err ? prevGasLimit : transactionResult.getGasUsed();
+            totalGasUsed += gasUsed;
+            advance(!err && gasUsed != 0);
+        }
+
+        // Returns a copy of the search after the next execution succeeds or fails
+        private Search branch(boolean success) {
+            var search = new Search(lo, hi, estimateIterationThreshold, maxIterations);
+            search.iterations = iterations;
+            search.prevGasLimit = prevGasLimit;
+            search.advance(success);
+            return search;
+        }
+
+        private void advance(boolean success) {
+            long mid = mid();
+            iterations++;
+
+            if (success) {
+                hi = mid;
+                if (Math.abs(prevGasLimit - mid) < estimateIterationThreshold) {
+                    lo = hi;
+                }
+            } else {
+                lo = mid;
+            }
+
+            prevGasLimit = mid;
+        }
+    }
 }
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_HISTORICAL_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+
+import com.hedera.hapi.node.state.contract.Bytecode;
+import jakarta.inject.Named;
+import java.util.function.Function;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * Caches the state read from the database by historical calls across requests. The state at a past timestamp can never
+ * change, so it's keyed by the state key, the key and the historical timestamp and only evicted by its estimated size or
+ * expiry. Calls against the latest state are always read from the database.
+ * <p>
+ * The importer's parallel flush can commit a record file shortly before the rest of its state, so the state within the
+ * latest record file isn't final yet and isn't cached. A newer record file is only committed once the state of the
+ * previous one is, so the state before the latest record file is. Values are loaded outside the cache's lock since a
+ * loader can read other state through the cache.
+ */
+@Named
+public class HistoricalStateCache {
+
+    static final int ENTRY_WEIGHT = 256;
+
+    private final Cache cache;
+    private final RecordFileRepository recordFileRepository;
+
+    public HistoricalStateCache(
+            @Qualifier(CACHE_MANAGER_HISTORICAL_STATE) CacheManager cacheManager,
+            RecordFileRepository recordFileRepository) {
+        this.cache = cacheManager.getCache(CACHE_NAME);
+        this.recordFileRepository = recordFileRepository;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(String stateKey, K key, Function<K, V> loader) {
+        var timestamp = ContractCallContext.get().getTimestamp();
+
+        if (timestamp.isEmpty()) {
+            return loader.apply(key);
+        }
+
+        var historicalKey = new HistoricalKey(stateKey, key, timestamp.get());
+        var cached = cache.get(historicalKey);
+
+        if (cached != null) {
+            return (V) cached.get();
+        }
+
+        var value = loader.apply(key);
+        put(historicalKey, value);
+        return value;
+    }
+
+    /**
+     * Checks whether the value of the key is cached for the historical timestamp of the current call.
+     */
+    public boolean contains(String stateKey, Object key) {
+        var timestamp = ContractCallContext.get().getTimestamp();
+        return timestamp.isPresent() && cache.get(new HistoricalKey(stateKey, key, timestamp.get())) != null;
+    }
+
+    /**
+     * Caches a value read by a historical call, ignoring it if the current call is against the latest state.
+     */
+    public void put(String stateKey, Object key, Object value) {
+        ContractCallContext.get()
+                .getTimestamp()
+                .ifPresent(t -> put(new HistoricalKey(stateKey, key, t), value));
+    }
+
+    // Estimates the bytes an entry occupies, where the bytecode is the only value whose size varies significantly
+    public static int weigh(Object key, Object value) {
+        if (value instanceof Bytecode bytecode) {
+            return ENTRY_WEIGHT + (int) bytecode.code().length();
+        }
+
+        return ENTRY_WEIGHT;
+    }
+
+    private void put(HistoricalKey historicalKey, Object value) {
+        long latestStart = recordFileRepository
+                .findLatest()
+                .map(RecordFile::getConsensusStart)
+                .orElse(Long.MIN_VALUE);
+
+        if (historicalKey.timestamp() < latestStart) {
+            cache.put(historicalKey, value);
+        }
+    }
+
+    private record HistoricalKey(String stateKey, Object key, long timestamp) {}
+}
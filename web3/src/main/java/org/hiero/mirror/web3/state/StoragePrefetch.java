@@ -0,0 +1,87 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The storage slots read by a call and the values prefetched for it. It's shared with the contexts forked to execute
+ * concurrently, so it's thread safe.
+ */
+public class StoragePrefetch {
+
+    private final Map<Long, Set<Bytes>> accessed = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger prefetched = new AtomicInteger();
+    private final Map<SlotKey, Optional<SlotValue>> prefetchedValues = new ConcurrentHashMap<>();
+    private final AtomicInteger queries = new AtomicInteger();
+
+    /**
+     * Records the read of a slot from a contract.
+     *
+     * @return whether it's the first slot read from the contract
+     */
+    boolean access(long contractId, Bytes slot) {
+        var slots = accessed.get(contractId);
+        boolean first = false;
+
+        if (slots == null) {
+            var newSlots = ConcurrentHashMap.<Bytes>newKeySet();
+            slots = accessed.computeIfAbsent(contractId, k -> newSlots);
+            first = slots == newSlots;
+        }
+
+        slots.add(slot);
+        return first;
+    }
+
+    Map<Long, Set<Bytes>> getAccessed() {
+        return accessed;
+    }
+
+    int getAccessedCount() {
+        return accessed.values().stream().mapToInt(Set::size).sum();
+    }
+
+    int getHits() {
+        return hits.get();
+    }
+
+    int getPrefetched() {
+        return prefetched.get();
+    }
+
+    int getQueries() {
+        return queries.get();
+    }
+
+    void incrementQueries() {
+        queries.incrementAndGet();
+    }
+
+    void stage(SlotKey slotKey, Optional<SlotValue> value) {
+        if (prefetchedValues.putIfAbsent(slotKey, value) == null) {
+            prefetched.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes the prefetched value of a slot, which is null if it wasn't prefetched and empty if the slot doesn't
+     * exist.
+     */
+    @SuppressWarnings("java:S2789")
+    Optional<SlotValue> take(SlotKey slotKey) {
+        var value = prefetchedValues.remove(slotKey);
+        if (value != null) {
+            hits.incrementAndGet();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,220 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.hiero.mirror.common.util.DomainUtils.leftPadBytes;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.state.keyvalue.ContractStorageReadableKVState.KEY;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.inject.Named;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.tuweni.bytes.Bytes32;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.repository.projections.ContractSlotValue;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+/**
+ * Prefetches the storage slots a call is predicted to read from a contract in a single query on the first read from the
+ * contract, instead of querying each slot as it's read. The prediction is the set of slots read from the contract by
+ * the last call to the same function, identified by the selector of the call data. The prefetched values are staged in
+ * the call's context and only served when read, so a wrong prediction costs a larger query but never a wrong value.
+ * Historical calls read the slots through the historical state cache and calls against the latest state through the
+ * contract state cache of {@link ContractStateRepository#findStorage}, skipping the cached ones when prefetching.
+ */
+@Named
+public class StoragePrefetcher {
+
+    static final String METRIC = "hiero.mirror.web3.evm.storage";
+
+    private final org.springframework.cache.Cache contractStateCache;
+    private final ContractStateRepository contractStateRepository;
+    private final MirrorNodeEvmProperties evmProperties;
+    private final HistoricalStateCache historicalStateCache;
+    private final Cache<PredictionKey, List<Bytes>> predictions;
+    private final DistributionSummary queriesSummary;
+    private final MeterProvider<Counter> slotsCounter;
+
+    public StoragePrefetcher(
+            CacheProperties cacheProperties,
+            @Qualifier(CACHE_MANAGER_CONTRACT_STATE) CacheManager contractStateCacheManager,
+            ContractStateRepository contractStateRepository,
+            MirrorNodeEvmProperties evmProperties,
+            HistoricalStateCache historicalStateCache,
+            MeterRegistry meterRegistry) {
+        this.contractStateCache = contractStateCacheManager.getCache(CACHE_NAME);
+        this.contractStateRepository = contractStateRepository;
+        this.evmProperties = evmProperties;
+        this.historicalStateCache = historicalStateCache;
+        this.predictions = Caffeine.from(cacheProperties.getStoragePrefetch()).build();
+        this.queriesSummary = DistributionSummary.builder(METRIC + ".queries")
+                .description("The number of storage queries executed by a call")
+                .baseUnit("queries")
+                .register(meterRegistry);
+        this.slotsCounter = Counter.builder(METRIC + ".prefetch")
+                .description("The number of storage slots read, prefetched and read after being prefetched by calls")
+                .withRegistry(meterRegistry);
+    }
+
+    /**
+     * Gets the value of a slot from the values prefetched for the call, prefetching the predicted slots of the contract
+     * if it's the first slot read from it, or from the historical state cache or the loader otherwise.
+     */
+    @SuppressWarnings("java:S2789")
+    public SlotValue get(long contractId, SlotKey slotKey, Supplier<SlotValue> loader) {
+        var context = ContractCallContext.get();
+        var storagePrefetch = context.getStoragePrefetch();
+        boolean firstAccess = storagePrefetch.access(contractId, slotKey.key());
+
+        if (evmProperties.isStoragePrefetch()) {
+            var value = firstAccess ? prefetch(context, contractId, slotKey) : storagePrefetch.take(slotKey);
+            if (value != null) {
+                return value.orElse(null);
+            }
+        }
+
+        return historicalStateCache.get(KEY, slotKey, k -> {
+            storagePrefetch.incrementQueries();
+            return loader.get();
+        });
+    }
+
+    /**
+     * Records the metrics of the call and learns the slots it read from each contract to predict the next calls to the
+     * same function.
+     */
+    public void complete(ContractCallContext context) {
+        var storagePrefetch = context.getStoragePrefetch();
+        var accessed = storagePrefetch.getAccessed();
+
+        if (accessed.isEmpty()) {
+            return;
+        }
+
+        queriesSummary.record(storagePrefetch.getQueries());
+
+        if (!evmProperties.isStoragePrefetch()) {
+            return;
+        }
+
+        slotsCounter.withTag("type", "accessed").increment(storagePrefetch.getAccessedCount());
+        slotsCounter.withTag("type", "hit").increment(storagePrefetch.getHits());
+        slotsCounter.withTag("type", "prefetched").increment(storagePrefetch.getPrefetched());
+
+        int selector = getSelector(context);
+        int maxSlots = evmProperties.getStoragePrefetchMaxSlots();
+        accessed.forEach((contractId, slots) -> predictions.put(
+                new PredictionKey(contractId, selector),
+                slots.stream().limit(maxSlots).toList()));
+    }
+
+    /**
+     * Reads the slot together with the slots predicted to be read from the contract, staging the values of the
+     * predicted slots in the call's storage prefetch. The slots already in the historical or contract state cache
+     * aren't read and the values read are added to the cache of the call's state.
+     *
+     * @return the value of the slot or null if nothing is predicted for the contract or the slot is cached
+     */
+    @SuppressWarnings("java:S2789")
+    private Optional<SlotValue> prefetch(ContractCallContext context, long contractId, SlotKey slotKey) {
+        var predicted = predictions.getIfPresent(new PredictionKey(contractId, getSelector(context)));
+
+        if (predicted == null || predicted.isEmpty()) {
+            return null;
+        }
+
+        var timestamp = context.getTimestamp();
+        boolean historical = timestamp.isPresent();
+        var keys = new ArrayList<SlotKey>(predicted.size() + 1);
+        boolean cached = isCached(contractId, slotKey, historical);
+        if (!cached) {
+            keys.add(slotKey);
+        }
+
+        for (var slot : predicted) {
+            var key = new SlotKey(slotKey.contractID(), slot);
+            if (!slot.equals(slotKey.key()) && !isCached(contractId, key, historical)) {
+                keys.add(key);
+            }
+        }
+
+        if (keys.isEmpty()) {
+            return null;
+        }
+
+        var slots = keys.stream().map(k -> toSlot(k.key(), historical)).toArray(byte[][]::new);
+        var storagePrefetch = context.getStoragePrefetch();
+        storagePrefetch.incrementQueries();
+        var values = new HashMap<Bytes, byte[]>();
+        var results = timestamp
+                .map(t -> contractStateRepository.findAllStorageByBlockTimestamp(contractId, slots, t))
+                .orElseGet(() -> contractStateRepository.findAllStorage(contractId, slots));
+
+        for (ContractSlotValue result : results) {
+            if (result.getValue() != null) {
+                values.put(Bytes.wrap(leftPadBytes(result.getSlot(), Bytes32.SIZE)), result.getValue());
+            }
+        }
+
+        SlotValue slotValue = null;
+        for (var key : keys) {
+            var bytes = values.get(key.key());
+            var value = bytes != null
+                    ? new SlotValue(Bytes.wrap(leftPadBytes(bytes, Bytes32.SIZE)), Bytes.EMPTY, Bytes.EMPTY)
+                    : null;
+
+            if (historical) {
+                historicalStateCache.put(KEY, key, value);
+            } else {
+                // Cached like the values returned by findStorage, which caches a missing slot as null
+                contractStateCache.put(new SimpleKey(contractId, key.key().toByteArray()), bytes);
+            }
+
+            if (key.equals(slotKey)) {
+                slotValue = value;
+            } else {
+                storagePrefetch.stage(key, Optional.ofNullable(value));
+            }
+        }
+
+        return cached ? null : Optional.ofNullable(slotValue);
+    }
+
+    private boolean isCached(long contractId, SlotKey key, boolean historical) {
+        return historical
+                ? historicalStateCache.contains(KEY, key)
+                : contractStateCache.get(new SimpleKey(contractId, key.key().toByteArray())) != null;
+    }
+
+    // The historical storage is stored without the leading zeros of the slot
+    private byte[] toSlot(Bytes slot, boolean historical) {
+        var bytes = slot.toByteArray();
+        return historical ? Bytes32.wrap(bytes).trimLeadingZeros().toArrayUnsafe() : bytes;
+    }
+
+    private int getSelector(ContractCallContext context) {
+        var params = context.getCallServiceParameters();
+        var callData = params != null ? params.getCallData() : null;
+        return callData != null && callData.size() >= 4 ? callData.getInt(0) : 0;
+    }
+
+    private record PredictionKey(long contractId, int selector) {}
+}
@@ -19,6 +19,7 @@ import org.hiero.mirror.web3.repository.TokenAccountRepository;
 import org.hiero.mirror.web3.repository.TokenAllowanceRepository;
 import org.hiero.mirror.web3.state.AliasedAccountCacheManager;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 
 /**
  * This class serves as a repository layer between hedera app services read only state and the Postgres database in mirror-node
@@ -32,6 +33,7 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
 
     private final CommonEntityAccessor commonEntityAccessor;
     private final AliasedAccountCacheManager aliasedAccountCacheManager;
+    private final HistoricalStateCache historicalStateCache;
 
     public AccountReadableKVState(
             @Nonnull CommonEntityAccessor commonEntityAccessor,
@@ -43,7 +45,8 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
             @Nonnull TokenAccountRepository tokenAccountRepository,
             @Nonnull AccountBalanceRepository accountBalanceRepository,
             @Nonnull MirrorNodeEvmProperties mirrorNodeEvmProperties,
-            @Nonnull AliasedAccountCacheManager aliasedAccountCacheManager) {
+            @Nonnull AliasedAccountCacheManager aliasedAccountCacheManager,
+            @Nonnull HistoricalStateCache historicalStateCache) {
         super(
                 KEY,
                 accountBalanceRepository,
@@ -56,22 +59,25 @@ public class AccountReadableKVState extends AbstractAliasedAccountReadableKVStat
                 mirrorNodeEvmProperties);
         this.commonEntityAccessor = commonEntityAccessor;
         this.aliasedAccountCacheManager = aliasedAccountCacheManager;
+        this.historicalStateCache = historicalStateCache;
     }
 
     @Override
     protected Account readFromDataSource(@Nonnull AccountID key) {
+        final var account = historicalStateCache.get(KEY, key, this::findAccount);
+        // Associate the account alias with this entity in the cache, if any.
+        if (account != null && account.alias().length() > 0) {
+            aliasedAccountCacheManager.putAccountAlias(account.alias(), key);
+        }
+        return account;
+    }
+
+    private Account findAccount(AccountID key) {
         final var timestamp = ContractCallContext.get().getTimestamp();
         return commonEntityAccessor
                 .get(key, timestamp)
                 .filter(entity -> entity.getType() != TOKEN)
-                .map(entity -> {
-                    final var account = accountFromEntity(entity, timestamp);
-                    // Associate the account alias with this entity in the cache, if any.
-                    if (account.alias().length() > 0) {
-                        aliasedAccountCacheManager.putAccountAlias(account.alias(), key);
-                    }
-                    return account;
-                })
+                .map(entity -> accountFromEntity(entity, timestamp))
                 .orElse(null);
     }
 }
@@ -16,6 +16,7 @@ import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.common.util.DomainUtils;
 import org.hiero.mirror.web3.repository.ContractRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 
 @Named
 public class ContractBytecodeReadableKVState extends AbstractReadableKVState<ContractID, Bytecode> {
@@ -25,15 +26,24 @@ public class ContractBytecodeReadableKVState extends AbstractReadableKVState<Con
 
     private final CommonEntityAccessor commonEntityAccessor;
 
+    private final HistoricalStateCache historicalStateCache;
+
     protected ContractBytecodeReadableKVState(
-            final ContractRepository contractRepository, CommonEntityAccessor commonEntityAccessor) {
+            final ContractRepository contractRepository,
+            CommonEntityAccessor commonEntityAccessor,
+            HistoricalStateCache historicalStateCache) {
         super(KEY);
         this.contractRepository = contractRepository;
         this.commonEntityAccessor = commonEntityAccessor;
+        this.historicalStateCache = historicalStateCache;
     }
 
     @Override
     protected Bytecode readFromDataSource(@Nonnull ContractID contractID) {
+        return historicalStateCache.get(KEY, contractID, this::findBytecode);
+    }
+
+    private Bytecode findBytecode(ContractID contractID) {
         final var entityId = toEntityId(contractID);
 
         return contractRepository
@@ -13,16 +13,20 @@ import jakarta.inject.Named;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 
 @Named
 public class ContractStorageReadableKVState extends AbstractReadableKVState<SlotKey, SlotValue> {
 
     public static final String KEY = "STORAGE";
     private final ContractStateRepository contractStateRepository;
+    private final StoragePrefetcher storagePrefetcher;
 
-    protected ContractStorageReadableKVState(final ContractStateRepository contractStateRepository) {
+    protected ContractStorageReadableKVState(
+            final ContractStateRepository contractStateRepository, final StoragePrefetcher storagePrefetcher) {
         super(KEY);
         this.contractStateRepository = contractStateRepository;
+        this.storagePrefetcher = storagePrefetcher;
     }
 
     @Override
@@ -31,14 +35,18 @@ public class ContractStorageReadableKVState extends AbstractReadableKVState<Slot
             return null;
         }
 
+        // The prefetcher also looks up the historical state cache so it learns the slots read from the cache too
+        final var entityId = EntityIdUtils.entityIdFromContractId(slotKey.contractID()).getId();
+        return storagePrefetcher.get(entityId, slotKey, () -> readStorage(entityId, slotKey));
+    }
+
+    private SlotValue readStorage(long entityId, SlotKey slotKey) {
         final var timestamp = ContractCallContext.get().getTimestamp();
-        final var contractID = slotKey.contractID();
-        final var entityId = EntityIdUtils.entityIdFromContractId(contractID).getId();
         final var keyBytes = slotKey.key().toByteArray();
         return timestamp
                 .map(t -> contractStateRepository.findStorageByBlockTimestamp(
                         entityId, Bytes32.wrap(keyBytes).trimLeadingZeros().toArrayUnsafe(), t))
-                .orElse(contractStateRepository.findStorage(entityId, keyBytes))
+                .orElseGet(() -> contractStateRepository.findStorage(entityId, keyBytes))
                 .map(byteArr ->
                         new SlotValue(Bytes.wrap(leftPadBytes(byteArr, Bytes32.SIZE)), Bytes.EMPTY, Bytes.EMPTY))
                 .orElse(null);
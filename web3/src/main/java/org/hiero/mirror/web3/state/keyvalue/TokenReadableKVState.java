@@ -39,6 +39,7 @@ import org.hiero.mirror.web3.repository.EntityRepository;
 import org.hiero.mirror.web3.repository.NftRepository;
 import org.hiero.mirror.web3.repository.TokenRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.hiero.mirror.web3.state.Utils;
 import org.hiero.mirror.web3.utils.Suppliers;
 import org.springframework.util.CollectionUtils;
@@ -54,6 +55,7 @@ public class TokenReadableKVState extends AbstractReadableKVState<TokenID, Token
     private final EntityRepository entityRepository;
     private final NftRepository nftRepository;
     private final SystemEntity systemEntity;
+    private final HistoricalStateCache historicalStateCache;
 
     protected TokenReadableKVState(
             final CommonEntityAccessor commonEntityAccessor,
@@ -61,7 +63,8 @@ public class TokenReadableKVState extends AbstractReadableKVState<TokenID, Token
             final TokenRepository tokenRepository,
             final EntityRepository entityRepository,
             final NftRepository nftRepository,
-            final SystemEntity systemEntity) {
+            final SystemEntity systemEntity,
+            final HistoricalStateCache historicalStateCache) {
         super(KEY);
         this.commonEntityAccessor = commonEntityAccessor;
         this.customFeeRepository = customFeeRepository;
@@ -69,10 +72,15 @@ public class TokenReadableKVState extends AbstractReadableKVState<TokenID, Token
         this.entityRepository = entityRepository;
         this.nftRepository = nftRepository;
         this.systemEntity = systemEntity;
+        this.historicalStateCache = historicalStateCache;
     }
 
     @Override
     protected Token readFromDataSource(@Nonnull TokenID key) {
+        return historicalStateCache.get(KEY, key, this::findToken);
+    }
+
+    private Token findToken(TokenID key) {
         final var timestamp = ContractCallContext.get().getTimestamp();
         final var entity = commonEntityAccessor.get(key, timestamp).orElse(null);
 
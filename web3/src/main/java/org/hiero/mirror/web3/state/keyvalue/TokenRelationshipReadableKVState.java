@@ -23,6 +23,7 @@ import org.hiero.mirror.web3.repository.NftRepository;
 import org.hiero.mirror.web3.repository.TokenAccountRepository;
 import org.hiero.mirror.web3.repository.TokenBalanceRepository;
 import org.hiero.mirror.web3.repository.TokenRepository;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.hiero.mirror.web3.utils.Suppliers;
 
 @SuppressWarnings("deprecation")
@@ -36,19 +37,22 @@ public class TokenRelationshipReadableKVState extends AbstractReadableKVState<En
     private final TokenAccountRepository tokenAccountRepository;
     private final TokenBalanceRepository tokenBalanceRepository;
     private final TokenRepository tokenRepository;
+    private final HistoricalStateCache historicalStateCache;
 
     protected TokenRelationshipReadableKVState(
             final NftRepository nftRepository,
             final SystemEntity systemEntity,
             final TokenAccountRepository tokenAccountRepository,
             final TokenBalanceRepository tokenBalanceRepository,
-            final TokenRepository tokenRepository) {
+            final TokenRepository tokenRepository,
+            final HistoricalStateCache historicalStateCache) {
         super(KEY);
         this.nftRepository = nftRepository;
         this.systemEntity = systemEntity;
         this.tokenAccountRepository = tokenAccountRepository;
         this.tokenBalanceRepository = tokenBalanceRepository;
         this.tokenRepository = tokenRepository;
+        this.historicalStateCache = historicalStateCache;
     }
 
     @Override
@@ -62,6 +66,12 @@ public class TokenRelationshipReadableKVState extends AbstractReadableKVState<En
             return null;
         }
 
+        return historicalStateCache.get(KEY, key, this::findTokenRelation);
+    }
+
+    private TokenRelation findTokenRelation(EntityIDPair key) {
+        final var tokenId = key.tokenId();
+        final var accountId = key.accountId();
         final var timestamp = ContractCallContext.get().getTimestamp();
         // The accountId will always be in the format "shard.realm.num"
         return findTokenAccount(tokenId, accountId, timestamp)
@@ -0,0 +1,113 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.evm.contracts.execution.traceability;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.util.Optional;
+import org.hyperledger.besu.evm.frame.ExceptionalHaltReason;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.frame.MessageFrame.State;
+import org.hyperledger.besu.evm.operation.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GasRequirementTest {
+
+    private GasRequirement gasRequirement;
+
+    @BeforeEach
+    void setup() {
+        gasRequirement = new GasRequirement();
+    }
+
+    @Test
+    void singleFrame() {
+        var frame = mock(MessageFrame.class);
+        given(frame.getRemainingGas()).willReturn(1000L);
+        gasRequirement.onContextEnter(frame);
+
+        given(frame.getRemainingGas()).willReturn(900L);
+        gasRequirement.onPostExecution(frame);
+
+        given(frame.getRemainingGas()).willReturn(800L);
+        given(frame.getState()).willReturn(State.COMPLETED_SUCCESS);
+        gasRequirement.onContextExit(frame);
+
+        assertThat(gasRequirement.estimate(1100L)).hasValue(300L);
+    }
+
+    @Test
+    void childFrame() {
+        var parent = mock(MessageFrame.class);
+        given(parent.getRemainingGas()).willReturn(1000L);
+        gasRequirement.onContextEnter(parent);
+
+        given(parent.getRemainingGas()).willReturn(400L);
+        given(parent.getState()).willReturn(State.CODE_SUSPENDED);
+        gasRequirement.onPostExecution(parent);
+
+        var child = mock(MessageFrame.class);
+        given(child.getRemainingGas()).willReturn(500L);
+        gasRequirement.onContextEnter(child);
+
+        given(child.getRemainingGas()).willReturn(200L);
+        given(child.getState()).willReturn(State.COMPLETED_SUCCESS);
+        gasRequirement.onContextExit(child);
+
+        given(parent.getRemainingGas()).willReturn(600L);
+        given(parent.getState()).willReturn(State.CODE_EXECUTING);
+        gasRequirement.onPostExecution(parent);
+
+        given(parent.getState()).willReturn(State.COMPLETED_SUCCESS);
+        gasRequirement.onContextExit(parent);
+
+        // 100 used before the call plus 64/63 of the child's 300
+        assertThat(gasRequirement.estimate(1000L)).hasValue(405L);
+    }
+
+    @Test
+    void sstore() {
+        var operation = mock(Operation.class);
+        given(operation.getName()).willReturn("SSTORE");
+        var frame = mock(MessageFrame.class);
+        given(frame.getRemainingGas()).willReturn(10_000L);
+        gasRequirement.onContextEnter(frame);
+
+        given(frame.getRemainingGas()).willReturn(9950L);
+        given(frame.getCurrentOperation()).willReturn(operation);
+        gasRequirement.onPreExecution(frame);
+
+        given(frame.getRemainingGas()).willReturn(9900L);
+        given(frame.getState()).willReturn(State.COMPLETED_SUCCESS);
+        gasRequirement.onContextExit(frame);
+
+        assertThat(gasRequirement.estimate(10_000L)).hasValue(2351L);
+    }
+
+    @Test
+    void insufficientGas() {
+        var frame = mock(MessageFrame.class);
+        given(frame.getRemainingGas()).willReturn(1000L);
+        gasRequirement.onContextEnter(frame);
+
+        given(frame.getRemainingGas()).willReturn(0L);
+        given(frame.getState()).willReturn(State.COMPLETED_FAILED);
+        given(frame.getExceptionalHaltReason()).willReturn(Optional.of(ExceptionalHaltReason.INSUFFICIENT_GAS));
+        gasRequirement.onContextExit(frame);
+
+        assertThat(gasRequirement.estimate(1000L)).hasValue(1000L);
+    }
+
+    @Test
+    void incomplete() {
+        var frame = mock(MessageFrame.class);
+        given(frame.getRemainingGas()).willReturn(1000L);
+        gasRequirement.onContextEnter(frame);
+
+        assertThat(gasRequirement.estimate(1000L)).isEmpty();
+        assertThat(new GasRequirement().estimate(1000L)).isEmpty();
+    }
+}
@@ -3,11 +3,13 @@
 package org.hiero.mirror.web3.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import lombok.RequiredArgsConstructor;
 import org.hiero.mirror.common.domain.contract.ContractState;
 import org.hiero.mirror.common.domain.contract.ContractStateChange;
 import org.hiero.mirror.web3.Web3IntegrationTest;
+import org.hiero.mirror.web3.repository.projections.ContractSlotValue;
 import org.junit.jupiter.api.Test;
 
 @RequiredArgsConstructor
@@ -86,4 +88,53 @@ class ContractStateRepositoryTest extends Web3IntegrationTest {
         assertThat(contractStateRepository.findStorage(contractState.getContractId(), new byte[20]))
                 .isEmpty();
     }
+
+    @Test
+    void findAllStorage() {
+        var contractState = domainBuilder.contractState().persist();
+        var otherContractState = domainBuilder
+                .contractState()
+                .customize(cs -> cs.contractId(contractState.getContractId()))
+                .persist();
+        domainBuilder.contractState().persist();
+
+        assertThat(contractStateRepository.findAllStorage(
+                        contractState.getContractId(),
+                        new byte[][] {contractState.getSlot(), otherContractState.getSlot(), new byte[32]}))
+                .extracting(ContractSlotValue::getSlot, ContractSlotValue::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(contractState.getSlot(), contractState.getValue()),
+                        tuple(otherContractState.getSlot(), otherContractState.getValue()));
+    }
+
+    @Test
+    void findAllStorageByBlockTimestamp() {
+        var olderContractStateChange = domainBuilder.contractStateChange().persist();
+        var contractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(olderContractStateChange.getContractId())
+                        .slot(olderContractStateChange.getSlot()))
+                .persist();
+        var otherContractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(olderContractStateChange.getContractId())
+                        .valueWritten(null))
+                .persist();
+        var newerContractStateChange = domainBuilder
+                .contractStateChange()
+                .customize(cs -> cs.contractId(olderContractStateChange.getContractId())
+                        .slot(olderContractStateChange.getSlot()))
+                .persist();
+
+        assertThat(contractStateRepository.findAllStorageByBlockTimestamp(
+                        contractStateChange.getContractId(),
+                        new byte[][] {
+                            contractStateChange.getSlot(), otherContractStateChange.getSlot(), new byte[] {1}
+                        },
+                        newerContractStateChange.getConsensusTimestamp() - 1))
+                .extracting(ContractSlotValue::getSlot, ContractSlotValue::getValue)
+                .containsExactlyInAnyOrder(
+                        tuple(contractStateChange.getSlot(), contractStateChange.getValueWritten()),
+                        tuple(otherContractStateChange.getSlot(), otherContractStateChange.getValueRead()));
+    }
 }
@@ -0,0 +1,192 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_CONTRACT_STATE;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_ENTITY;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_MANAGER_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.awaitility.Durations;
+import org.hiero.mirror.common.converter.CacheInvalidationCodec;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.Slot;
+import org.hiero.mirror.common.domain.CacheInvalidation.TokenAccount;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.web3.Web3IntegrationTest;
+import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.repository.EntityRepository;
+import org.hiero.mirror.web3.repository.TokenAccountRepository;
+import org.hiero.mirror.web3.repository.TokenRepository;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+class CacheInvalidationListenerIntegrationTest extends Web3IntegrationTest {
+
+    private static final String LISTEN_QUERY = "listen " + CacheInvalidationListener.CHANNEL;
+
+    @Qualifier(CACHE_MANAGER_CONTRACT_STATE)
+    private final CacheManager contractStateCacheManager;
+
+    private final ContractStateRepository contractStateRepository;
+    private final DataSource dataSource;
+
+    @Qualifier(CACHE_MANAGER_ENTITY)
+    private final CacheManager entityCacheManager;
+
+    private final EntityRepository entityRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Qualifier(CACHE_MANAGER_TOKEN)
+    private final CacheManager tokenCacheManager;
+
+    private final TokenAccountRepository tokenAccountRepository;
+    private final TokenRepository tokenRepository;
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setup() {
+        var properties = new CacheProperties();
+        properties.getInvalidation().setEnabled(true);
+        properties.getInvalidation().setInterval(Duration.ofMillis(100L));
+        listener = new CacheInvalidationListener(
+                contractStateCacheManager,
+                dataSource,
+                entityCacheManager,
+                meterRegistry,
+                properties,
+                tokenCacheManager);
+    }
+
+    @AfterEach
+    void cleanup() {
+        listener.stop();
+    }
+
+    @Test
+    void invalidate() {
+        // given
+        var entity = domainBuilder.entity().persist();
+        var token = domainBuilder.token().persist();
+        var tokenAccount = domainBuilder
+                .tokenAccount()
+                .customize(t -> t.accountId(entity.getId()).tokenId(token.getTokenId()))
+                .persist();
+        var contractState = domainBuilder.contractState().persist();
+        var tokenAccountId = new AbstractTokenAccount.Id();
+        tokenAccountId.setAccountId(tokenAccount.getAccountId());
+        tokenAccountId.setTokenId(tokenAccount.getTokenId());
+        start();
+
+        // Cache the state through the repositories, then remove it from the database
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(entity.getId())).isPresent();
+        assertThat(entityRepository.findByShardAndRealmAndEvmAddressAndDeletedIsFalse(
+                        entity.getShard(), entity.getRealm(), entity.getEvmAddress()))
+                .isPresent();
+        assertThat(tokenRepository.findById(token.getTokenId())).isPresent();
+        assertThat(tokenAccountRepository.findById(tokenAccountId)).isPresent();
+        assertThat(tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(entity.getId()))
+                .isNotEmpty();
+        assertThat(contractStateRepository.findStorage(contractState.getContractId(), contractState.getSlot()))
+                .isPresent();
+        jdbcTemplate.execute("delete from contract_state; delete from entity; delete from token; "
+                + "delete from token_account");
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(entity.getId())).isPresent();
+
+        var cacheInvalidation = new CacheInvalidation(DomainUtils.now());
+        cacheInvalidation.entityIds().add(entity.getId());
+        cacheInvalidation.entityIds().add(token.getTokenId());
+        cacheInvalidation.aliases().add(entity.getEvmAddress());
+        cacheInvalidation.slots().add(new Slot(contractState.getContractId(), contractState.getSlot()));
+        cacheInvalidation.tokenAccounts().add(new TokenAccount(entity.getId(), token.getTokenId()));
+
+        // when
+        publish(cacheInvalidation);
+
+        // then
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .untilAsserted(() -> {
+                    assertThat(entityRepository.findByIdAndDeletedIsFalse(entity.getId()))
+                            .isEmpty();
+                    assertThat(entityRepository.findByShardAndRealmAndEvmAddressAndDeletedIsFalse(
+                                    entity.getShard(), entity.getRealm(), entity.getEvmAddress()))
+                            .isEmpty();
+                    assertThat(tokenRepository.findById(token.getTokenId())).isEmpty();
+                    assertThat(tokenAccountRepository.findById(tokenAccountId)).isEmpty();
+                    assertThat(tokenAccountRepository.countByAccountIdAndAssociatedGroupedByBalanceIsPositive(
+                                    entity.getId()))
+                            .isEmpty();
+                    assertThat(contractStateRepository.findStorage(
+                                    contractState.getContractId(), contractState.getSlot()))
+                            .isEmpty();
+                });
+    }
+
+    @Test
+    void reconnect() {
+        // given
+        var entity = domainBuilder.entity().persist();
+        start();
+        assertThat(entityRepository.findByIdAndDeletedIsFalse(entity.getId())).isPresent();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(entity.getId())).isNotNull();
+
+        // when
+        jdbcTemplate.queryForList(
+                "select pg_terminate_backend(pid) from pg_stat_activity where query = ?", LISTEN_QUERY);
+
+        // then the caches are cleared since notifications could have been missed while disconnected
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .untilAsserted(() -> assertThat(entityCacheManager.getCache(CACHE_NAME).get(entity.getId()))
+                        .isNull());
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .until(listener::isListening);
+        assertThat(countListeners()).isOne();
+    }
+
+    @Test
+    void stop() {
+        // given
+        start();
+
+        // when
+        listener.stop();
+
+        // then
+        assertThat(listener.isListening()).isFalse();
+        assertThat(countListeners()).isZero();
+    }
+
+    private int countListeners() {
+        return jdbcTemplate.queryForObject(
+                "select count(*) from pg_stat_activity where query = ?", Integer.class, LISTEN_QUERY);
+    }
+
+    private void publish(CacheInvalidation cacheInvalidation) {
+        for (var payload : CacheInvalidationCodec.encode(cacheInvalidation, 8000)) {
+            jdbcTemplate.queryForList("select pg_notify(?, ?)::text", CacheInvalidationListener.CHANNEL, payload);
+        }
+    }
+
+    private void start() {
+        listener.start();
+        await().pollInterval(Durations.ONE_HUNDRED_MILLISECONDS)
+                .atMost(Durations.FIVE_SECONDS)
+                .until(listener::isListening);
+    }
+}
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_ALIAS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_EVM_ADDRESS;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME_TOKEN_ACCOUNT_COUNT;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.hiero.mirror.common.converter.CacheInvalidationCodec;
+import org.hiero.mirror.common.domain.CacheInvalidation;
+import org.hiero.mirror.common.domain.CacheInvalidation.Slot;
+import org.hiero.mirror.common.domain.CacheInvalidation.TokenAccount;
+import org.hiero.mirror.common.domain.token.AbstractTokenAccount;
+import org.hiero.mirror.common.util.DomainUtils;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+class CacheInvalidationListenerTest {
+
+    private static final byte[] ALIAS = new byte[] {1, 2, 3};
+    private static final byte[] SLOT = new byte[32];
+
+    private CacheManager contractStateCacheManager;
+    private CacheManager entityCacheManager;
+    private CacheInvalidationListener listener;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheManager tokenCacheManager;
+
+    @BeforeEach
+    void setup() {
+        contractStateCacheManager = cacheManager(CACHE_NAME);
+        entityCacheManager = cacheManager(CACHE_NAME, CACHE_NAME_ALIAS, CACHE_NAME_EVM_ADDRESS);
+        tokenCacheManager = cacheManager(CACHE_NAME_TOKEN, CACHE_NAME_TOKEN_ACCOUNT, CACHE_NAME_TOKEN_ACCOUNT_COUNT);
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new CacheInvalidationListener(
+                contractStateCacheManager,
+                mock(DataSource.class),
+                entityCacheManager,
+                meterRegistry,
+                new CacheProperties(),
+                tokenCacheManager);
+    }
+
+    @Test
+    void onNotification() {
+        // given
+        var tokenAccountId = new AbstractTokenAccount.Id();
+        tokenAccountId.setAccountId(3L);
+        tokenAccountId.setTokenId(4L);
+        var otherSlot = new byte[32];
+        otherSlot[31] = 1;
+
+        entityCacheManager.getCache(CACHE_NAME).put(1L, "entity");
+        entityCacheManager.getCache(CACHE_NAME).put(2L, "other");
+        entityCacheManager.getCache(CACHE_NAME_ALIAS).put(Arrays.hashCode(ALIAS), "alias");
+        entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS).put(Arrays.hashCode(ALIAS), "evmAddress");
+        contractStateCacheManager.getCache(CACHE_NAME).put(new SimpleKey(5L, SLOT.clone()), "slot");
+        contractStateCacheManager.getCache(CACHE_NAME).put(new SimpleKey(5L, otherSlot), "other");
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN).put(1L, "token");
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT).put(tokenAccountId, "tokenAccount");
+        tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT).put(3L, "tokenAccountCount");
+
+        long consensusEnd = DomainUtils.now();
+        var cacheInvalidation = new CacheInvalidation(consensusEnd);
+        cacheInvalidation.entityIds().add(1L);
+        cacheInvalidation.aliases().add(ALIAS);
+        cacheInvalidation.slots().add(new Slot(5L, SLOT));
+        cacheInvalidation.tokenAccounts().add(new TokenAccount(3L, 4L));
+
+        // when
+        CacheInvalidationCodec.encode(cacheInvalidation, 8000).forEach(listener::onNotification);
+
+        // then
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(1L)).isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(2L)).isNotNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_ALIAS).get(Arrays.hashCode(ALIAS)))
+                .isNull();
+        assertThat(entityCacheManager.getCache(CACHE_NAME_EVM_ADDRESS).get(Arrays.hashCode(ALIAS)))
+                .isNull();
+        assertThat(contractStateCacheManager.getCache(CACHE_NAME).get(new SimpleKey(5L, SLOT)))
+                .isNull();
+        assertThat(contractStateCacheManager.getCache(CACHE_NAME).get(new SimpleKey(5L, otherSlot)))
+                .isNotNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN).get(1L)).isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT).get(tokenAccountId))
+                .isNull();
+        assertThat(tokenCacheManager.getCache(CACHE_NAME_TOKEN_ACCOUNT_COUNT).get(3L))
+                .isNull();
+        assertThat(meterRegistry
+                        .get(CacheInvalidationListener.METRIC + ".lag")
+                        .gauge()
+                        .value())
+                .isGreaterThanOrEqualTo(0.0)
+                .isLessThan(60.0);
+    }
+
+    @Test
+    void onNotificationInvalid() {
+        entityCacheManager.getCache(CACHE_NAME).put(1L, "entity");
+
+        listener.onNotification("invalid");
+
+        assertThat(entityCacheManager.getCache(CACHE_NAME).get(1L)).isNotNull();
+        assertThat(meterRegistry
+                        .get(CacheInvalidationListener.METRIC + ".lag")
+                        .gauge()
+                        .value())
+                .isZero();
+    }
+
+    private CacheManager cacheManager(String... cacheNames) {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Set.of(cacheNames));
+        return cacheManager;
+    }
+}
@@ -57,6 +57,7 @@ import org.hiero.mirror.web3.service.model.CallServiceParameters;
 import org.hiero.mirror.web3.service.model.CallServiceParameters.CallType;
 import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
 import org.hiero.mirror.web3.service.utils.BinaryGasEstimator;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.hiero.mirror.web3.viewmodel.BlockType;
 import org.hiero.mirror.web3.web3j.generated.ERCTestContract;
@@ -96,6 +97,9 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
     @Mock
     private ThrottleProperties throttleProperties;
 
+    @Autowired
+    private StoragePrefetcher storagePrefetcher;
+
     @Autowired
     private TransactionExecutionService transactionExecutionService;
 
@@ -911,7 +915,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                storagePrefetcher);
 
         // When
         try {
@@ -953,7 +958,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                storagePrefetcher);
 
         // When
         try {
@@ -993,7 +999,8 @@ class ContractCallServiceTest extends AbstractContractCallServiceTest {
                 throttleProperties,
                 gasLimitBucket,
                 mirrorNodeEvmProperties,
-                transactionExecutionService);
+                transactionExecutionService,
+                storagePrefetcher);
 
         // When
         try {
@@ -28,6 +28,7 @@ import org.hiero.mirror.common.CommonProperties;
 import org.hiero.mirror.common.domain.SystemEntity;
 import org.hiero.mirror.web3.ContextExtension;
 import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.evm.contracts.execution.traceability.GasRequirementTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.MirrorOperationTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracer;
 import org.hiero.mirror.web3.evm.contracts.execution.traceability.OpcodeTracerOptions;
@@ -94,6 +95,7 @@ class TransactionExecutionServiceTest {
                 accountReadableKVState,
                 aliasesReadableKVState,
                 commonProperties,
+                new GasRequirementTracer(),
                 new MirrorNodeEvmProperties(commonProperties, systemEntity),
                 opcodeTracer,
                 mirrorOperationTracer,
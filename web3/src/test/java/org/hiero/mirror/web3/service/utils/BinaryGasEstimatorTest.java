@@ -2,15 +2,28 @@
 
 package org.hiero.mirror.web3.service.utils;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.google.common.util.concurrent.ExecutionError;
 import com.hedera.node.app.service.evm.contracts.execution.HederaEvmTransactionProcessingResult;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
 import lombok.RequiredArgsConstructor;
 import org.assertj.core.data.Percentage;
 import org.hiero.mirror.web3.Web3IntegrationTest;
 import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.throttle.ThrottleProperties;
 import org.hyperledger.besu.datatypes.Address;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +33,7 @@ import org.junit.jupiter.params.provider.CsvSource;
 @RequiredArgsConstructor
 class BinaryGasEstimatorTest extends Web3IntegrationTest {
     private final BinaryGasEstimator binaryGasEstimator;
+    private final MeterRegistry meterRegistry;
     private final MirrorNodeEvmProperties properties;
     private final AtomicInteger iterations = new AtomicInteger(0);
 
@@ -111,6 +125,191 @@ class BinaryGasEstimatorTest extends Web3IntegrationTest {
                 .isLessThanOrEqualTo(properties.getMaxGasEstimateRetriesCount());
     }
 
+    @DisplayName("concurrentSearchMatchesSequential")
+    @ParameterizedTest(name = "#{index} (low {0}, high {1}, required {2}, depth {3})")
+    @CsvSource({
+        "21000, 100000, 21617, 2",
+        "21000, 15_000_000, 40000, 3",
+        "35000, 15_000_000, 3_000_000, 3",
+        "1_000_000, 1_000_000_000, 1000952, 4",
+        "0, 1_000_000_000_000, 0, 3"
+    })
+    void concurrentSearchMatchesSequential(final long low, final long high, final long required, final int depth) {
+        // Executions succeed only with at least the required gas, failing with all the gas otherwise
+        LongFunction<HederaEvmTransactionProcessingResult> call =
+                gas -> gas >= required ? createTxnResult(required, true) : createTxnResult(gas, false);
+        var sequentialIterations = new AtomicInteger();
+        var sequentialGas = new AtomicLong();
+        var concurrentIterations = new AtomicInteger();
+        var concurrentGas = new AtomicLong();
+        int defaultDepth = properties.getEstimateGasSearchDepth();
+
+        try {
+            properties.setEstimateGasSearchDepth(1);
+            var sequential = binaryGasEstimator.search(
+                    (gas, count) -> {
+                        sequentialGas.set(gas);
+                        sequentialIterations.set(count);
+                    },
+                    call,
+                    low,
+                    high,
+                    true);
+
+            properties.setEstimateGasSearchDepth(depth);
+            double launched = probes("launched");
+            double wasted = probes("wasted");
+            var concurrent = binaryGasEstimator.search(
+                    (gas, count) -> {
+                        concurrentGas.set(gas);
+                        concurrentIterations.set(count);
+                    },
+                    call,
+                    low,
+                    high,
+                    true);
+
+            assertThat(concurrent).isEqualTo(sequential);
+            assertThat(concurrentIterations.get()).isEqualTo(sequentialIterations.get());
+            assertThat(concurrentGas.get()).isEqualTo(sequentialGas.get());
+            assertThat(probes("launched") - launched)
+                    .isEqualTo(concurrentIterations.get() + probes("wasted") - wasted);
+        } finally {
+            properties.setEstimateGasSearchDepth(defaultDepth);
+        }
+    }
+
+    @Test
+    void concurrentSearchChargesWastedProbes() {
+        // given
+        long capacity = 1_000_000_000_000L;
+        var bucket = bucket(capacity);
+        var estimator = estimator(bucket);
+        var sequential = ConcurrentHashMap.<Long>newKeySet();
+        var concurrent = ConcurrentHashMap.<Long>newKeySet();
+        int defaultDepth = properties.getEstimateGasSearchDepth();
+
+        try {
+            properties.setEstimateGasSearchDepth(1);
+            estimator.search((gas, count) -> {}, recording(sequential), 21_000, 15_000_000, true);
+
+            // when
+            properties.setEstimateGasSearchDepth(3);
+            estimator.search((gas, count) -> {}, recording(concurrent), 21_000, 15_000_000, true);
+        } finally {
+            properties.setEstimateGasSearchDepth(defaultDepth);
+            estimator.close();
+        }
+
+        // then
+        assertThat(concurrent).containsAll(sequential);
+        long wasted = sum(concurrent) - sum(sequential);
+        assertThat(wasted).isPositive();
+        assertThat(capacity - bucket.getAvailableTokens()).isEqualTo(wasted);
+    }
+
+    @Test
+    void concurrentSearchWithoutGasLeft() {
+        // given
+        var bucket = bucket(1);
+        bucket.tryConsume(1);
+        var estimator = estimator(bucket);
+        var executed = ConcurrentHashMap.<Long>newKeySet();
+        int defaultDepth = properties.getEstimateGasSearchDepth();
+        var iterationCount = new AtomicInteger();
+
+        try {
+            // when
+            properties.setEstimateGasSearchDepth(3);
+            double wasted = probes("wasted");
+            var result = estimator.search(
+                    (gas, count) -> iterationCount.set(count), recording(executed), 21_000, 15_000_000, true);
+
+            // then
+            assertThat(result).isBetween(40_000L, 15_000_000L);
+            assertThat(executed).hasSize(iterationCount.get());
+            assertThat(probes("wasted") - wasted).isZero();
+            assertThat(bucket.getAvailableTokens()).isZero();
+        } finally {
+            properties.setEstimateGasSearchDepth(defaultDepth);
+            estimator.close();
+        }
+    }
+
+    @Test
+    void concurrentSearchCancelsProbesOnError() throws InterruptedException {
+        // given
+        var started = new CountDownLatch(2);
+        var interrupted = new CountDownLatch(2);
+        LongFunction<HederaEvmTransactionProcessingResult> call = gas -> {
+            if (gas == 500) {
+                awaitUninterruptibly(started);
+                throw new AssertionError("Probe failed");
+            }
+
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofMinutes(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return createTxnResult(gas, true);
+        };
+        int defaultDepth = properties.getEstimateGasSearchDepth();
+
+        try {
+            properties.setEstimateGasSearchDepth(2);
+
+            // when
+            assertThatThrownBy(() -> binaryGasEstimator.search((gas, count) -> {}, call, 0, 1000, true))
+                    .isInstanceOf(ExecutionError.class);
+        } finally {
+            properties.setEstimateGasSearchDepth(defaultDepth);
+        }
+
+        // then
+        assertThat(interrupted.await(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private BinaryGasEstimator estimator(Bucket bucket) {
+        return new BinaryGasEstimator(bucket, meterRegistry, properties, new ThrottleProperties());
+    }
+
+    private LongFunction<HederaEvmTransactionProcessingResult> recording(Set<Long> executed) {
+        return gas -> {
+            executed.add(gas);
+            return gas >= 40_000 ? createTxnResult(40_000, true) : createTxnResult(gas, false);
+        };
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Bucket bucket(long capacity) {
+        var limit = Bandwidth.builder()
+                .capacity(capacity)
+                .refillIntervally(capacity, Duration.ofDays(1))
+                .build();
+        return Bucket.builder().addLimit(limit).build();
+    }
+
+    private static long sum(Set<Long> values) {
+        return values.stream().mapToLong(Long::longValue).sum();
+    }
+
+    private double probes(String type) {
+        return meterRegistry
+                .get(BinaryGasEstimator.PROBES_METRIC)
+                .tag("type", type)
+                .counter()
+                .count();
+    }
+
     private HederaEvmTransactionProcessingResult createTxnResult(final long gasUsed, final boolean isSuccessful) {
         if (!isSuccessful) {
             return HederaEvmTransactionProcessingResult.failed(gasUsed, 0, 0, Optional.empty(), Optional.empty());
@@ -0,0 +1,127 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.node.state.contract.Bytecode;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+class HistoricalStateCacheTest {
+
+    private static final String STATE_KEY = "STORAGE";
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private HistoricalStateCache historicalStateCache;
+
+    @BeforeEach
+    void setup() {
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Set.of(CACHE_NAME));
+        var recordFileRepository = mock(RecordFileRepository.class);
+        var latest = RecordFile.builder().consensusStart(10L).consensusEnd(11L).build();
+        when(recordFileRepository.findLatest()).thenReturn(Optional.of(latest));
+        historicalStateCache = new HistoricalStateCache(cacheManager, recordFileRepository);
+    }
+
+    @Test
+    void historical() {
+        assertThat(get(1L, "key")).isEqualTo("key1");
+        assertThat(get(1L, "key")).isEqualTo("key1");
+        assertThat(loads).hasValue(1);
+
+        assertThat(get(2L, "key")).isEqualTo("key2");
+        assertThat(get(1L, "other")).isEqualTo("other3");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void historicalNull() {
+        var value = ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(1L).build());
+            historicalStateCache.get(STATE_KEY, "key", k -> load(null));
+            return historicalStateCache.get(STATE_KEY, "key", this::load);
+        });
+
+        assertThat(value).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void historicalLatestRecordFile() {
+        assertThat(get(10L, "key")).isEqualTo("key1");
+        assertThat(get(10L, "key")).isEqualTo("key2");
+        assertThat(get(9L, "key")).isEqualTo("key3");
+        assertThat(get(9L, "key")).isEqualTo("key3");
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    void historicalNested() {
+        var value = ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(1L).build());
+            return historicalStateCache.get(
+                    STATE_KEY, "outer", k -> historicalStateCache.get(STATE_KEY, "inner", this::load) + k);
+        });
+
+        assertThat(value).isEqualTo("inner1outer");
+        assertThat(get(1L, "inner")).isEqualTo("inner1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void containsAndPut() {
+        var cached = ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(1L).build());
+            boolean before = historicalStateCache.contains(STATE_KEY, "key");
+            historicalStateCache.put(STATE_KEY, "key", "value");
+            return !before && historicalStateCache.contains(STATE_KEY, "key");
+        });
+
+        assertThat(cached).isTrue();
+        assertThat(get(1L, "key")).isEqualTo("value");
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void latest() {
+        ContractCallContext.run(context -> {
+            historicalStateCache.get(STATE_KEY, "key", this::load);
+            return historicalStateCache.get(STATE_KEY, "key", this::load);
+        });
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void weigh() {
+        var bytecode = new Bytecode(Bytes.wrap(new byte[100]));
+
+        assertThat(HistoricalStateCache.weigh("key", "value")).isEqualTo(HistoricalStateCache.ENTRY_WEIGHT);
+        assertThat(HistoricalStateCache.weigh("key", bytecode)).isEqualTo(HistoricalStateCache.ENTRY_WEIGHT + 100);
+    }
+
+    private String get(long timestamp, String key) {
+        return ContractCallContext.run(context -> {
+            context.setRecordFile(RecordFile.builder().consensusEnd(timestamp).build());
+            return historicalStateCache.get(STATE_KEY, key, this::load);
+        });
+    }
+
+    private String load(String key) {
+        int count = loads.incrementAndGet();
+        return key != null ? key + count : null;
+    }
+}
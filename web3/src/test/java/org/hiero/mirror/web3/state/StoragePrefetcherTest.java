@@ -0,0 +1,353 @@
+// SPDX-License-Identifier: Apache-2.0
+
+package org.hiero.mirror.web3.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.hiero.mirror.web3.evm.config.EvmConfiguration.CACHE_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.hedera.hapi.node.base.ContractID;
+import com.hedera.hapi.node.base.ContractID.ContractOneOfType;
+import com.hedera.hapi.node.state.contract.SlotKey;
+import com.hedera.hapi.node.state.contract.SlotValue;
+import com.hedera.pbj.runtime.OneOf;
+import com.hedera.pbj.runtime.io.buffer.Bytes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.hiero.mirror.common.domain.transaction.RecordFile;
+import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
+import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
+import org.hiero.mirror.web3.repository.projections.ContractSlotValue;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.service.model.ContractExecutionParameters;
+import org.hiero.mirror.web3.viewmodel.BlockType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@ExtendWith(MockitoExtension.class)
+class StoragePrefetcherTest {
+
+    private static final long CONTRACT_ID = 1001L;
+    private static final ContractID CONTRACT =
+            new ContractID(0L, 0L, new OneOf<>(ContractOneOfType.CONTRACT_NUM, CONTRACT_ID));
+    private static final SlotKey SLOT_KEY1 = new SlotKey(CONTRACT, slot(1));
+    private static final SlotKey SLOT_KEY2 = new SlotKey(CONTRACT, slot(2));
+    private static final SlotKey SLOT_KEY3 = new SlotKey(CONTRACT, slot(3));
+    private static final SlotValue VALUE1 = new SlotValue(slot(11), Bytes.EMPTY, Bytes.EMPTY);
+    private static final SlotValue VALUE2 = new SlotValue(slot(12), Bytes.EMPTY, Bytes.EMPTY);
+
+    @Mock
+    private ContractStateRepository contractStateRepository;
+
+    @Mock
+    private MirrorNodeEvmProperties evmProperties;
+
+    @Mock
+    private RecordFileRepository recordFileRepository;
+
+    private CaffeineCacheManager contractStateCacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private StoragePrefetcher storagePrefetcher;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        var cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(Set.of(CACHE_NAME));
+        contractStateCacheManager = new CaffeineCacheManager();
+        contractStateCacheManager.setCacheNames(Set.of(CACHE_NAME));
+        storagePrefetcher = new StoragePrefetcher(
+                new CacheProperties(),
+                contractStateCacheManager,
+                contractStateRepository,
+                evmProperties,
+                new HistoricalStateCache(cacheManager, recordFileRepository),
+                meterRegistry);
+    }
+
+    @Test
+    void prefetch() {
+        // given
+        enable();
+        call("0x12345678", () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1))
+                    .isEqualTo(VALUE1);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2))
+                    .isEqualTo(VALUE2);
+        });
+        when(contractStateRepository.findAllStorage(eq(CONTRACT_ID), argThat(slots -> slots.length == 2)))
+                .thenReturn(List.of(result(SLOT_KEY1, VALUE1), result(SLOT_KEY2, VALUE2)));
+
+        // when
+        call("0x12345678abcd", () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE2);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY3, () -> null))
+                    .isNull();
+        });
+
+        // then
+        assertThat(count("accessed")).isEqualTo(5.0);
+        assertThat(count("hit")).isEqualTo(1.0);
+        assertThat(count("prefetched")).isEqualTo(1.0);
+        var queries = meterRegistry
+                .get(StoragePrefetcher.METRIC + ".queries")
+                .summary();
+        assertThat(queries.count()).isEqualTo(2L);
+        assertThat(queries.totalAmount()).isEqualTo(4.0);
+    }
+
+    @Test
+    void prefetchMissingSlot() {
+        // given
+        enable();
+        call("0x12345678", () -> {
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1);
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> null);
+        });
+        when(contractStateRepository.findAllStorage(eq(CONTRACT_ID), any()))
+                .thenReturn(List.of(result(SLOT_KEY1, VALUE1)));
+
+        // when
+        call("0x12345678", () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, StoragePrefetcherTest::unexpected))
+                    .isNull();
+        });
+
+        // then
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void prefetchCached() {
+        // given
+        enable();
+        var contractStateCache = contractStateCacheManager.getCache(CACHE_NAME);
+        contractStateCache.put(new SimpleKey(CONTRACT_ID, SLOT_KEY2.key().toByteArray()), VALUE2.value().toByteArray());
+        call("0x12345678", () -> {
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1);
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2);
+        });
+        when(contractStateRepository.findAllStorage(eq(CONTRACT_ID), argThat(slots -> slots.length == 1)))
+                .thenReturn(List.of(result(SLOT_KEY1, VALUE1)));
+
+        // when
+        call("0x12345678", () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2))
+                    .isEqualTo(VALUE2);
+        });
+
+        // then the cached slot isn't prefetched and the prefetched slot is cached
+        assertThat(contractStateCache.get(new SimpleKey(CONTRACT_ID, SLOT_KEY1.key().toByteArray())))
+                .isNotNull()
+                .extracting(ValueWrapper::get)
+                .isEqualTo(VALUE1.value().toByteArray());
+        assertThat(count("prefetched")).isZero();
+    }
+
+    @Test
+    void prefetchHistorical() {
+        // given
+        enable();
+        historical(100L, () -> {
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1);
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2);
+        });
+        when(contractStateRepository.findAllStorageByBlockTimestamp(
+                        eq(CONTRACT_ID),
+                        argThat(slots -> slots.length == 2
+                                && Arrays.stream(slots).allMatch(s -> s.length == 1)),
+                        eq(200L)))
+                .thenReturn(List.of(
+                        result(new byte[] {1}, VALUE1.value()), result(new byte[] {2}, VALUE2.value())));
+
+        // when
+        historical(200L, () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE2);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+        });
+
+        // then
+        verify(contractStateRepository, never()).findAllStorage(anyLong(), any());
+    }
+
+    @Test
+    void prefetchHistoricalCached() {
+        // given
+        enable();
+        historical(100L, () -> {
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1);
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2);
+        });
+        when(contractStateRepository.findAllStorageByBlockTimestamp(
+                        eq(CONTRACT_ID), argThat(slots -> slots.length == 1), eq(100L)))
+                .thenReturn(List.of());
+
+        // when
+        historical(100L, () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY3, StoragePrefetcherTest::unexpected))
+                    .isNull();
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE2);
+        });
+
+        // then
+        assertThat(count("accessed")).isEqualTo(5.0);
+        assertThat(count("hit")).isZero();
+        var queries = meterRegistry
+                .get(StoragePrefetcher.METRIC + ".queries")
+                .summary();
+        assertThat(queries.totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    void prefetchHistoricalAllCached() {
+        // given
+        enable();
+        historical(100L, () -> {
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1);
+            storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, () -> VALUE2);
+        });
+
+        // when
+        historical(100L, () -> {
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY2, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE2);
+            assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, StoragePrefetcherTest::unexpected))
+                    .isEqualTo(VALUE1);
+        });
+
+        // then
+        verify(contractStateRepository, never()).findAllStorageByBlockTimestamp(anyLong(), any(), anyLong());
+        assertThat(count("accessed")).isEqualTo(4.0);
+    }
+
+    @Test
+    void otherSelector() {
+        // given
+        enable();
+        call("0x12345678", () -> storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1));
+
+        // when
+        call("0x87654321", () -> assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE2))
+                .isEqualTo(VALUE2));
+
+        // then
+        verify(contractStateRepository, never()).findAllStorage(anyLong(), any());
+        assertThat(count("hit")).isZero();
+    }
+
+    @Test
+    void disabled() {
+        // given
+        call("0x12345678", () -> storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE1));
+
+        // when
+        call("0x12345678", () -> assertThat(storagePrefetcher.get(CONTRACT_ID, SLOT_KEY1, () -> VALUE2))
+                .isEqualTo(VALUE2));
+
+        // then
+        verify(contractStateRepository, never()).findAllStorage(anyLong(), any());
+        assertThat(meterRegistry.find(StoragePrefetcher.METRIC + ".prefetch").counters())
+                .isEmpty();
+        assertThat(meterRegistry
+                        .get(StoragePrefetcher.METRIC + ".queries")
+                        .summary()
+                        .totalAmount())
+                .isEqualTo(2.0);
+    }
+
+    private void call(String callData, Runnable runnable) {
+        var params = ContractExecutionParameters.builder()
+                .block(BlockType.LATEST)
+                .callData(org.apache.tuweni.bytes.Bytes.fromHexString(callData))
+                .build();
+        ContractCallContext.run(context -> {
+            context.setCallServiceParameters(params);
+            runnable.run();
+            storagePrefetcher.complete(context);
+            return null;
+        });
+    }
+
+    private void historical(long timestamp, Runnable runnable) {
+        var recordFile = RecordFile.builder().consensusEnd(timestamp).build();
+        var latest = RecordFile.builder().consensusStart(1000L).build();
+        when(recordFileRepository.findLatest()).thenReturn(Optional.of(latest));
+        ContractCallContext.run(context -> {
+            context.setRecordFile(recordFile);
+            runnable.run();
+            storagePrefetcher.complete(context);
+            return null;
+        });
+    }
+
+    private double count(String type) {
+        return meterRegistry
+                .get(StoragePrefetcher.METRIC + ".prefetch")
+                .tag("type", type)
+                .counter()
+                .count();
+    }
+
+    private void enable() {
+        when(evmProperties.isStoragePrefetch()).thenReturn(true);
+        when(evmProperties.getStoragePrefetchMaxSlots()).thenReturn(256);
+    }
+
+    private static ContractSlotValue result(SlotKey slotKey, SlotValue slotValue) {
+        return result(slotKey.key().toByteArray(), slotValue.value());
+    }
+
+    private static ContractSlotValue result(byte[] slot, Bytes value) {
+        return new ContractSlotValue() {
+            @Override
+            public byte[] getSlot() {
+                return slot;
+            }
+
+            @Override
+            public byte[] getValue() {
+                return value.toByteArray();
+            }
+        };
+    }
+
+    private static Bytes slot(int value) {
+        var bytes = new byte[32];
+        Arrays.fill(bytes, 31, 32, (byte) value);
+        return Bytes.wrap(bytes);
+    }
+
+    private static SlotValue unexpected() {
+        return fail("Unexpected storage query");
+    }
+}
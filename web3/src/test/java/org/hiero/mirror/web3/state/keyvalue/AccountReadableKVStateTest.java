@@ -50,11 +50,13 @@ import org.hiero.mirror.web3.repository.AccountBalanceRepository;
 import org.hiero.mirror.web3.repository.CryptoAllowanceRepository;
 import org.hiero.mirror.web3.repository.NftAllowanceRepository;
 import org.hiero.mirror.web3.repository.NftRepository;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
 import org.hiero.mirror.web3.repository.TokenAccountRepository;
 import org.hiero.mirror.web3.repository.TokenAllowanceRepository;
 import org.hiero.mirror.web3.repository.projections.TokenAccountAssociationsCount;
 import org.hiero.mirror.web3.state.AliasedAccountCacheManager;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +67,7 @@ import org.mockito.Mock.Strictness;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class AccountReadableKVStateTest {
@@ -151,6 +154,10 @@ class AccountReadableKVStateTest {
     @Spy
     private ContractCallContext contractCallContext;
 
+    @Spy
+    private HistoricalStateCache historicalStateCache =
+            new HistoricalStateCache(new NoOpCacheManager(), mock(RecordFileRepository.class));
+
     @Mock(strictness = Strictness.LENIENT)
     private SystemEntity systemEntity;
 
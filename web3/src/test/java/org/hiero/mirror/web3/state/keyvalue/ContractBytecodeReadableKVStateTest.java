@@ -4,6 +4,7 @@ package org.hiero.mirror.web3.state.keyvalue;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hiero.mirror.web3.evm.utils.EvmTokenUtils.entityIdNumFromEvmAddress;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
@@ -18,7 +19,9 @@ import org.hiero.mirror.common.domain.entity.Entity;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.ContractRepository;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.hyperledger.besu.datatypes.Address;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -30,6 +33,7 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class ContractBytecodeReadableKVStateTest {
@@ -71,6 +75,10 @@ class ContractBytecodeReadableKVStateTest {
     @Spy
     private ContractCallContext contractCallContext;
 
+    @Spy
+    private HistoricalStateCache historicalStateCache =
+            new HistoricalStateCache(new NoOpCacheManager(), mock(RecordFileRepository.class));
+
     @BeforeAll
     static void initStaticMocks() {
         contextMockedStatic = mockStatic(ContractCallContext.class);
@@ -6,6 +6,7 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.hiero.mirror.common.util.DomainUtils.leftPadBytes;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 
@@ -15,22 +16,28 @@ import com.hedera.hapi.node.state.contract.SlotKey;
 import com.hedera.hapi.node.state.contract.SlotValue;
 import com.hedera.pbj.runtime.OneOf;
 import com.hedera.pbj.runtime.io.buffer.Bytes;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collections;
 import java.util.Optional;
 import org.apache.tuweni.bytes.Bytes32;
 import org.hiero.mirror.common.domain.entity.EntityId;
 import org.hiero.mirror.web3.common.ContractCallContext;
+import org.hiero.mirror.web3.evm.properties.MirrorNodeEvmProperties;
 import org.hiero.mirror.web3.repository.ContractStateRepository;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
+import org.hiero.mirror.web3.repository.properties.CacheProperties;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
+import org.hiero.mirror.web3.state.StoragePrefetcher;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class ContractStorageReadableKVStateTest {
@@ -43,15 +50,21 @@ class ContractStorageReadableKVStateTest {
             EntityId.of(CONTRACT_ID.shardNum(), CONTRACT_ID.realmNum(), CONTRACT_ID.contractNum());
     private static MockedStatic<ContractCallContext> contextMockedStatic;
 
-    @InjectMocks
     private ContractStorageReadableKVState contractStorageReadableKVState;
 
     @Mock
     private ContractStateRepository contractStateRepository;
 
+    @Mock
+    private MirrorNodeEvmProperties evmProperties;
+
     @Spy
     private ContractCallContext contractCallContext;
 
+    @Spy
+    private HistoricalStateCache historicalStateCache =
+            new HistoricalStateCache(new NoOpCacheManager(), mock(RecordFileRepository.class));
+
     @BeforeAll
     static void initStaticMocks() {
         contextMockedStatic = mockStatic(ContractCallContext.class);
@@ -65,6 +78,14 @@ class ContractStorageReadableKVStateTest {
     @BeforeEach
     void setup() {
         contextMockedStatic.when(ContractCallContext::get).thenReturn(contractCallContext);
+        var storagePrefetcher = new StoragePrefetcher(
+                new CacheProperties(),
+                new NoOpCacheManager(),
+                contractStateRepository,
+                evmProperties,
+                historicalStateCache,
+                new SimpleMeterRegistry());
+        contractStorageReadableKVState = new ContractStorageReadableKVState(contractStateRepository, storagePrefetcher);
     }
 
     @Test
@@ -40,8 +40,10 @@ import org.hiero.mirror.web3.common.ContractCallContext;
 import org.hiero.mirror.web3.repository.CustomFeeRepository;
 import org.hiero.mirror.web3.repository.EntityRepository;
 import org.hiero.mirror.web3.repository.NftRepository;
+import org.hiero.mirror.web3.repository.RecordFileRepository;
 import org.hiero.mirror.web3.repository.TokenRepository;
 import org.hiero.mirror.web3.state.CommonEntityAccessor;
+import org.hiero.mirror.web3.state.HistoricalStateCache;
 import org.hiero.mirror.web3.state.Utils;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,6 +55,7 @@ import org.mockito.Mock.Strictness;
 import org.mockito.MockedStatic;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.support.NoOpCacheManager;
 
 @ExtendWith(MockitoExtension.class)
 class TokenReadableKVStateTest {
@@ -111,6 +114,10 @@ class TokenReadableKVStateTest {
     @Spy
     private ContractCallContext contractCallContext;
 
+    @Spy
+    private HistoricalStateCache historicalStateCache =
+            new HistoricalStateCache(new NoOpCacheManager(), mock(RecordFileRepository.class));
+
     @BeforeEach
     void setup() {
         var systemEntity = new SystemEntity(CommonProperties.getInstance());